@@ -18,9 +18,11 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FxViewUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.UndoRedoStack;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Database;
 import seedu.address.model.Model;
@@ -35,7 +37,6 @@ import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
-import seedu.address.storage.XmlAddressBookStorage;
 import seedu.address.storage.XmlDatabaseStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -66,17 +67,22 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(
+                userPrefs.getAddressBookFormat(), userPrefs.getAddressBookFilePath());
         DataBaseStorage dataBaseStorage = new XmlDatabaseStorage(userPrefs.getUserDataBase());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, dataBaseStorage);
+        StorageManager storageManager = new StorageManager(addressBookStorage, userPrefsStorage, dataBaseStorage);
+        storageManager.enableWriteBehind(userPrefs.getSaveDebounceMillis());
+        storage = storageManager;
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, new UndoRedoStack(userPrefs.getUndoMemoryBudget(),
+                userPrefs.getUndoDiskBudget(), StorageManager.createUndoSpillStore(userPrefs.getUndoDiskBudget()),
+                storageManager.openUndoHistoryLog(userPrefs)));
 
-        ui = new UiManager(logic, config, userPrefs, dataBaseStorage);
+        ui = new UiManager(logic, config, userPrefs, storageManager);
 
         initEventsCenter();
     }
@@ -128,7 +134,7 @@ public class MainApp extends Application {
 
 
 
-        return new ModelManager(initialData, initialDatabase, userPrefs);
+        return new ModelManager(initialData, initialDatabase, userPrefs, FxViewUtil::runAndWaitOnFxThread);
     }
 
     private void initLogging(Config config) {
@@ -235,6 +241,7 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        storage.stop();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -244,10 +251,14 @@ public class MainApp extends Application {
         System.exit(0);
     }
 
+    /**
+     * Stops the app on the JavaFX application thread, as the exit command raises the event on the thread that
+     * commands are run on.
+     */
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        this.stop();
+        FxViewUtil.runOnFxThread(this::stop);
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,136 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.util.FxViewUtil;
+
+/**
+ * Tells the reminders shown by the app when the day changes, so that they can count down the days left to them.
+ * A single thread keeps track of the date for the whole app, and all the subscribers are told of a new day
+ * together, in one task given to the dispatcher.
+ *
+ * Subscribers are only held weakly, so a subscriber that is dropped without unsubscribing does not stay in memory.
+ * Whoever subscribes must hold on to the subscriber for as long as it should be told of new days.
+ */
+public class ReminderScheduler {
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+    // the date is checked at least this often, in case the clock is changed or the computer sleeps through midnight
+    private static final Duration MAX_CHECK_INTERVAL = Duration.ofHours(1);
+
+    private static ReminderScheduler instance;
+
+    private final Clock clock;
+    private final Executor dispatcher;
+    private final ScheduledExecutorService ticker;
+    private final Set<Consumer<LocalDate>> subscribers = Collections.newSetFromMap(new WeakHashMap<>());
+    private LocalDate today;
+
+    /**
+     * Creates a scheduler that follows the date of {@code clock}, and tells its subscribers of a new day in a task
+     * run by {@code dispatcher}.
+     */
+    public ReminderScheduler(Clock clock, Executor dispatcher) {
+        this.clock = requireNonNull(clock);
+        this.dispatcher = requireNonNull(dispatcher);
+        this.today = LocalDate.now(clock);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminder-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleNextCheck();
+    }
+
+    /**
+     * Returns the scheduler of the app, which tells its subscribers of a new day on the JavaFX application thread.
+     */
+    public static synchronized ReminderScheduler getInstance() {
+        if (instance == null) {
+            instance = new ReminderScheduler(Clock.systemDefaultZone(), FxViewUtil::runOnFxThread);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the current date.
+     */
+    public synchronized LocalDate today() {
+        return today;
+    }
+
+    /**
+     * Has {@code subscriber} told of the date each time the day changes, until it is unsubscribed.
+     *
+     * @return the current date.
+     */
+    public synchronized LocalDate subscribe(Consumer<LocalDate> subscriber) {
+        subscribers.add(requireNonNull(subscriber));
+        return today;
+    }
+
+    /**
+     * Stops telling {@code subscriber} of new days.
+     */
+    public synchronized void unsubscribe(Consumer<LocalDate> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Returns the number of subscribers that are still being told of new days.
+     */
+    public synchronized int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Checks whether the day has changed since the last check, and if so, tells all the subscribers of the new date.
+     */
+    public void checkForNewDay() {
+        final LocalDate newDay;
+        final List<Consumer<LocalDate>> toTell;
+        synchronized (this) {
+            LocalDate now = LocalDate.now(clock);
+            if (now.equals(today)) {
+                return;
+            }
+            today = now;
+            newDay = now;
+            toTell = new ArrayList<>(subscribers);
+        }
+        logger.info("The day has changed to " + newDay + ", updating " + toTell.size() + " reminders");
+        dispatcher.execute(() -> toTell.forEach(subscriber -> subscriber.accept(newDay)));
+    }
+
+    /**
+     * Schedules the next check of the date for just after the next midnight, or within {@code MAX_CHECK_INTERVAL}.
+     */
+    private void scheduleNextCheck() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Duration untilMidnight = Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay());
+        long delayMillis = Math.min(untilMidnight.toMillis(), MAX_CHECK_INTERVAL.toMillis()) + 1;
+        ticker.schedule(() -> {
+            try {
+                checkForNewDay();
+            } finally {
+                scheduleNextCheck();
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+}
@@ -0,0 +1,29 @@
+package seedu.address.commons.events.ui;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates how far a long-running command has got.
+ */
+public class CommandProgressEvent extends BaseEvent {
+
+    public static final String MESSAGE_PROGRESS = "Working... %1$d of %2$d done";
+
+    public final int done;
+    public final int total;
+
+    public CommandProgressEvent(int done, int total) {
+        this.done = done;
+        this.total = total;
+    }
+
+    public String getMessage() {
+        return String.format(MESSAGE_PROGRESS, done, total);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + ": " + done + "/" + total;
+    }
+
+}
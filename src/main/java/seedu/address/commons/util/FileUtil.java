@@ -4,7 +4,14 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 
 /**
  * Writes and reads files
@@ -12,6 +19,7 @@ import java.nio.file.Files;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(File file) {
         return file.exists() && file.isFile();
@@ -80,6 +88,107 @@ public class FileUtil {
         Files.write(file.toPath(), content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the contents of {@code file} with {@code content} such that, even if writing is interrupted,
+     * {@code file} holds either all of its old contents or all of {@code content}.
+     * The content is written to a temporary file next to {@code file}, which is given the permissions of
+     * {@code file}, and forced to the disk before the temporary file is moved over {@code file} in a single move.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param previousGeneration if not null, is where the replaced contents of {@code file} are kept, as a link to
+     *                           them, or a copy where links are not supported.
+     */
+    public static void writeToFileAtomically(File file, byte[] content, File previousGeneration) throws IOException {
+        writeToFileAtomically(file, ByteBuffer.wrap(content), previousGeneration);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(File, byte[], File)}, writing the remaining bytes of {@code content},
+     * which may be a direct buffer.
+     */
+    public static void writeToFileAtomically(File file, ByteBuffer content, File previousGeneration)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path target = file.getAbsoluteFile().toPath();
+        Path temp = target.resolveSibling(file.getName() + TEMP_FILE_SUFFIX);
+        try {
+            // left over from an interrupted write, if it exists
+            Files.deleteIfExists(temp);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE_NEW)) {
+                copyPermissions(target, temp);
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+                channel.force(true);
+            }
+            if (previousGeneration != null && isFileExists(file)) {
+                keepPreviousGeneration(target, previousGeneration.getAbsoluteFile().toPath());
+            }
+            // the file is replaced in one step, so there is no moment at which it is missing
+            moveAtomically(temp, target);
+            forceDirectory(target.getParent());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Gives {@code copy} the permissions of {@code original}, if it exists and the file system has POSIX permissions.
+     */
+    private static void copyPermissions(Path original, Path copy) throws IOException {
+        if (Files.exists(original) && Files.getFileStore(original).supportsFileAttributeView(
+                PosixFileAttributeView.class)) {
+            Files.setPosixFilePermissions(copy, Files.getPosixFilePermissions(original));
+        }
+    }
+
+    /**
+     * Makes {@code previousGeneration} hold the current contents of {@code file}, which stays in place.
+     * A hard link is made where the file system supports it, and a copy otherwise.
+     */
+    private static void keepPreviousGeneration(Path file, Path previousGeneration) throws IOException {
+        Path temp = previousGeneration.resolveSibling(previousGeneration.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            Files.deleteIfExists(temp);
+            try {
+                Files.createLink(temp, file);
+            } catch (UnsupportedOperationException | IOException e) {
+                Files.copy(file, temp, StandardCopyOption.COPY_ATTRIBUTES);
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+            }
+            moveAtomically(temp, previousGeneration);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just moved into it, to the disk, where the platform
+     * allows directories to be opened for that.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // directories cannot be opened on some platforms, such as Windows, which persist moves on their own
+        }
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} if it exists,
+     * atomically if the file system supports it.
+     */
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     /**
      * Converts a string to a platform-specific file path
      * @param pathWithForwardSlash A String representing a file path but using '/' as the separator
@@ -1,5 +1,8 @@
 package seedu.address.commons.util;
 
+import java.util.concurrent.CountDownLatch;
+
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 /**
@@ -15,4 +18,40 @@ public class FxViewUtil {
         stage.getIcons().setAll(AppUtil.getImage(iconSource));
     }
 
+    /**
+     * Runs {@code task} on the JavaFX application thread: straight away if called on it,
+     * or else once the tasks already queued on it have run.
+     */
+    public static void runOnFxThread(Runnable task) {
+        if (Platform.isFxApplicationThread()) {
+            task.run();
+        } else {
+            Platform.runLater(task);
+        }
+    }
+
+    /**
+     * Runs {@code task} on the JavaFX application thread, and waits for it to finish if called from another thread,
+     * so that the caller goes on to see whatever the task changed.
+     */
+    public static void runAndWaitOnFxThread(Runnable task) {
+        if (Platform.isFxApplicationThread()) {
+            task.run();
+            return;
+        }
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                task.run();
+            } finally {
+                done.countDown();
+            }
+        });
+        try {
+            done.await();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
 }
@@ -0,0 +1,269 @@
+package seedu.address.commons.util;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list whose modified versions share almost all of their memory with the list they were made from.
+ * The elements are held in a balanced tree ordered by position, so {@link #get(int)}, {@link #with(int, Object)},
+ * {@link #plus(int, Object)} and {@link #minus(int)} take logarithmic time, and each modification copies only the
+ * path from the root to the position it changes. Keeping a reference to a version of the list is therefore enough to
+ * keep a snapshot of it, no matter how it is modified afterwards.
+ * Does not allow nulls.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in the order they are returned by its iterator.
+     * Takes linear time.
+     */
+    public static <E> PersistentList<E> of(Collection<? extends E> elements) {
+        CollectionUtil.requireAllNonNull(elements);
+        if (elements instanceof PersistentList) {
+            @SuppressWarnings("unchecked")
+            PersistentList<E> list = (PersistentList<E>) elements;
+            return list;
+        }
+        List<E> copy = new ArrayList<>(elements);
+        return copy.isEmpty() ? empty() : new PersistentList<>(build(copy, 0, copy.size()));
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, requireNonNullElement(element)));
+    }
+
+    /**
+     * Returns this list with {@code element} appended to it.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns this list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, requireNonNullElement(element)));
+    }
+
+    /**
+     * Returns this list without the element at {@code index}.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size());
+        Node<E> newRoot = remove(root, index);
+        return (newRoot == null) ? empty() : new PersistentList<>(newRoot);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    /**
+     * Returns {@code element}, throwing a {@code NullPointerException} if it is null.
+     */
+    private static <E> E requireNonNullElement(E element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+        return element;
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return (node == null) ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return (node == null) ? 0 : node.height;
+    }
+
+    /**
+     * Returns a perfectly balanced tree of the elements of {@code elements} from {@code from} to {@code to}.
+     */
+    private static <E> Node<E> build(List<E> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), elements.get(middle), build(elements, middle + 1, to));
+    }
+
+    /**
+     * Returns the tree rooted at {@code node} with the element at {@code index} replaced by {@code element}.
+     */
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), node.value, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.value, set(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(node.left, element, node.right);
+    }
+
+    /**
+     * Returns the tree rooted at {@code node} with {@code element} inserted at {@code index}.
+     */
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.value, node.right);
+        }
+        return balance(node.left, node.value, insert(node.right, index - leftSize - 1, element));
+    }
+
+    /**
+     * Returns the tree rooted at {@code node} without the element at {@code index}, or null if it becomes empty.
+     */
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor.value, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a tree of {@code left}, {@code value} and {@code right}, rotated if the heights of {@code left} and
+     * {@code right} differ by two, as they may after one insertion or removal.
+     */
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            Node<E> middle = left.right;
+            return new Node<>(new Node<>(left.left, left.value, middle.left), middle.value,
+                    new Node<>(middle.right, value, right));
+        } else if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            Node<E> middle = right.left;
+            return new Node<>(new Node<>(left, value, middle.left), middle.value,
+                    new Node<>(middle.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    /**
+     * An immutable node of the tree, holding the number of elements and the height of the subtree rooted at it.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, in linear time overall.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftmostPath(root);
+        }
+
+        private void pushLeftmostPath(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftmostPath(node.right);
+            return node.value;
+        }
+    }
+
+}
@@ -2,8 +2,22 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -15,6 +29,30 @@ import javax.xml.bind.Unmarshaller;
  */
 public class XmlUtil {
 
+    // atomically saved files end with a comment holding the CRC-32 of the bytes before it: <!-- crc32:1a2b3c4d -->
+    private static final String CHECKSUM_TRAILER_START = "<!-- crc32:";
+    private static final String CHECKSUM_TRAILER_END = " -->\n";
+    private static final int CHECKSUM_TRAILER_LENGTH = CHECKSUM_TRAILER_START.length() + 8
+            + CHECKSUM_TRAILER_END.length();
+    private static final String MESSAGE_CHECKSUM_MISMATCH =
+            "Checksum does not match, the file may be truncated or corrupted";
+    private static final int BUFFER_SIZE = 8192;
+
+    // creating a context inspects the whole class graph, so each one is created once and shared (they are thread-safe)
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared {@code JAXBContext} for {@code type}.
+     */
+    public static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            contexts.putIfAbsent(type, context);
+        }
+        return context;
+    }
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -32,14 +70,81 @@ public class XmlUtil {
         requireNonNull(file);
         requireNonNull(classToConvert);
 
+        try (VerifiedInputStream content = openVerifiedFile(file)) {
+            Unmarshaller um = getContext(classToConvert).createUnmarshaller();
+            T data = (T) um.unmarshal(content);
+            content.verify();
+            return data;
+        } catch (FileNotFoundException fnfe) {
+            throw fnfe;
+        } catch (IOException ioe) {
+            throw new JAXBException("Could not read " + file.getAbsolutePath(), ioe);
+        }
+    }
+
+    /**
+     * Opens a stream of the xml content of the file, which checks the content against the checksum trailer of the
+     * file, if it has one, as the content is read. The trailer itself is not part of the stream.
+     * Only the end of the file is read up front, to find the trailer, so the file is never held in memory.
+     * The stream must be closed by the caller.
+     *
+     * @param file Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if the file cannot be read or its checksum trailer is malformed.
+     */
+    public static VerifiedInputStream openVerifiedFile(File file) throws FileNotFoundException, JAXBException {
+        requireNonNull(file);
+
         if (!FileUtil.isFileExists(file)) {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        long fileLength = file.length();
+        String tail;
+        try {
+            tail = readTail(file, (int) Math.min(fileLength, 2 * CHECKSUM_TRAILER_LENGTH));
+        } catch (IOException ioe) {
+            throw new JAXBException("Could not read " + file.getAbsolutePath(), ioe);
+        }
+        int trailerIndex = tail.lastIndexOf(CHECKSUM_TRAILER_START);
+        if (trailerIndex < 0) {
+            // files written before checksums were added, or by hand
+            return new VerifiedInputStream(new FileInputStream(file), fileLength, null);
+        }
+        String trailer = tail.substring(trailerIndex);
+        if (trailer.length() != CHECKSUM_TRAILER_LENGTH || !trailer.endsWith(CHECKSUM_TRAILER_END)) {
+            throw new JAXBException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        String expectedChecksum = trailer.substring(CHECKSUM_TRAILER_START.length(),
+                CHECKSUM_TRAILER_LENGTH - CHECKSUM_TRAILER_END.length());
+        long contentLength = fileLength - tail.length() + trailerIndex;
+        return new VerifiedInputStream(new FileInputStream(file), contentLength, expectedChecksum);
+    }
+
+    /**
+     * Returns the last {@code length} bytes of {@code file}, one char per byte.
+     */
+    private static String readTail(File file, int length) throws IOException {
+        byte[] tail = new byte[length];
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            in.seek(in.length() - length);
+            in.readFully(tail);
+        }
+        // ISO-8859-1 maps every byte to one char, so indices in the string are offsets in the tail
+        return new String(tail, StandardCharsets.ISO_8859_1);
+    }
 
-        return ((T) um.unmarshal(file));
+    /**
+     * Returns the CRC-32 of the first {@code length} bytes of {@code content}, in hexadecimal.
+     */
+    private static String checksumOf(byte[] content, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(content, 0, length);
+        return toHex(crc);
+    }
+
+    private static String toHex(Checksum checksum) {
+        return String.format("%08x", checksum.getValue());
     }
 
     /**
@@ -60,11 +165,154 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file);
     }
 
+    /**
+     * Saves the data in {@code file} in xml format, followed by a checksum that is verified when the file is read
+     * with {@link #getDataFromFile(File, Class)}.
+     * The file is replaced atomically, so it is never left partially written.
+     *
+     * @param previousGeneration if not null, is where the replaced version of {@code file} is kept.
+     * @throws IOException   Thrown if there is an error writing to the file.
+     * @throws JAXBException Thrown if there is an error during converting the data into xml.
+     * @see FileUtil#writeToFileAtomically(File, byte[], File)
+     */
+    public static <T> void saveDataToFileAtomically(File file, T data, File previousGeneration)
+            throws IOException, JAXBException {
+
+        requireNonNull(file);
+        requireNonNull(data);
+
+        Marshaller m = getContext(data.getClass()).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        m.marshal(data, out);
+        out.write('\n');
+        byte[] content = out.toByteArray();
+        String trailer = CHECKSUM_TRAILER_START + checksumOf(content, content.length) + CHECKSUM_TRAILER_END;
+        out.write(trailer.getBytes(StandardCharsets.ISO_8859_1));
+
+        FileUtil.writeToFileAtomically(file, out.toByteArray(), previousGeneration);
+    }
+
+    /**
+     * The xml content of a file, up to its checksum trailer. The CRC-32 of the content is computed as it is read,
+     * and checked against the checksum in the trailer once the content has been read to its end, failing the read
+     * if they differ.
+     */
+    public static class VerifiedInputStream extends FilterInputStream {
+        private final CheckedInputStream checkedIn;
+        private final String expectedChecksum;
+        private long remaining;
+        private boolean checked;
+
+        /**
+         * @param expectedChecksum the checksum in the trailer of the file, or null if it has none.
+         */
+        private VerifiedInputStream(InputStream fileIn, long contentLength, String expectedChecksum) {
+            this(new CheckedInputStream(new BufferedInputStream(fileIn), new CRC32()), contentLength,
+                    expectedChecksum);
+        }
+
+        private VerifiedInputStream(CheckedInputStream checkedIn, long contentLength, String expectedChecksum) {
+            super(checkedIn);
+            this.checkedIn = checkedIn;
+            this.expectedChecksum = expectedChecksum;
+            this.remaining = contentLength;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                checkAtEnd();
+                return -1;
+            }
+            int b = super.read();
+            if (b < 0) {
+                throw new EOFException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (remaining <= 0) {
+                checkAtEnd();
+                return -1;
+            }
+            int read = super.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read < 0) {
+                throw new EOFException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            remaining -= read;
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // the checked stream reads the skipped bytes into the checksum
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            // marks are not supported, as the bytes read again would be counted in the checksum twice
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            throw new IOException("mark/reset not supported");
+        }
+
+        /**
+         * Reads whatever is left of the content, which parsers may stop short of, and checks its checksum.
+         *
+         * @throws JAXBException if the content could not be read or its checksum does not match.
+         */
+        public void verify() throws JAXBException {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try {
+                while (read(buffer, 0, buffer.length) >= 0) {
+                    // only read for the checksum
+                }
+            } catch (IOException ioe) {
+                throw new JAXBException(ioe.getMessage(), ioe);
+            }
+        }
+
+        /**
+         * Checks the checksum of the content, which has been read to its end.
+         */
+        private void checkAtEnd() throws IOException {
+            if (checked || expectedChecksum == null) {
+                return;
+            }
+            if (!expectedChecksum.equals(toHex(checkedIn.getChecksum()))) {
+                throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            checked = true;
+        }
+    }
+
 }
@@ -7,6 +7,7 @@ import java.util.List;
 
 /**
  * Stores the history of commands executed.
+ * Commands are added on the thread that runs them while the UI reads the history, so access is synchronized.
  */
 public class CommandHistory {
     private LinkedList<String> userInputHistory;
@@ -18,7 +19,7 @@ public class CommandHistory {
     /**
      * Appends {@code userInput} to the list of user input entered.
      */
-    public void add(String userInput) {
+    public synchronized void add(String userInput) {
         requireNonNull(userInput);
         userInputHistory.add(userInput);
     }
@@ -26,7 +27,7 @@ public class CommandHistory {
     /**
      * Returns a defensive copy of {@code userInputHistory}.
      */
-    public List<String> getHistory() {
+    public synchronized List<String> getHistory() {
         return new LinkedList<>(userInputHistory);
     }
 }
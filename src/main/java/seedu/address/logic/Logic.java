@@ -1,5 +1,9 @@
 package seedu.address.logic;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -20,12 +24,35 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on a background thread, once the commands given before it have finished.
+     * Cancelling the returned future stops the command from running if it has not started. Once it has started, only
+     * an undoable command can be stopped, which rolls back the changes it has made and completes the future with a
+     * {@code CommandCancelledException}; other commands run to the end and complete it with their result.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, completed exceptionally with a {@code CommandException} or
+     *     {@code ParseException} if the command fails.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Stops taking commands. The command that is running is left to finish, and the commands queued after it are
+     * cancelled.
+     */
+    void stop();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<ReadOnlyPerson> getFilteredPersonList();
 
     /** Returns an unmodifiable view of the filtered list of reminders */
     ObservableList<ReadOnlyReminder> getFilteredReminderList();
 
+    /**
+     * Returns the persons whose birthdays fall from {@code from} to {@code daysAhead} days after it, inclusive,
+     * in the order their birthdays come.
+     */
+    List<ReadOnlyPerson> getUpcomingBirthdays(LocalDate from, int daysAhead);
+
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
 }
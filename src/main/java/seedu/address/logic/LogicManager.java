@@ -1,5 +1,11 @@
 package seedu.address.logic;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -7,6 +13,7 @@ import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.UndoableCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -24,28 +31,85 @@ public class LogicManager extends ComponentManager implements Logic {
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
     private final UndoRedoStack undoRedoStack;
+    private final ExecutorService commandExecutor;
+    private volatile boolean stopped = false;
 
     public LogicManager(Model model) {
+        this(model, new UndoRedoStack());
+    }
+
+    public LogicManager(Model model, UndoRedoStack undoRedoStack) {
         this.model = model;
         this.history = new CommandHistory();
         this.addressBookParser = new AddressBookParser();
-        this.undoRedoStack = new UndoRedoStack();
+        this.undoRedoStack = undoRedoStack;
+        this.commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, () -> false);
+    }
+
+    /**
+     * Executes the command entered as {@code commandText}, which stops if {@code cancellationCheck} is true.
+     */
+    private CommandResult execute(String commandText, BooleanSupplier cancellationCheck)
+            throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         try {
             Command command = addressBookParser.parseCommand(commandText);
             command.setData(model, history, undoRedoStack);
+            if (command instanceof UndoableCommand) {
+                // only undoable commands can roll back what they have done, so the others run to the end once started
+                command.setCancellationCheck(cancellationCheck);
+            }
             CommandResult result = command.execute();
-            undoRedoStack.push(command);
+            undoRedoStack.push(command, commandText);
             return result;
         } finally {
             history.add(commandText);
         }
     }
 
+    /**
+     * Commands are run one at a time on a single thread, so commands entered while another is running are queued
+     * in the order they were entered.
+     */
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        PendingCommand result = new PendingCommand();
+        if (stopped) {
+            result.cancel(false);
+            return result;
+        }
+        commandExecutor.execute(() -> {
+            if (stopped) {
+                result.cancel(false);
+            }
+            if (!result.start()) {
+                logger.info("----------------[CANCELLED COMMAND][" + commandText + "]");
+                return;
+            }
+            try {
+                result.complete(execute(commandText, result::isCancelRequested));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        commandExecutor.shutdown();
+    }
+
     @Override
     public ObservableList<ReadOnlyPerson> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -58,8 +122,48 @@ public class LogicManager extends ComponentManager implements Logic {
         return model.getFilteredReminderList();
     }
 
+    @Override
+    public List<ReadOnlyPerson> getUpcomingBirthdays(LocalDate from, int daysAhead) {
+        return model.getUpcomingBirthdays(from, daysAhead);
+    }
+
     @Override
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
     }
+
+    /**
+     * The result of a command given to {@link #executeAsync(String)}.
+     * Cancelling it before the command starts stops the command from running. Once the command has started, it is
+     * only asked to stop, and the result is completed with whatever the command does: a
+     * {@code CommandCancelledException} if it stopped and rolled back its changes, or its result if it ran to the end.
+     */
+    private static class PendingCommand extends CompletableFuture<CommandResult> {
+        private boolean started = false;
+        private volatile boolean cancelRequested = false;
+
+        /**
+         * Marks the command as started, or returns false if it was cancelled before it could start.
+         */
+        synchronized boolean start() {
+            if (isCancelled()) {
+                return false;
+            }
+            started = true;
+            return true;
+        }
+
+        boolean isCancelRequested() {
+            return cancelRequested;
+        }
+
+        @Override
+        public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+            if (!started) {
+                return super.cancel(mayInterruptIfRunning);
+            }
+            cancelRequested = true;
+            return false;
+        }
+    }
 }
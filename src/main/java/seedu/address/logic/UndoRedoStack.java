@@ -1,21 +1,83 @@
 package seedu.address.logic;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EmptyStackException;
 import java.util.Stack;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.LoggedCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UndoableCommand;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.AddressBookDeltaStore;
+import seedu.address.model.UndoHistoryLog;
 
 /**
  * Maintains the undo-stack (the stack of commands that can be undone) and the redo-stack (the stack of
  * commands that can be undone).
+ *
+ * The undo history can be bounded by a memory budget: once the records of how to undo the commands take more than
+ * the budget, the records of the oldest commands in the undo-stack are moved to a spill store, from which they are
+ * read back when those commands are undone. Once the spill store takes more than the disk budget, the oldest
+ * commands are dropped from the undo-stack.
+ *
+ * Every command can also be appended to an undo history log. Once the undo-stack runs out, the commands left
+ * undoable by earlier sessions are undone from the log, which is only read from when they are first needed.
  */
 public class UndoRedoStack {
+    private static final Logger logger = LogsCenter.getLogger(UndoRedoStack.class);
+
+    // the spill position of a command that had no record of how to undo it
+    private static final long NOTHING_SPILLED = -1;
+    // the record of how to undo a command that did not change the address book
+    private static final AddressBookDelta NO_CHANGES = AddressBookDelta.of(Collections.emptyList(),
+            Collections.emptyList(), Collections.emptyList());
+
+    private final long memoryBudget;
+    private final long diskBudget;
+    private final AddressBookDeltaStore spillStore;
+    private final UndoHistoryLog historyLog;
     private Stack<UndoableCommand> undoStack;
     private Stack<UndoableCommand> redoStack;
+    // the spill positions of the records of the oldest commands in undoStack, oldest first
+    private final Deque<Long> spillPositions = new ArrayDeque<>();
+    // the log positions of the commands from earlier sessions below undoStack, oldest first, or null until read
+    private Deque<Long> loggedHistory;
+    // the estimated size of the records of the commands in both stacks that are held in memory
+    private long retainedSize;
 
+    /**
+     * Creates an undo history that is not bounded.
+     */
     public UndoRedoStack() {
+        this(Long.MAX_VALUE, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * Creates an undo history that keeps at most an estimated {@code memoryBudget} bytes in memory, and at most
+     * {@code diskBudget} bytes in {@code spillStore}.
+     */
+    public UndoRedoStack(long memoryBudget, long diskBudget, AddressBookDeltaStore spillStore) {
+        this(memoryBudget, diskBudget, spillStore, null);
+    }
+
+    /**
+     * Creates an undo history bounded as in {@link #UndoRedoStack(long, long, AddressBookDeltaStore)}, that appends
+     * every command to {@code historyLog} and can undo the commands left undoable in it by earlier sessions.
+     */
+    public UndoRedoStack(long memoryBudget, long diskBudget, AddressBookDeltaStore spillStore,
+                         UndoHistoryLog historyLog) {
+        this.memoryBudget = memoryBudget;
+        this.diskBudget = diskBudget;
+        this.spillStore = spillStore;
+        this.historyLog = historyLog;
         undoStack = new Stack<>();
         redoStack = new Stack<>();
     }
@@ -25,7 +87,17 @@ public class UndoRedoStack {
      * if {@code command} is not of type {@code UndoCommand} or {@code RedoCommand}.
      */
     public void push(Command command) {
+        push(command, "");
+    }
+
+    /**
+     * Pushes {@code command} as in {@link #push(Command)}, and appends it to the undo history log, if any,
+     * as entered in {@code commandText}.
+     */
+    public void push(Command command, String commandText) {
+        log(command, commandText);
         if (!(command instanceof UndoCommand) && !(command instanceof RedoCommand)) {
+            redoStack.forEach(toForget -> retainedSize -= toForget.getUndoSize());
             redoStack.clear();
         }
 
@@ -34,13 +106,26 @@ public class UndoRedoStack {
         }
 
         undoStack.add((UndoableCommand) command);
+        retainedSize += ((UndoableCommand) command).getUndoSize();
+        enforceBudgets();
     }
 
     /**
-     * Pops and returns the next {@code UndoableCommand} to be undone in the stack.
+     * Pops and returns the next {@code UndoableCommand} to be undone in the stack,
+     * reading its record of how to undo it back from the spill store if it was moved there.
+     *
+     * @throws EmptyStackException if there is no command to be undone, including when the record of the next
+     *      command could not be read back, in which case the rest of the undo history is forgotten.
      */
     public UndoableCommand popUndo() {
-        UndoableCommand toUndo = undoStack.pop();
+        if (undoStack.empty()) {
+            return popLogged();
+        }
+        UndoableCommand toUndo = undoStack.peek();
+        if (spillPositions.size() == undoStack.size()) {
+            unspill(toUndo, spillPositions.removeLast());
+        }
+        undoStack.pop();
         redoStack.push(toUndo);
         return toUndo;
     }
@@ -58,7 +143,7 @@ public class UndoRedoStack {
      * Returns true if there are more commands that can be undone.
      */
     public boolean canUndo() {
-        return !undoStack.empty();
+        return !undoStack.empty() || hasLoggedHistory();
     }
 
     /**
@@ -68,6 +153,145 @@ public class UndoRedoStack {
         return !redoStack.empty();
     }
 
+    /**
+     * Forgets all the commands that can be undone or redone, including those from earlier sessions.
+     */
+    public void clear() {
+        undoStack.clear();
+        redoStack.clear();
+        spillPositions.clear();
+        loggedHistory = new ArrayDeque<>();
+        retainedSize = 0;
+        if (spillStore != null) {
+            discardSpilledRecordsBeforeOldest();
+        }
+    }
+
+    /**
+     * Appends {@code command}, entered as {@code commandText}, to the undo history log if it changes what can be
+     * undone.
+     */
+    private void log(Command command, String commandText) {
+        if (historyLog == null) {
+            return;
+        }
+        if (command instanceof UndoCommand) {
+            historyLog.logUndone();
+        } else if (command instanceof RedoCommand) {
+            historyLog.logRedone();
+        } else if (command instanceof UndoableCommand) {
+            AddressBookDelta undoDelta = ((UndoableCommand) command).getUndoDelta();
+            historyLog.logExecuted(commandText, (undoDelta == null) ? NO_CHANGES : undoDelta);
+        }
+    }
+
+    /**
+     * Returns true if there are commands from earlier sessions in the undo history log that can be undone,
+     * reading their positions from the log the first time it is asked.
+     */
+    private boolean hasLoggedHistory() {
+        if (historyLog == null) {
+            return false;
+        }
+        if (loggedHistory == null) {
+            try {
+                loggedHistory = new ArrayDeque<>(historyLog.readHistory());
+            } catch (IOException ioe) {
+                logger.warning("Could not read the undo history of earlier sessions: " + ioe);
+                loggedHistory = new ArrayDeque<>();
+            }
+        }
+        return !loggedHistory.isEmpty();
+    }
+
+    /**
+     * Pops and returns the newest command from earlier sessions that can be undone, read from the undo history log.
+     *
+     * @throws EmptyStackException if there is no such command, or if it could not be read, in which case the rest of
+     *      the undo history of earlier sessions is forgotten.
+     */
+    private UndoableCommand popLogged() {
+        if (!hasLoggedHistory()) {
+            throw new EmptyStackException();
+        }
+        UndoHistoryLog.Entry entry;
+        try {
+            entry = historyLog.read(loggedHistory.removeLast());
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not read the undo history of earlier sessions back, forgetting it: " + e);
+            loggedHistory.clear();
+            throw new EmptyStackException();
+        }
+        LoggedCommand toUndo = new LoggedCommand(entry.getCommandText(), entry.getUndoDelta());
+        retainedSize += toUndo.getUndoSize();
+        redoStack.push(toUndo);
+        return toUndo;
+    }
+
+    /**
+     * Moves the records of the oldest commands to the spill store while the records in memory take more than the
+     * memory budget, then drops the oldest commands while the spill store takes more than the disk budget.
+     */
+    private void enforceBudgets() {
+        while (retainedSize > memoryBudget && spillPositions.size() < undoStack.size()) {
+            UndoableCommand oldest = undoStack.get(spillPositions.size());
+            long size = oldest.getUndoSize();
+            AddressBookDelta record = oldest.takeUndoDelta();
+            try {
+                spillPositions.addLast((record == null) ? NOTHING_SPILLED : spillStore.write(record));
+                retainedSize -= size;
+            } catch (IOException ioe) {
+                logger.warning("Could not move undo history out of memory: " + ioe);
+                oldest.restoreUndoDelta(record);
+                break;
+            }
+        }
+
+        while (spillStore != null && spillStore.getSize() > diskBudget && !spillPositions.isEmpty()) {
+            undoStack.remove(0);
+            spillPositions.removeFirst();
+            discardSpilledRecordsBeforeOldest();
+            // the commands of earlier sessions cannot be undone without undoing the dropped command first
+            loggedHistory = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Gives {@code command} back its record of how to undo it, read from {@code position} of the spill store.
+     *
+     * @throws EmptyStackException if the record could not be read, after forgetting the rest of the undo history,
+     *      as the commands before {@code command} cannot be undone without undoing {@code command} first.
+     */
+    private void unspill(UndoableCommand command, long position) {
+        if (position == NOTHING_SPILLED) {
+            return;
+        }
+        try {
+            command.restoreUndoDelta(spillStore.read(position));
+            retainedSize += command.getUndoSize();
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not read undo history back, forgetting it: " + e);
+            undoStack.clear();
+            spillPositions.clear();
+            loggedHistory = new ArrayDeque<>();
+            discardSpilledRecordsBeforeOldest();
+            throw new EmptyStackException();
+        }
+    }
+
+    /**
+     * Frees the space taken in the spill store by the records of commands that are no longer in the undo-stack.
+     */
+    private void discardSpilledRecordsBeforeOldest() {
+        long oldest = spillPositions.stream().filter(position -> position != NOTHING_SPILLED)
+                .findFirst().orElse(Long.MAX_VALUE);
+        try {
+            spillStore.discardBefore(oldest);
+        } catch (IOException ioe) {
+            logger.warning("Could not free the space taken by forgotten undo history: " + ioe);
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -1,8 +1,15 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.BooleanSupplier;
+
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.events.ui.CommandProgressEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
@@ -10,10 +17,15 @@ import seedu.address.model.Model;
  * Represents a command with hidden internal logic and the ability to be executed.
  */
 public abstract class Command {
+    public static final String MESSAGE_CANCELLED = "The command was cancelled.";
+
     protected Model model;
     protected CommandHistory history;
     protected UndoRedoStack undoRedoStack;
 
+    private BooleanSupplier cancellationCheck = () -> false;
+    private int lastReportedPercent = -1;
+
     /**
      * Constructs a feedback message to summarise an operation that displayed a listing of persons.
      *
@@ -80,4 +92,37 @@ public abstract class Command {
     public void setData(Model model, CommandHistory history, UndoRedoStack undoRedoStack) {
         this.model = model;
     }
+
+    /**
+     * Sets {@code cancellationCheck} as the check of whether the user has asked for this command to be stopped.
+     */
+    public void setCancellationCheck(BooleanSupplier cancellationCheck) {
+        this.cancellationCheck = requireNonNull(cancellationCheck);
+    }
+
+    /**
+     * Returns true if the user has asked for this command to be stopped.
+     */
+    protected boolean isCancelled() {
+        return cancellationCheck.getAsBoolean();
+    }
+
+    /**
+     * Reports that {@code done} of the {@code total} steps of this command have been done, and stops the command
+     * if it has been cancelled. Long-running commands should call this between their steps.
+     * A progress event is only raised each time another percent of the steps is done, so that the UI is not
+     * flooded by commands with many small steps.
+     *
+     * @throws CommandCancelledException if the command has been cancelled.
+     */
+    protected void reportProgress(int done, int total) throws CommandCancelledException {
+        if (isCancelled()) {
+            throw new CommandCancelledException(MESSAGE_CANCELLED);
+        }
+        int percent = (total == 0) ? 100 : (int) (100L * done / total);
+        if (percent != lastReportedPercent) {
+            lastReportedPercent = percent;
+            EventsCenter.getInstance().post(new CommandProgressEvent(done, total));
+        }
+    }
 }
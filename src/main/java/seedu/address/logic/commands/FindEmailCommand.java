@@ -4,8 +4,9 @@ package seedu.address.logic.commands;
 import seedu.address.model.person.EmailContainsKeywordsPredicate;
 
 /**
- * Finds and lists all persons in address book whose email contains any of the argument keywords.
- * Keyword matching is case sensitive.
+ * Finds and lists all persons in address book whose email matches any of the argument keywords.
+ * Keywords starting with {@code @} match every email at that domain or its subdomains.
+ * Keyword matching is case insensitive.
  */
 public class FindEmailCommand extends Command {
 
@@ -14,8 +15,10 @@ public class FindEmailCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose emails contain any of "
             + "the specified keywords (case-sensitive) and displays them as a list with index numbers.\n"
+            + "A keyword of the form @DOMAIN finds everyone at that domain or its subdomains.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " test@example.com";
+            + "Example: " + COMMAND_WORD + " test@example.com\n"
+            + "Example: " + COMMAND_WORD + " @example.com";
 
     private final EmailContainsKeywordsPredicate predicate;
 
@@ -25,7 +28,7 @@ public class FindEmailCommand extends Command {
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByEmail(predicate.getKeywords());
         return new CommandResult(getMessageForEmailListShownSummary(model.getFilteredPersonList().size()));
     }
 
@@ -4,18 +4,24 @@ package seedu.address.logic.commands;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case sensitive.
+ * Finds and lists all persons in address book whose phone number matches any of the argument keywords.
+ * Keywords match whole phone numbers, or the start or any part of a phone number in prefix or substring mode.
  */
 public class FindPhoneCommand extends Command {
 
     public static final String COMMAND_WORD = "findPhone";
     public static final String COMMAND_ALIAS = "fp";
 
+    public static final String PREFIX_MODE_FLAG = "-prefix";
+    public static final String SUBSTRING_MODE_FLAG = "-substring";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose phone numbers contain any of "
             + "the specified keywords (case-sensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " 84281299";
+            + "Use " + PREFIX_MODE_FLAG + " to match the start of phone numbers, or " + SUBSTRING_MODE_FLAG
+            + " to match any part of them.\n"
+            + "Parameters: [" + PREFIX_MODE_FLAG + "|" + SUBSTRING_MODE_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " 84281299\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_MODE_FLAG + " 8428";
 
     private final PhoneContainsKeywordsPredicate predicate;
 
@@ -25,7 +31,7 @@ public class FindPhoneCommand extends Command {
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByPhone(predicate.getKeywords(), predicate.getMatchMode());
         return new CommandResult(getMessageForPhoneListShownSummary(model.getFilteredPersonList().size()));
     }
 
@@ -25,7 +25,7 @@ public class FindPriorityCommand extends Command {
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredReminderList(predicate);
+        model.updateFilteredReminderListByPriority(predicate.getLevels());
         return new CommandResult(getMessageForPriorityListShownSummary(model.getFilteredReminderList().size()));
     }
 
@@ -1,22 +1,91 @@
 //@@author inGall
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DUE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEXT;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_REMINDERS;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
 /**
- * Lists all persons in the address book to the user.
+ * Lists all reminders in the address book to the user, or only the reminders due within a range of times, or the
+ * next few reminders due.
  */
 public class ListReminderCommand extends Command {
 
     public static final String COMMAND_WORD = "listReminder";
     public static final String COMMAND_ALIAS = "lr";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all reminders, the reminders due within "
+            + "a range of times, or the next reminders due from now.\n"
+            + "Parameters: [" + PREFIX_DUE + "FROM to TO] [" + PREFIX_NEXT + "COUNT]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_DUE + "01/01/2017 00:00 to 31/03/2017 23:59\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NEXT + "3";
+
     public static final String MESSAGE_SUCCESS = "Listed all reminders";
 
+    private final LocalDateTime dueFrom;
+    private final LocalDateTime dueTo;
+    private final int nextCount;
+    private final Clock clock;
+
+    /**
+     * Creates a command that lists all reminders.
+     */
+    public ListReminderCommand() {
+        this(null, null, 0, null);
+    }
+
+    /**
+     * Creates a command that lists the reminders due from {@code dueFrom} to {@code dueTo}, inclusive.
+     */
+    public ListReminderCommand(LocalDateTime dueFrom, LocalDateTime dueTo) {
+        this(requireNonNull(dueFrom), requireNonNull(dueTo), 0, null);
+    }
+
+    /**
+     * Creates a command that lists the next {@code nextCount} reminders due from the time of {@code clock}.
+     */
+    public ListReminderCommand(int nextCount, Clock clock) {
+        this(null, null, nextCount, requireNonNull(clock));
+        assert nextCount > 0;
+    }
+
+    private ListReminderCommand(LocalDateTime dueFrom, LocalDateTime dueTo, int nextCount, Clock clock) {
+        this.dueFrom = dueFrom;
+        this.dueTo = dueTo;
+        this.nextCount = nextCount;
+        this.clock = clock;
+    }
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredReminderList(PREDICATE_SHOW_ALL_REMINDERS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (dueFrom != null) {
+            model.updateFilteredReminderListByDueTime(dueFrom, dueTo);
+        } else if (nextCount > 0) {
+            model.updateFilteredReminderListToNextDue(LocalDateTime.now(clock), nextCount);
+        } else {
+            model.updateFilteredReminderList(PREDICATE_SHOW_ALL_REMINDERS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+        return new CommandResult(getMessageForReminderListShownSummary(model.getFilteredReminderList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ListReminderCommand)) {
+            return false;
+        }
+        ListReminderCommand otherCommand = (ListReminderCommand) other;
+        return Objects.equals(dueFrom, otherCommand.dueFrom)
+                && Objects.equals(dueTo, otherCommand.dueTo)
+                && nextCount == otherCommand.nextCount
+                && Objects.equals(clock, otherCommand.clock);
     }
 }
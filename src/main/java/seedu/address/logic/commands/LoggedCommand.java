@@ -0,0 +1,44 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.AddressBookDelta;
+
+/**
+ * A command executed in an earlier session, read back from the undo history log so that it can be undone.
+ * Redoing it applies the changes it made again, rather than parsing its command text again, as the command must
+ * make exactly the same changes that it made then.
+ */
+public class LoggedCommand extends UndoableCommand {
+
+    public static final String MESSAGE_SUCCESS = "Reapplied: %1$s";
+
+    private final String commandText;
+    private final AddressBookDelta redoDelta;
+
+    public LoggedCommand(String commandText, AddressBookDelta undoDelta) {
+        requireNonNull(commandText);
+        this.commandText = commandText;
+        this.redoDelta = undoDelta.inverse();
+        restoreUndoDelta(undoDelta);
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    @Override
+    protected CommandResult executeUndoableCommand() {
+        requireNonNull(model);
+        model.applyDelta(redoDelta);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandText));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LoggedCommand // instanceof handles nulls
+                && commandText.equals(((LoggedCommand) other).commandText)
+                && redoDelta.equals(((LoggedCommand) other).redoDelta));
+    }
+}
@@ -8,7 +8,7 @@ import java.util.logging.Logger;
 
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
-
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.account.ReadOnlyAccount;
 /**
  *
@@ -19,6 +19,7 @@ public class LoginCommand extends Command {
     public static final String COMMAND_WORD = "login";
     public static final String MESSAGE_FAILURE = "Username or Password Incorrect";
     public static final String MESSAGE_SUCCESS = "Login Successful";
+    public static final String MESSAGE_LOGIN_FAILURE = "Login Failed ...";
     private static String MESSAGE_LOGIN_ACKNOWLEDGEMENT;
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Login to private Database. "
             + "Parameters: "
@@ -33,13 +34,14 @@ public class LoginCommand extends Command {
     }
 
     @Override
-    public CommandResult execute() {
+    public CommandResult execute() throws CommandException {
 
         if (model.checkAccount(account)) {
             try {
                 MainApp.getUi().restart(account.getUsername().fullName);
             } catch (Exception e) {
                 logger.info("Exception caught" + e.toString());
+                throw new CommandException(MESSAGE_LOGIN_FAILURE);
             }
             return new CommandResult(MESSAGE_SUCCESS);
         }
@@ -26,13 +26,16 @@ public class RedoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        undoRedoStack.popRedo().redo();
+        UndoableCommand toRedo = undoRedoStack.popRedo();
+        toRedo.setData(model, history, undoRedoStack);
+        toRedo.redo();
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
     @Override
     public void setData(Model model, CommandHistory commandHistory, UndoRedoStack undoRedoStack) {
         this.model = model;
+        this.history = commandHistory;
         this.undoRedoStack = undoRedoStack;
     }
 }
@@ -10,6 +10,7 @@ import java.util.List;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonUpdate;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -36,6 +37,9 @@ public class RetagCommand extends UndoableCommand {
     public static final String MESSAGE_DUPLICATE_TAG = "One or more persons already have this tag.";
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book.";
 
+    // each batch of updates is a change to the address book that is saved, so there are only this many of them
+    private static final int PROGRESS_STEPS = 10;
+
     private Tag targetTag;
     private Tag newTag;
 
@@ -55,20 +59,17 @@ public class RetagCommand extends UndoableCommand {
     protected CommandResult executeUndoableCommand() throws CommandException {
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
-        List<ReadOnlyPerson> lastShownListCopy = new ArrayList<>(model.getFilteredPersonList());
+        List<ReadOnlyPerson> taggedPersons = model.getPersonsWithTag(targetTag);
 
-        if (!tagUsedInPersonList(lastShownListCopy, targetTag)) {
+        if (taggedPersons.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_TAG_NOT_FOUND, targetTag.toString()));
         }
 
-        for (ReadOnlyPerson person : lastShownListCopy) {
+        List<PersonUpdate> updates = new ArrayList<>();
+        for (ReadOnlyPerson person : taggedPersons) {
             Person retaggedPerson = new Person(person);
             UniqueTagList updatedTags = new UniqueTagList(retaggedPerson.getTags());
-            if (updatedTags.contains(targetTag)) {
-                updatedTags.remove(targetTag);
-            } else {
-                continue;
-            }
+            updatedTags.remove(targetTag);
 
             if (!updatedTags.contains(newTag)) {
                 try {
@@ -79,31 +80,32 @@ public class RetagCommand extends UndoableCommand {
             }
 
             retaggedPerson.setTags(updatedTags.toSet());
-            try {
-                model.updatePerson(person, retaggedPerson);
-            } catch (DuplicatePersonException dpe) {
-                throw new CommandException(MESSAGE_DUPLICATE_PERSON);
-            } catch (PersonNotFoundException pnfe) {
-                throw new AssertionError("The target person cannot be missing");
-            }
+            updates.add(new PersonUpdate(person, retaggedPerson));
         }
 
+        applyUpdates(updates);
         model.deleteUnusedTag(targetTag);
         return new CommandResult(String.format(MESSAGE_SUCCESS, targetTag.toString(), newTag.toString()));
     }
 
     /**
-     * Checks whether a tag is used inside person list
+     * Applies {@code updates} to the address book in up to {@code PROGRESS_STEPS} batches, reporting the progress
+     * made after each batch. If the command is cancelled or a batch fails, the batches already applied are rolled
+     * back by {@link UndoableCommand#execute()}.
      */
-    private boolean tagUsedInPersonList(List<ReadOnlyPerson> personList, Tag tag) {
-        assert personList != null && tag != null;
-
-        for (ReadOnlyPerson person : personList) {
-            if (person.getTags().contains(tag)) {
-                return true;
+    private void applyUpdates(List<PersonUpdate> updates) throws CommandException {
+        final int batchSize = Math.max(1, (updates.size() + PROGRESS_STEPS - 1) / PROGRESS_STEPS);
+        for (int applied = 0; applied < updates.size(); applied += batchSize) {
+            reportProgress(applied, updates.size());
+            try {
+                model.updatePersons(updates.subList(applied, Math.min(applied + batchSize, updates.size())));
+            } catch (DuplicatePersonException dpe) {
+                throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+            } catch (PersonNotFoundException pnfe) {
+                throw new AssertionError("The target person cannot be missing");
             }
         }
-        return false;
+        reportProgress(updates.size(), updates.size());
     }
 
     @Override
@@ -2,11 +2,8 @@
 
 package seedu.address.logic.commands;
 
-import java.util.HashSet;
-import java.util.Set;
 import java.util.StringJoiner;
 
-import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagContainsKeywordPredicate;
 
@@ -36,15 +33,11 @@ public class RetrieveCommand extends Command {
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByTag(predicate.getTag());
         final int personListSize = model.getFilteredPersonList().size();
         if (personListSize == 0) {
-            Set<Tag> uniqueTags = new HashSet<>();
-            for (ReadOnlyPerson person : model.getAddressBook().getPersonList()) {
-                uniqueTags.addAll(person.getTags());
-            }
             StringJoiner joiner = new StringJoiner(", ");
-            for (Tag tag: uniqueTags) {
+            for (Tag tag: model.getPersonTags()) {
                 joiner.add(tag.toString());
             }
             return new CommandResult(String.format(MESSAGE_NOT_FOUND, joiner.toString()));
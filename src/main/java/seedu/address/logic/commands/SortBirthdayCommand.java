@@ -2,36 +2,26 @@ package seedu.address.logic.commands;
 
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
-
-import seedu.address.logic.commands.exceptions.CommandException;
-
-import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.BirthdayComparator;
 
 /**
- * Sort names of contacts by alphabetical order
+ * Sort contacts by birthday, in the order of the days of the year.
+ * Only the order in which the contacts are shown changes, so there is nothing to undo.
  */
-public class SortBirthdayCommand extends UndoableCommand {
+public class SortBirthdayCommand extends Command {
     public static final String COMMAND_WORD = "sortBirthday";
     public static final String COMMAND_ALIAS = "sb";
 
     public static final String MESSAGE_SUCCESS = "All contacts are sorted by birthday.";
     public static final String MESSAGE_EMPTY_LIST = "Contact list is empty.";
 
-    private ArrayList<ReadOnlyPerson> contactList;
-
-    public SortBirthdayCommand() {
-        contactList = new ArrayList<>();
-    }
-
     @Override
-    public CommandResult executeUndoableCommand() throws CommandException {
+    public CommandResult execute() {
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        Boolean isEmpty = model.checkIfPersonListEmpty(contactList);
-        if (!isEmpty) {
-            model.sortListByBirthday(contactList);
-            return new CommandResult(MESSAGE_SUCCESS);
+        if (model.getFilteredPersonList().isEmpty()) {
+            return new CommandResult(MESSAGE_EMPTY_LIST);
         }
-        return new CommandResult(MESSAGE_EMPTY_LIST);
+        model.sortFilteredPersonList(new BirthdayComparator());
+        return new CommandResult(MESSAGE_SUCCESS);
     }
 }
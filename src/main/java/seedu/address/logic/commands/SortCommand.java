@@ -2,36 +2,26 @@ package seedu.address.logic.commands;
 
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
-
-import seedu.address.logic.commands.exceptions.CommandException;
-
-import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.NameComparator;
 
 /**
-  * Sort names of contacts by alphabetical order
-  */
-public class SortCommand extends UndoableCommand {
+ * Sort names of contacts by alphabetical order.
+ * Only the order in which the contacts are shown changes, so there is nothing to undo.
+ */
+public class SortCommand extends Command {
     public static final String COMMAND_WORD = "sort";
     public static final String COMMAND_ALIAS = "s";
 
     public static final String MESSAGE_SUCCESS = "All contacts are sorted.";
     public static final String MESSAGE_EMPTY_LIST = "Contact list is empty.";
 
-    private ArrayList<ReadOnlyPerson> contactList;
-
-    public SortCommand() {
-        contactList = new ArrayList<>();
-    }
-
     @Override
-    public CommandResult executeUndoableCommand() throws CommandException {
+    public CommandResult execute() {
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        Boolean isEmpty = model.checkIfPersonListEmpty(contactList);
-        if (!isEmpty) {
-            model.sortListByName(contactList);
-            return new CommandResult(MESSAGE_SUCCESS);
+        if (model.getFilteredPersonList().isEmpty()) {
+            return new CommandResult(MESSAGE_EMPTY_LIST);
         }
-        return new CommandResult(MESSAGE_EMPTY_LIST);
+        model.sortFilteredPersonList(new NameComparator());
+        return new CommandResult(MESSAGE_SUCCESS);
     }
 }
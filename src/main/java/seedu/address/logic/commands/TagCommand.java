@@ -11,6 +11,7 @@ import java.util.StringJoiner;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonUpdate;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -65,6 +66,7 @@ public class TagCommand extends UndoableCommand {
 
         ArrayList<ReadOnlyPerson> alreadyTaggedPersons = new ArrayList<>();
         ArrayList<ReadOnlyPerson> toBeTaggedPersons = new ArrayList<>();
+        List<PersonUpdate> updates = new ArrayList<>();
         for (Index targetIndex : targetIndexes) {
             ReadOnlyPerson personToTag = lastShownList.get(targetIndex.getZeroBased());
             Person taggedPerson = new Person(personToTag);
@@ -83,14 +85,15 @@ public class TagCommand extends UndoableCommand {
             }
 
             taggedPerson.setTags(updatedTags.toSet());
+            updates.add(new PersonUpdate(personToTag, taggedPerson));
+        }
 
-            try {
-                model.updatePerson(personToTag, taggedPerson);
-            } catch (DuplicatePersonException dpe) {
-                throw new CommandException(MESSAGE_DUPLICATE_PERSON);
-            } catch (PersonNotFoundException pnfe) {
-                throw new AssertionError("The target person cannot be missing");
-            }
+        try {
+            model.updatePersons(updates);
+        } catch (DuplicatePersonException dpe) {
+            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+        } catch (PersonNotFoundException pnfe) {
+            throw new AssertionError("The target person cannot be missing");
         }
 
         StringJoiner toBeTaggedJoiner = new StringJoiner(", ");
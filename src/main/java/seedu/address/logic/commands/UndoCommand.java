@@ -2,6 +2,8 @@ package seedu.address.logic.commands;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.EmptyStackException;
+
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,6 +19,8 @@ public class UndoCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Undo success!";
     public static final String MESSAGE_FAILURE = "No more commands to undo!";
+    public static final String MESSAGE_OUT_OF_DATE = "The undo history no longer matches the address book, "
+            + "and has been cleared.";
 
     @Override
     public CommandResult execute() throws CommandException {
@@ -26,13 +30,28 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        undoRedoStack.popUndo().undo();
+        UndoableCommand toUndo;
+        try {
+            toUndo = undoRedoStack.popUndo();
+        } catch (EmptyStackException ese) {
+            // the older undo history could not be read back from disk, and has been forgotten
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        toUndo.setData(model, history, undoRedoStack);
+        try {
+            toUndo.undo();
+        } catch (IllegalArgumentException iae) {
+            // a command logged in an earlier session does not match the address book that was loaded
+            undoRedoStack.clear();
+            throw new CommandException(MESSAGE_OUT_OF_DATE);
+        }
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
     @Override
     public void setData(Model model, CommandHistory commandHistory, UndoRedoStack undoRedoStack) {
         this.model = model;
+        this.history = commandHistory;
         this.undoRedoStack = undoRedoStack;
     }
 }
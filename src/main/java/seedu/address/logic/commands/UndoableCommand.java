@@ -5,8 +5,9 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ACCOUNTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyDatabase;
 
@@ -14,17 +15,52 @@ import seedu.address.model.ReadOnlyDatabase;
  * Represents a command which can be undone and redone.
  */
 public abstract class UndoableCommand extends Command {
-    private ReadOnlyAddressBook previousAddressBook;
+    private AddressBookDelta undoDelta;
     private ReadOnlyDatabase previousDatabase;
 
     protected abstract CommandResult executeUndoableCommand() throws CommandException;
 
     /**
-     * Stores the current state of {@code model#addressBook}.
+     * Records the changes that undo the execution of this command, as the inverse of the changes between
+     * {@code previousAddressBook} and the current state of {@code model#addressBook}.
+     * Only the changed records are kept, so the memory this command holds on to is proportional to its edit.
      */
-    private void saveAddressBookSnapshot() {
+    private void saveUndoDelta(ReadOnlyAddressBook previousAddressBook) {
         requireNonNull(model);
-        this.previousAddressBook = new AddressBook(model.getAddressBook());
+        this.undoDelta = AddressBookDelta.between(previousAddressBook, model.getAddressBook().getSnapshot())
+                .inverse();
+    }
+
+    /**
+     * Returns the estimated number of bytes of memory taken by the record of how to undo this command.
+     */
+    public long getUndoSize() {
+        return (undoDelta == null) ? 0 : undoDelta.getEstimatedSize();
+    }
+
+    /**
+     * Returns the record of how to undo this command, or null if it has not been executed or the record has been
+     * taken.
+     */
+    public AddressBookDelta getUndoDelta() {
+        return undoDelta;
+    }
+
+    /**
+     * Removes the record of how to undo this command and returns it, or null if there is none,
+     * so that it can be kept out of memory until it is given back with {@link #restoreUndoDelta(AddressBookDelta)}.
+     */
+    public AddressBookDelta takeUndoDelta() {
+        AddressBookDelta taken = undoDelta;
+        undoDelta = null;
+        return taken;
+    }
+
+    /**
+     * Gives back the record of how to undo this command, taken by {@link #takeUndoDelta()}.
+     */
+    public void restoreUndoDelta(AddressBookDelta delta) {
+        this.undoDelta = delta;
     }
 
     /**
@@ -33,8 +69,8 @@ public abstract class UndoableCommand extends Command {
      * show all persons.
      */
     protected final void undo() {
-        requireAllNonNull(model, previousAddressBook);
-        model.resetData(previousAddressBook);
+        requireAllNonNull(model, undoDelta);
+        model.applyDelta(undoDelta);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         model.updateFilteredAccountList(PREDICATE_SHOW_ALL_ACCOUNTS);
     }
@@ -45,6 +81,8 @@ public abstract class UndoableCommand extends Command {
      */
     protected final void redo() {
         requireNonNull(model);
+        // a redo cannot be rolled back, so it is not stopped by the cancellation of the command it redoes
+        setCancellationCheck(() -> false);
         try {
             executeUndoableCommand();
         } catch (CommandException ce) {
@@ -54,9 +92,39 @@ public abstract class UndoableCommand extends Command {
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    /**
+     * Executes the command, recording how to undo it.
+     * The snapshot of the address book taken beforehand shares its memory with the address book, so it is cheap to
+     * take, and it is only kept until the changes made by the command have been found.
+     * If the command fails or is cancelled before it returns, the changes it made so far are rolled back, so that
+     * a command made of several changes leaves the address book as it found it.
+     */
     @Override
     public final CommandResult execute() throws CommandException {
-        saveAddressBookSnapshot();
-        return executeUndoableCommand();
+        requireNonNull(model);
+        final ReadOnlyAddressBook previousAddressBook = model.getAddressBook().getSnapshot();
+        final CommandResult result;
+        try {
+            result = executeUndoableCommand();
+            if (isCancelled()) {
+                throw new CommandCancelledException(MESSAGE_CANCELLED);
+            }
+        } catch (CommandException ce) {
+            rollBackTo(previousAddressBook);
+            throw ce;
+        }
+        saveUndoDelta(previousAddressBook);
+        return result;
+    }
+
+    /**
+     * Undoes the changes made to {@code model#addressBook} since it was {@code previousAddressBook}.
+     */
+    private void rollBackTo(ReadOnlyAddressBook previousAddressBook) {
+        AddressBookDelta changes = AddressBookDelta.between(previousAddressBook,
+                model.getAddressBook().getSnapshot());
+        if (!changes.isEmpty()) {
+            model.applyDelta(changes.inverse());
+        }
     }
 }
@@ -14,6 +14,7 @@ import java.util.StringJoiner;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonUpdate;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -83,10 +84,7 @@ public class UntagCommand extends UndoableCommand {
             }
         }
 
-        Set<Tag> uniqueTags = new HashSet<>();
-        for (ReadOnlyPerson person : model.getAddressBook().getPersonList()) {
-            uniqueTags.addAll(person.getTags());
-        }
+        Set<Tag> uniqueTags = model.getPersonTags();
         if (!tags.isEmpty() && Collections.disjoint(uniqueTags, tags)) {
             throw new CommandException(String.format(MESSAGE_TAG_NOT_FOUND,
                     joinTagList(tags), joinTagList(new ArrayList<>(uniqueTags))));
@@ -164,6 +162,7 @@ public class UntagCommand extends UndoableCommand {
     private void removeTagsFromPersons(List<ReadOnlyPerson> persons, List<Tag> tags) throws CommandException {
         assert persons != null;
 
+        List<PersonUpdate> updates = new ArrayList<>();
         for (ReadOnlyPerson person : persons) {
             Person untaggedPerson = new Person(person);
             UniqueTagList updatedTags = new UniqueTagList();
@@ -174,14 +173,15 @@ public class UntagCommand extends UndoableCommand {
                 }
             }
             untaggedPerson.setTags(updatedTags.toSet());
+            updates.add(new PersonUpdate(person, untaggedPerson));
+        }
 
-            try {
-                model.updatePerson(person, untaggedPerson);
-            } catch (DuplicatePersonException e) {
-                throw new CommandException(MESSAGE_DUPLICATE_PERSON);
-            } catch (PersonNotFoundException e) {
-                throw new AssertionError("The target person cannot be missing");
-            }
+        try {
+            model.updatePersons(updates);
+        } catch (DuplicatePersonException e) {
+            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+        } catch (PersonNotFoundException e) {
+            throw new AssertionError("The target person cannot be missing");
         }
     }
 
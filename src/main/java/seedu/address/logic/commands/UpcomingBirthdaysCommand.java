@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import seedu.address.model.person.BirthdayCalendarIndex;
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Lists the persons in the address book whose birthdays are coming up within the next few days.
+ */
+public class UpcomingBirthdaysCommand extends Command {
+
+    public static final String COMMAND_WORD = "upcomingBirthdays";
+    public static final String COMMAND_ALIAS = "ub";
+
+    public static final int DEFAULT_DAYS_AHEAD = 7;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the persons whose birthdays are today or "
+            + "within the given number of days, " + DEFAULT_DAYS_AHEAD + " if none is given.\n"
+            + "Parameters: [DAYS] (from 0 to " + BirthdayCalendarIndex.MAX_DAYS_AHEAD + ")\n"
+            + "Example: " + COMMAND_WORD + " 30";
+
+    public static final String MESSAGE_NO_BIRTHDAYS = "No birthdays in the next %1$d days.";
+    public static final String MESSAGE_BIRTHDAYS = "Birthdays in the next %1$d days:";
+
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("dd/MM");
+
+    private final int daysAhead;
+    private final Clock clock;
+
+    /**
+     * Creates a command that lists the birthdays within {@code daysAhead} days of the date of {@code clock}.
+     */
+    public UpcomingBirthdaysCommand(int daysAhead, Clock clock) {
+        assert daysAhead >= 0 && daysAhead <= BirthdayCalendarIndex.MAX_DAYS_AHEAD;
+        this.daysAhead = daysAhead;
+        this.clock = requireNonNull(clock);
+    }
+
+    /**
+     * Returns the message listing {@code persons}, whose birthdays are within {@code daysAhead} days of
+     * {@code today}, in the order they are given.
+     */
+    public static String describeBirthdays(List<ReadOnlyPerson> persons, LocalDate today, int daysAhead) {
+        if (persons.isEmpty()) {
+            return String.format(MESSAGE_NO_BIRTHDAYS, daysAhead);
+        }
+        final StringBuilder message = new StringBuilder(String.format(MESSAGE_BIRTHDAYS, daysAhead));
+        for (ReadOnlyPerson person : persons) {
+            LocalDate birthday = person.getBirthday().getNextOccurrence(today).orElse(today);
+            message.append('\n').append(person.getName().fullName).append(", ")
+                    .append(describeDaysUntil(ChronoUnit.DAYS.between(today, birthday)))
+                    .append(" (").append(DAY_FORMATTER.format(birthday)).append(')');
+        }
+        return message.toString();
+    }
+
+    @Override
+    public CommandResult execute() {
+        LocalDate today = LocalDate.now(clock);
+        model.updateFilteredPersonListByUpcomingBirthday(today, daysAhead);
+        return new CommandResult(describeBirthdays(model.getUpcomingBirthdays(today, daysAhead), today, daysAhead));
+    }
+
+    /**
+     * Returns how soon a birthday {@code days} days away is, e.g. "tomorrow".
+     */
+    private static String describeDaysUntil(long days) {
+        if (days == 0) {
+            return "today";
+        } else if (days == 1) {
+            return "tomorrow";
+        } else {
+            return "in " + days + " days";
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UpcomingBirthdaysCommand // instanceof handles nulls
+                && daysAhead == ((UpcomingBirthdaysCommand) other).daysAhead
+                && clock.equals(((UpcomingBirthdaysCommand) other).clock)); // state check
+    }
+}
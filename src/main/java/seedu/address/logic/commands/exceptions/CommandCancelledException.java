@@ -0,0 +1,10 @@
+package seedu.address.logic.commands.exceptions;
+
+/**
+ * Signals that a {@link Command} was cancelled before it finished, and that any changes it made have been undone.
+ */
+public class CommandCancelledException extends CommandException {
+    public CommandCancelledException(String message) {
+        super(message);
+    }
+}
@@ -40,6 +40,7 @@ import seedu.address.logic.commands.SortPriorityCommand;
 import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UntagCommand;
+import seedu.address.logic.commands.UpcomingBirthdaysCommand;
 
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -176,6 +177,10 @@ public class AddressBookParser {
         case SortBirthdayCommand.COMMAND_ALIAS:
             return new SortBirthdayCommand();
 
+        case UpcomingBirthdaysCommand.COMMAND_WORD:
+        case UpcomingBirthdaysCommand.COMMAND_ALIAS:
+            return new UpcomingBirthdaysCommandParser().parse(arguments);
+
         case AddReminderCommand.COMMAND_WORD:
         case AddReminderCommand.COMMAND_ALIAS:
             return new AddReminderCommandParser().parse(arguments);
@@ -198,7 +203,7 @@ public class AddressBookParser {
 
         case ListReminderCommand.COMMAND_WORD:
         case ListReminderCommand.COMMAND_ALIAS:
-            return new ListReminderCommand();
+            return new ListReminderCommandParser().parse(arguments);
 
         case SortPriorityCommand.COMMAND_WORD:
         case SortPriorityCommand.COMMAND_ALIAS:
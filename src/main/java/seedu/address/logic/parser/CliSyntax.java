@@ -18,5 +18,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_PRIORITY = new Prefix("p/");
     public static final Prefix PREFIX_DATE = new Prefix("d/");
     public static final Prefix PREFIX_MESSAGE = new Prefix("m/");
+    public static final Prefix PREFIX_DUE = new Prefix("due/");
+    public static final Prefix PREFIX_NEXT = new Prefix("next/");
 
 }
@@ -4,10 +4,12 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindPhoneCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate.MatchMode;
 
 /**
  * Parses input arguments and creates a new FindPhoneCommand object
@@ -26,9 +28,31 @@ public class FindPhoneCommandParser implements Parser<FindPhoneCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPhoneCommand.MESSAGE_USAGE));
         }
 
-        String[] phoneKeywords = trimmedArgs.split("\\s+");
+        List<String> phoneKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        MatchMode matchMode = parseMatchMode(phoneKeywords.get(0));
+        if (matchMode != MatchMode.EXACT) {
+            phoneKeywords = phoneKeywords.subList(1, phoneKeywords.size());
+        }
+        if (phoneKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPhoneCommand.MESSAGE_USAGE));
+        }
 
-        return new FindPhoneCommand(new PhoneContainsKeywordsPredicate(Arrays.asList(phoneKeywords)));
+        return new FindPhoneCommand(new PhoneContainsKeywordsPredicate(phoneKeywords, matchMode));
+    }
+
+    /**
+     * Returns the {@code MatchMode} selected by {@code firstWord}, or {@code MatchMode.EXACT} if it is not a mode flag.
+     */
+    private static MatchMode parseMatchMode(String firstWord) {
+        switch (firstWord) {
+        case FindPhoneCommand.PREFIX_MODE_FLAG:
+            return MatchMode.PREFIX;
+        case FindPhoneCommand.SUBSTRING_MODE_FLAG:
+            return MatchMode.SUBSTRING;
+        default:
+            return MatchMode.EXACT;
+        }
     }
 
 }
@@ -0,0 +1,80 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DUE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEXT;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.ListReminderCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.reminder.Date;
+
+/**
+ * Parses input arguments and creates a new ListReminderCommand object
+ */
+public class ListReminderCommandParser implements Parser<ListReminderCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The start of the range must not be after its end.";
+    public static final String MESSAGE_INVALID_COUNT = "The number of reminders must be a positive integer.";
+
+    private static final String RANGE_SEPARATOR = "\\s+to\\s+";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListReminderCommand
+     * and returns an ListReminderCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListReminderCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            return new ListReminderCommand();
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DUE, PREFIX_NEXT);
+        Optional<String> range = argMultimap.getValue(PREFIX_DUE);
+        Optional<String> count = argMultimap.getValue(PREFIX_NEXT);
+        if (!argMultimap.getPreamble().isEmpty() || range.isPresent() == count.isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListReminderCommand.MESSAGE_USAGE));
+        }
+
+        if (count.isPresent()) {
+            return new ListReminderCommand(parseCount(count.get()), Clock.systemDefaultZone());
+        }
+        String[] ends = range.get().trim().split(RANGE_SEPARATOR);
+        if (ends.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListReminderCommand.MESSAGE_USAGE));
+        }
+        final LocalDateTime from;
+        final LocalDateTime to;
+        try {
+            from = new Date(ends[0]).getDueTime();
+            to = new Date(ends[1]).getDueTime();
+        } catch (IllegalValueException ive) {
+            throw new ParseException(ive.getMessage(), ive);
+        }
+        if (from.isAfter(to)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new ListReminderCommand(from, to);
+    }
+
+    /**
+     * Parses {@code count} into the positive number of reminders to list.
+     * @throws ParseException if {@code count} is not a positive integer.
+     */
+    private static int parseCount(String count) throws ParseException {
+        try {
+            int parsedCount = Integer.parseInt(count.trim());
+            if (parsedCount <= 0) {
+                throw new ParseException(MESSAGE_INVALID_COUNT);
+            }
+            return parsedCount;
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(MESSAGE_INVALID_COUNT, nfe);
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import java.time.Clock;
+
+import seedu.address.logic.commands.UpcomingBirthdaysCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.BirthdayCalendarIndex;
+
+/**
+ * Parses input arguments and creates a new UpcomingBirthdaysCommand object
+ */
+public class UpcomingBirthdaysCommandParser implements Parser<UpcomingBirthdaysCommand> {
+
+    public static final String MESSAGE_INVALID_DAYS = "The number of days must be an integer from 0 to "
+            + BirthdayCalendarIndex.MAX_DAYS_AHEAD + ".";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UpcomingBirthdaysCommand
+     * and returns an UpcomingBirthdaysCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UpcomingBirthdaysCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new UpcomingBirthdaysCommand(UpcomingBirthdaysCommand.DEFAULT_DAYS_AHEAD, Clock.systemDefaultZone());
+        }
+        try {
+            int daysAhead = Integer.parseInt(trimmedArgs);
+            if (daysAhead < 0 || daysAhead > BirthdayCalendarIndex.MAX_DAYS_AHEAD) {
+                throw new ParseException(MESSAGE_INVALID_DAYS);
+            }
+            return new UpcomingBirthdaysCommand(daysAhead, Clock.systemDefaultZone());
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(MESSAGE_INVALID_DAYS, nfe);
+        }
+    }
+
+}
@@ -1,26 +1,40 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.BirthdayCalendarIndex;
+import seedu.address.model.person.EmailIndex;
+import seedu.address.model.person.NameTokenIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonUpdate;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate.MatchMode;
+import seedu.address.model.person.PhoneIndex;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.reminder.DueTimeIndex;
+import seedu.address.model.reminder.Priority;
 import seedu.address.model.reminder.ReadOnlyReminder;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.model.reminder.UniqueReminderList;
 import seedu.address.model.reminder.exceptions.DuplicateReminderException;
 import seedu.address.model.reminder.exceptions.ReminderNotFoundException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagIndex;
 import seedu.address.model.tag.UniqueTagList;
 
 /**
@@ -32,6 +46,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueReminderList reminders;
     private final UniqueTagList tags;
+    private final NameTokenIndex nameIndex;
+    private final PhoneIndex phoneIndex;
+    private final EmailIndex emailIndex;
+    private final BirthdayCalendarIndex birthdayIndex;
+    private final TagIndex tagIndex;
+    private final DueTimeIndex dueTimeIndex;
+    private final ShardVersionTracker shardVersions;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -44,6 +65,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         reminders = new UniqueReminderList();
         tags = new UniqueTagList();
+        nameIndex = new NameTokenIndex();
+        persons.addIndex(nameIndex);
+        phoneIndex = new PhoneIndex();
+        persons.addIndex(phoneIndex);
+        emailIndex = new EmailIndex();
+        persons.addIndex(emailIndex);
+        birthdayIndex = new BirthdayCalendarIndex();
+        persons.addIndex(birthdayIndex);
+        tagIndex = new TagIndex();
+        persons.addIndex(tagIndex.personIndex());
+        reminders.addIndex(tagIndex.reminderIndex());
+        dueTimeIndex = new DueTimeIndex();
+        reminders.addIndex(dueTimeIndex);
+        shardVersions = new ShardVersionTracker();
+        persons.addIndex(shardVersions.personIndex());
+        reminders.addIndex(shardVersions.reminderIndex());
     }
 
     public AddressBook() {}
@@ -68,10 +105,12 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public void setTags(Set<Tag> tags) {
         this.tags.setTags(tags);
+        shardVersions.markChanged(ShardVersions.TAG_SHARD);
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The shards of this address book take on the versions of {@code newData}'s shards, if it tracks them.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
@@ -87,6 +126,61 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         setTags(new HashSet<>(newData.getTagList()));
         syncMasterTagListWith(persons);
+        shardVersions.adopt(newData.getShardVersions());
+    }
+
+    /**
+     * Applies {@code delta}, which must have been taken from the current state of this address book, changing only
+     * the positions of the lists that {@code delta} splices. The tags of the spliced persons and reminders are
+     * restored as they are, since the tag splices of {@code delta} restore the master tag list along with them.
+     *
+     * @throws IllegalArgumentException if {@code delta} was not taken from the current state of this address book,
+     *      in which case this address book is left unchanged.
+     */
+    public void applyDelta(AddressBookDelta delta) {
+        requireNonNull(delta);
+        int appliedPersonSplices = 0;
+        int appliedReminderSplices = 0;
+        try {
+            for (AddressBookDelta.Splice<ReadOnlyPerson> splice : delta.getPersonSplices()) {
+                persons.splice(splice.getIndex(), splice.getRemoved(), splice.getInserted());
+                appliedPersonSplices++;
+            }
+            for (AddressBookDelta.Splice<ReadOnlyReminder> splice : delta.getReminderSplices()) {
+                reminders.splice(splice.getIndex(), splice.getRemoved(), splice.getInserted());
+                appliedReminderSplices++;
+            }
+        } catch (DuplicatePersonException | PersonNotFoundException | DuplicateReminderException
+                | ReminderNotFoundException e) {
+            revertSplices(delta, appliedPersonSplices, appliedReminderSplices);
+            throw new IllegalArgumentException("The delta was not taken from this address book", e);
+        }
+
+        if (!delta.getTagSplices().isEmpty()) {
+            final List<Tag> tagList = new ArrayList<>(tags.asObservableList());
+            delta.getTagSplices().forEach(splice -> splice.applyTo(tagList));
+            setTags(new LinkedHashSet<>(tagList));
+        }
+    }
+
+    /**
+     * Reverts the first {@code personSplices} person splices and the first {@code reminderSplices} reminder splices
+     * of {@code delta}, which have been applied to this address book, newest first.
+     */
+    private void revertSplices(AddressBookDelta delta, int personSplices, int reminderSplices) {
+        try {
+            for (int i = reminderSplices - 1; i >= 0; i--) {
+                AddressBookDelta.Splice<ReadOnlyReminder> inverse = delta.getReminderSplices().get(i).inverse();
+                reminders.splice(inverse.getIndex(), inverse.getRemoved(), inverse.getInserted());
+            }
+            for (int i = personSplices - 1; i >= 0; i--) {
+                AddressBookDelta.Splice<ReadOnlyPerson> inverse = delta.getPersonSplices().get(i).inverse();
+                persons.splice(inverse.getIndex(), inverse.getRemoved(), inverse.getInserted());
+            }
+        } catch (DuplicatePersonException | PersonNotFoundException | DuplicateReminderException
+                | ReminderNotFoundException e) {
+            throw new AssertionError("A splice that has just been applied should be revertible", e);
+        }
     }
 
     //// person-level operations
@@ -129,6 +223,31 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Applies all {@code updates} to the person list in a single pass, as one change to the list.
+     * {@code AddressBook}'s tag list will be updated with the tags of all the edited persons, but only once the
+     * whole batch is known to apply, so that a rejected batch changes nothing.
+     *
+     * @throws DuplicatePersonException if the updates cause two persons in the list to be equivalent.
+     * @throws PersonNotFoundException if the target of any update could not be found in the list.
+     *
+     * @see UniquePersonList#updatePersons(java.util.Collection)
+     */
+    public void updatePersons(List<PersonUpdate> updates) throws DuplicatePersonException, PersonNotFoundException {
+        requireNonNull(updates);
+
+        final List<Person> editedPersons = new ArrayList<>(updates.size());
+        final List<PersonUpdate> syncedUpdates = new ArrayList<>(updates.size());
+        for (PersonUpdate update : updates) {
+            Person editedPerson = new Person(update.getEditedPerson());
+            editedPersons.add(editedPerson);
+            syncedUpdates.add(new PersonUpdate(update.getTarget(), editedPerson));
+        }
+        persons.checkUpdates(syncedUpdates);
+        syncMasterTagListWith(editedPersons);
+        persons.updatePersons(syncedUpdates);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * @throws PersonNotFoundException if the {@code key} is not in this {@code AddressBook}.
@@ -141,6 +260,69 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
     }
 
+    /**
+     * Returns the persons in this address book whose name contains any of {@code keywords}, found through the
+     * name index instead of by re-tokenizing every name.
+     */
+    public Set<ReadOnlyPerson> getPersonsMatchingName(List<String> keywords) {
+        requireNonNull(keywords);
+        return nameIndex.getPersonsMatchingAny(keywords);
+    }
+
+    /**
+     * Returns the persons in this address book whose phone number matches any of {@code keywords} under
+     * {@code mode}, found through the phone index.
+     */
+    public Set<ReadOnlyPerson> getPersonsMatchingPhone(List<String> keywords, MatchMode mode) {
+        requireAllNonNull(keywords, mode);
+        return phoneIndex.getPersonsMatchingAny(keywords, mode);
+    }
+
+    /**
+     * Returns the persons in this address book whose email matches any of {@code keywords}, found through the
+     * email index. Keywords starting with {@code @} are domain queries.
+     */
+    public Set<ReadOnlyPerson> getPersonsMatchingEmail(List<String> keywords) {
+        requireNonNull(keywords);
+        return emailIndex.getPersonsMatchingAny(keywords);
+    }
+
+    /**
+     * Returns the persons in this address book whose birthdays fall from {@code from} to {@code daysAhead} days
+     * after it, inclusive, in the order their birthdays come, found through the birthday index.
+     */
+    public List<ReadOnlyPerson> getUpcomingBirthdays(LocalDate from, int daysAhead) {
+        requireNonNull(from);
+        return birthdayIndex.getBirthdaysWithin(from, daysAhead);
+    }
+
+    /**
+     * Returns the reminders in this address book due from {@code from} to {@code to}, inclusive, earliest first,
+     * found through the due time index.
+     */
+    public List<ReadOnlyReminder> getDueBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return dueTimeIndex.getDueBetween(from, to);
+    }
+
+    /**
+     * Returns the first {@code count} reminders in this address book due at or after {@code from}, earliest first,
+     * found through the due time index.
+     */
+    public List<ReadOnlyReminder> getNextDue(LocalDateTime from, int count) {
+        requireNonNull(from);
+        return dueTimeIndex.getNextDue(from, count);
+    }
+
+    /**
+     * Returns the reminders in this address book with any of the priority {@code levels}, found through the
+     * reminder list's priority buckets.
+     */
+    public List<ReadOnlyReminder> getRemindersWithPriority(Set<Priority.Level> levels) {
+        requireNonNull(levels);
+        return reminders.getRemindersWithPriority(levels);
+    }
+
     //@@author duyson98
     //// reminder-level operations
 
@@ -197,37 +379,58 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// tag-level operations
 
+    /**
+     * Adds a tag to the master tag list.
+     *
+     * @throws UniqueTagList.DuplicateTagException if the tag is already in the master tag list.
+     */
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
         tags.add(t);
+        shardVersions.markChanged(ShardVersions.TAG_SHARD);
     }
 
+    /**
+     * Removes a tag from the master tag list.
+     */
     public void removeTag(Tag t) {
         tags.remove(t);
+        shardVersions.markChanged(ShardVersions.TAG_SHARD);
     }
 
     /**
-     * Check if tag {@code t} in tag list is not used by any person in person list.
+     * Check if tag {@code t} in tag list is not used by any person in person list or any reminder in reminder list.
      */
     public boolean isUnusedTag(Tag t) {
-        boolean notUsedInPersonList = true;
-        boolean notUsedInReminderList = true;
-        for (ReadOnlyPerson person : getPersonList()) {
-            if (person.getTags().contains(t)) {
-                notUsedInPersonList = false;
-                break;
-            }
-        }
-        for (ReadOnlyReminder reminder : getReminderList()) {
-            if (reminder.getTags().contains(t)) {
-                notUsedInReminderList = false;
-                break;
-            }
-        }
-        return notUsedInPersonList && notUsedInReminderList;
+        return tagIndex.isUnused(t);
+    }
+
+    /**
+     * Returns the persons having tag {@code t}, read from the tag index.
+     */
+    public List<ReadOnlyPerson> getPersonsWithTag(Tag t) {
+        return new ArrayList<>(tagIndex.getPersonsWithTag(t));
+    }
+
+    /**
+     * Returns the tags that at least one person in the person list has, read from the tag index.
+     */
+    public Set<Tag> getPersonTags() {
+        return new HashSet<>(tagIndex.getPersonTags());
     }
 
     //// sync master tag list
 
+    /**
+     * Adds the tags in {@code newTags} that are not in the master list {@link #tags} to it.
+     */
+    private void mergeIntoMasterTagList(UniqueTagList newTags) {
+        int size = tags.asObservableList().size();
+        tags.mergeFrom(newTags);
+        if (tags.asObservableList().size() != size) {
+            shardVersions.markChanged(ShardVersions.TAG_SHARD);
+        }
+    }
+
     /**
      * Ensures that every tag in this person:
      *  - exists in the master list {@link #tags}
@@ -235,7 +438,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     private void syncMasterTagListWith(Person person) {
         final UniqueTagList personTags = new UniqueTagList(person.getTags());
-        tags.mergeFrom(personTags);
+        mergeIntoMasterTagList(personTags);
 
         // Create map with values = tag object references in the master list
         // used for checking person tag references
@@ -258,6 +461,28 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.forEach(this::syncMasterTagListWith);
     }
 
+    /**
+     * Ensures that every tag in these persons:
+     *  - exists in the master list {@link #tags}
+     *  - points to a Tag object in the master list
+     * Merges the tags of all the persons into the master list at once.
+     *  @see #syncMasterTagListWith(Person)
+     */
+    private void syncMasterTagListWith(List<Person> persons) {
+        final UniqueTagList personsTags = new UniqueTagList();
+        persons.forEach(person -> personsTags.mergeFrom(new UniqueTagList(person.getTags())));
+        mergeIntoMasterTagList(personsTags);
+
+        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
+        tags.forEach(tag -> masterTagObjects.put(tag, tag));
+
+        for (Person person : persons) {
+            final Set<Tag> correctTagReferences = new HashSet<>();
+            person.getTags().forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
+            person.setTags(correctTagReferences);
+        }
+    }
+
     //@@author duyson98
     /**
      * Ensures that every tag in this reminder:
@@ -266,7 +491,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     private void syncMasterTagListWith(Reminder reminder) {
         final UniqueTagList reminderTags = new UniqueTagList(reminder.getTags());
-        tags.mergeFrom(reminderTags);
+        mergeIntoMasterTagList(reminderTags);
 
         // Create map with values = tag object references in the master list
         // used for checking reminder tag references
@@ -314,6 +539,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         return tags.asObservableList();
     }
 
+    @Override
+    public ShardVersions getShardVersions() {
+        return shardVersions.getVersions();
+    }
+
+    /**
+     * Returns a snapshot of this address book in constant time, sharing its memory with this address book.
+     */
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        return new ImmutableAddressBook(persons.snapshot(), reminders.snapshot(), tags.snapshot(),
+                getShardVersions());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
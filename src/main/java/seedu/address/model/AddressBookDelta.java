@@ -0,0 +1,248 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.reminder.ReadOnlyReminder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The changes between two versions of an address book, as the splices that turn each list of the earlier version
+ * into the same list of the later version. Only the changed persons, reminders and tags are held, so a delta takes
+ * memory in proportion to the change it describes rather than to the size of the address book.
+ *
+ * @see AddressBook#applyDelta(AddressBookDelta)
+ */
+public class AddressBookDelta {
+
+    // a rough size of a record's objects apart from the characters of its strings
+    private static final long RECORD_OVERHEAD_BYTES = 400;
+
+    private final List<Splice<ReadOnlyPerson>> personSplices;
+    private final List<Splice<ReadOnlyReminder>> reminderSplices;
+    private final List<Splice<Tag>> tagSplices;
+    // computed when first asked for, as most deltas are never measured
+    private long estimatedSize = -1;
+
+    private AddressBookDelta(List<Splice<ReadOnlyPerson>> personSplices,
+                             List<Splice<ReadOnlyReminder>> reminderSplices, List<Splice<Tag>> tagSplices) {
+        this.personSplices = Collections.unmodifiableList(personSplices);
+        this.reminderSplices = Collections.unmodifiableList(reminderSplices);
+        this.tagSplices = Collections.unmodifiableList(tagSplices);
+    }
+
+    /**
+     * Returns the delta made of the given splices, which are applied in the order they are given.
+     */
+    public static AddressBookDelta of(List<Splice<ReadOnlyPerson>> personSplices,
+                                      List<Splice<ReadOnlyReminder>> reminderSplices, List<Splice<Tag>> tagSplices) {
+        requireAllNonNull(personSplices, reminderSplices, tagSplices);
+        return new AddressBookDelta(new ArrayList<>(personSplices), new ArrayList<>(reminderSplices),
+                new ArrayList<>(tagSplices));
+    }
+
+    /**
+     * Returns the changes that turn {@code before} into {@code after}.
+     * Elements are compared by identity, which finds exactly the changed elements when {@code before} and
+     * {@code after} are snapshots of the same address book, as unchanged elements are shared between them.
+     * Takes time linear in the size of the lists.
+     */
+    public static AddressBookDelta between(ReadOnlyAddressBook before, ReadOnlyAddressBook after) {
+        requireAllNonNull(before, after);
+        return new AddressBookDelta(diff(before.getPersonList(), after.getPersonList()),
+                diff(before.getReminderList(), after.getReminderList()),
+                diff(before.getTagList(), after.getTagList()));
+    }
+
+    /**
+     * Returns the splices that turn {@code before} into {@code after}, in the order they are to be applied.
+     * If the lists are of the same size, each run of changed positions is a splice of its own. Otherwise, the
+     * elements between the longest unchanged prefix and the longest unchanged suffix form a single splice.
+     */
+    private static <T> List<Splice<T>> diff(List<? extends T> before, List<? extends T> after) {
+        final List<Splice<T>> splices = new ArrayList<>();
+        if (before.size() == after.size()) {
+            int runStart = -1;
+            for (int i = 0; i <= before.size(); i++) {
+                boolean changed = i < before.size() && before.get(i) != after.get(i);
+                if (changed && runStart == -1) {
+                    runStart = i;
+                } else if (!changed && runStart != -1) {
+                    splices.add(new Splice<>(runStart, before.subList(runStart, i), after.subList(runStart, i)));
+                    runStart = -1;
+                }
+            }
+            return splices;
+        }
+
+        final int shorter = Math.min(before.size(), after.size());
+        int prefix = 0;
+        while (prefix < shorter && before.get(prefix) == after.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (prefix + suffix < shorter
+                && before.get(before.size() - suffix - 1) == after.get(after.size() - suffix - 1)) {
+            suffix++;
+        }
+        splices.add(new Splice<>(prefix, before.subList(prefix, before.size() - suffix),
+                after.subList(prefix, after.size() - suffix)));
+        return splices;
+    }
+
+    /**
+     * Returns the delta that undoes this delta.
+     */
+    public AddressBookDelta inverse() {
+        return new AddressBookDelta(invert(personSplices), invert(reminderSplices), invert(tagSplices));
+    }
+
+    /**
+     * Returns the splices that undo {@code splices}, in the reverse of their order.
+     */
+    private static <T> List<Splice<T>> invert(List<Splice<T>> splices) {
+        final List<Splice<T>> inverted = new ArrayList<>(splices.size());
+        for (int i = splices.size() - 1; i >= 0; i--) {
+            inverted.add(splices.get(i).inverse());
+        }
+        return inverted;
+    }
+
+    /**
+     * Returns the estimated number of bytes of memory that the records held by {@code splices} take.
+     */
+    private static long estimateSize(List<? extends Splice<?>> splices) {
+        long size = 0;
+        for (Splice<?> splice : splices) {
+            for (Object record : splice.removed) {
+                size += RECORD_OVERHEAD_BYTES + Character.BYTES * record.toString().length();
+            }
+            for (Object record : splice.inserted) {
+                size += RECORD_OVERHEAD_BYTES + Character.BYTES * record.toString().length();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the estimated number of bytes of memory that this delta keeps alive, which grows with the number and
+     * the length of the records it holds.
+     */
+    public long getEstimatedSize() {
+        if (estimatedSize < 0) {
+            estimatedSize = estimateSize(personSplices) + estimateSize(reminderSplices) + estimateSize(tagSplices);
+        }
+        return estimatedSize;
+    }
+
+    /**
+     * Returns true if this delta changes nothing.
+     */
+    public boolean isEmpty() {
+        return personSplices.isEmpty() && reminderSplices.isEmpty() && tagSplices.isEmpty();
+    }
+
+    public List<Splice<ReadOnlyPerson>> getPersonSplices() {
+        return personSplices;
+    }
+
+    public List<Splice<ReadOnlyReminder>> getReminderSplices() {
+        return reminderSplices;
+    }
+
+    public List<Splice<Tag>> getTagSplices() {
+        return tagSplices;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookDelta // instanceof handles nulls
+                && personSplices.equals(((AddressBookDelta) other).personSplices)
+                && reminderSplices.equals(((AddressBookDelta) other).reminderSplices)
+                && tagSplices.equals(((AddressBookDelta) other).tagSplices));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(personSplices, reminderSplices, tagSplices);
+    }
+
+    @Override
+    public String toString() {
+        return "persons " + personSplices + ", reminders " + reminderSplices + ", tags " + tagSplices;
+    }
+
+    /**
+     * The replacement of the elements {@code removed}, starting at position {@code index} of a list,
+     * by the elements {@code inserted}.
+     */
+    public static class Splice<T> {
+        private final int index;
+        private final List<T> removed;
+        private final List<T> inserted;
+
+        public Splice(int index, List<? extends T> removed, List<? extends T> inserted) {
+            requireAllNonNull(removed, inserted);
+            if (index < 0) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+            this.index = index;
+            this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+            this.inserted = Collections.unmodifiableList(new ArrayList<>(inserted));
+        }
+
+        /**
+         * Returns the splice that undoes this splice.
+         */
+        public Splice<T> inverse() {
+            return new Splice<>(index, inserted, removed);
+        }
+
+        /**
+         * Applies this splice to {@code list}.
+         * The elements at the spliced positions are expected to be {@code removed}, but this is not checked.
+         */
+        public void applyTo(List<T> list) {
+            list.subList(index, index + removed.size()).clear();
+            list.addAll(index, inserted);
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public List<T> getRemoved() {
+            return removed;
+        }
+
+        public List<T> getInserted() {
+            return inserted;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Splice // instanceof handles nulls
+                    && index == ((Splice<?>) other).index
+                    && removed.equals(((Splice<?>) other).removed)
+                    && inserted.equals(((Splice<?>) other).inserted));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, removed, inserted);
+        }
+
+        @Override
+        public String toString() {
+            return "at " + index + ": " + removed + " -> " + inserted;
+        }
+    }
+
+}
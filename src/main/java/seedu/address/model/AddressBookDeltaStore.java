@@ -0,0 +1,42 @@
+package seedu.address.model;
+
+import java.io.IOException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * A store outside of memory that {@link AddressBookDelta}s can be moved to, such as files on disk.
+ * Deltas are written one after another, and the oldest of them can be discarded to free the space they take.
+ */
+public interface AddressBookDeltaStore {
+
+    /**
+     * Writes {@code delta} after the deltas written before it.
+     *
+     * @return the position to read {@code delta} back from.
+     * @throws IOException if there was any problem writing to the store.
+     */
+    long write(AddressBookDelta delta) throws IOException;
+
+    /**
+     * Reads back the delta written at {@code position}.
+     *
+     * @throws DataConversionException if the delta could not be decoded.
+     * @throws IOException if there was any problem reading from the store, such as the delta having been discarded.
+     */
+    AddressBookDelta read(long position) throws DataConversionException, IOException;
+
+    /**
+     * Discards as many of the deltas written before {@code position} as can be discarded, freeing the space they
+     * take. Deltas that have been discarded can no longer be read.
+     *
+     * @throws IOException if there was any problem freeing the space.
+     */
+    void discardBefore(long position) throws IOException;
+
+    /**
+     * Returns the number of bytes taken by the deltas that have not been discarded.
+     */
+    long getSize();
+
+}
@@ -0,0 +1,56 @@
+package seedu.address.model;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.reminder.ReadOnlyReminder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An address book that never changes, such as a snapshot of another address book.
+ * Its lists are {@link PersistentList}s, which share their memory with the lists they were taken from.
+ *
+ * @see ReadOnlyAddressBook#getSnapshot()
+ */
+class ImmutableAddressBook implements ReadOnlyAddressBook {
+
+    private final ObservableList<ReadOnlyPerson> persons;
+    private final ObservableList<ReadOnlyReminder> reminders;
+    private final ObservableList<Tag> tags;
+    private final ShardVersions shardVersions;
+
+    ImmutableAddressBook(PersistentList<ReadOnlyPerson> persons, PersistentList<ReadOnlyReminder> reminders,
+                         PersistentList<Tag> tags, ShardVersions shardVersions) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.reminders = FXCollections.unmodifiableObservableList(FXCollections.observableList(reminders));
+        this.tags = FXCollections.unmodifiableObservableList(FXCollections.observableList(tags));
+        this.shardVersions = shardVersions;
+    }
+
+    @Override
+    public ObservableList<ReadOnlyPerson> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<ReadOnlyReminder> getReminderList() {
+        return reminders;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+
+    @Override
+    public ShardVersions getShardVersions() {
+        return shardVersions;
+    }
+
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        return this;
+    }
+
+}
@@ -0,0 +1,143 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.collections.transformation.FilteredList;
+
+/**
+ * What one of the filtered lists of the UI shows: the elements accepted by a plain predicate, or the elements found
+ * by a lookup on the indexes of the address book.
+ * A lookup is resolved under the model's lock at the end of every change, into an immutable identity set that is
+ * handed to the UI executor together with the snapshot it was resolved against, so that the UI never reads an index
+ * that another thread may be changing.
+ */
+final class ListFilter<T> {
+
+    private final Predicate<? super T> predicate;
+    private final Function<AddressBook, Collection<? extends T>> lookup;
+    // true if whether an element is found depends on the other elements, so every element may need testing again
+    private final boolean dependsOnOtherElements;
+
+    private ListFilter(Predicate<? super T> predicate, Function<AddressBook, Collection<? extends T>> lookup,
+                       boolean dependsOnOtherElements) {
+        this.predicate = predicate;
+        this.lookup = lookup;
+        this.dependsOnOtherElements = dependsOnOtherElements;
+    }
+
+    /**
+     * Returns a filter showing the elements accepted by {@code predicate}, which must not read the address book.
+     */
+    static <T> ListFilter<T> of(Predicate<? super T> predicate) {
+        return new ListFilter<>(requireNonNull(predicate), null, false);
+    }
+
+    /**
+     * Returns a filter showing the elements found by {@code lookup}, whose result for an element depends on that
+     * element alone.
+     */
+    static <T> ListFilter<T> lookingUp(Function<AddressBook, Collection<? extends T>> lookup) {
+        return new ListFilter<>(null, requireNonNull(lookup), false);
+    }
+
+    /**
+     * Returns a filter showing the elements found by {@code lookup}, whose result for an element may change when
+     * other elements change, such as the first few reminders due. The list is filtered again whenever the elements
+     * found change, as a filtered list only tests the elements that change.
+     */
+    static <T> ListFilter<T> lookingUpAmongAll(Function<AddressBook, Collection<? extends T>> lookup) {
+        return new ListFilter<>(null, requireNonNull(lookup), true);
+    }
+
+    /**
+     * Returns this filter resolved against {@code addressBook}, which must not change while it is resolved.
+     */
+    Resolved<T> resolve(AddressBook addressBook) {
+        if (lookup == null) {
+            return new Resolved<>(this, null);
+        }
+        // the exact instances stored are matched by identity, so equal elements stay distinct
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(lookup.apply(addressBook));
+        return new Resolved<>(this, Collections.unmodifiableSet(matches));
+    }
+
+    /**
+     * Returns true if {@code other} shows the same elements as this filter would in any snapshot.
+     */
+    private boolean isSameAs(ListFilter<T> other) {
+        return this == other || (lookup == null && other.lookup == null && predicate == other.predicate);
+    }
+
+    /**
+     * A filter resolved against a snapshot of the address book, which is never changed once made.
+     */
+    static final class Resolved<T> {
+        private final ListFilter<T> filter;
+        private final Set<T> matches; // null if the filter is a plain predicate
+
+        private Resolved(ListFilter<T> filter, Set<T> matches) {
+            this.filter = filter;
+            this.matches = matches;
+        }
+    }
+
+    /**
+     * Shows resolved filters in a filtered list of the UI. Only used on the UI executor.
+     */
+    static final class Applier<T> {
+        private final FilteredList<T> list;
+        private Resolved<T> shown;
+        private Set<T> matches;
+
+        Applier(FilteredList<T> list, Resolved<T> initial) {
+            this.list = list;
+            show(initial);
+        }
+
+        /**
+         * Has the list test elements against the matches of {@code next} if it resolves the filter already shown.
+         * Called before the elements of the list are brought up to the snapshot {@code next} was resolved against,
+         * so that the elements added are tested against matches that include them.
+         */
+        void beforeElementsChange(Resolved<T> next) {
+            if (next.matches != null && !next.filter.dependsOnOtherElements && next.filter.isSameAs(shown.filter)) {
+                matches = next.matches;
+                shown = next;
+            }
+        }
+
+        /**
+         * Shows {@code next} in the list, once its elements have been brought up to the snapshot it was resolved
+         * against. The list is only filtered again if the filter has changed, or if it finds elements by their place
+         * among the others and the elements found have changed.
+         */
+        void afterElementsChange(Resolved<T> next) {
+            if (!next.filter.isSameAs(shown.filter)
+                    || (next.filter.dependsOnOtherElements && !next.matches.equals(shown.matches))) {
+                show(next);
+            }
+        }
+
+        /**
+         * Filters the list again by {@code next}.
+         */
+        private void show(Resolved<T> next) {
+            shown = next;
+            matches = next.matches;
+            if (next.matches == null) {
+                list.setPredicate(next.filter.predicate);
+            } else {
+                list.setPredicate(element -> matches.contains(element));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * A copy of a list of the address book, kept for the UI, which takes in all the splices that bring it up to date as a
+ * single change, so that its observers are told of one change for every time it catches up.
+ */
+class MirroredList<T> extends ModifiableObservableListBase<T> {
+
+    private final List<T> elements;
+
+    MirroredList(Collection<? extends T> elements) {
+        this.elements = new ArrayList<>(elements);
+    }
+
+    /**
+     * Applies {@code splices} in order, as a single change.
+     */
+    void applySplices(List<AddressBookDelta.Splice<T>> splices) {
+        if (splices.isEmpty()) {
+            return;
+        }
+        beginChange();
+        try {
+            splices.forEach(splice -> splice.applyTo(this));
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> toAdd) {
+        if (index < 0 || index > elements.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        if (toAdd.isEmpty()) {
+            return false;
+        }
+        beginChange();
+        try {
+            elements.addAll(index, toAdd);
+            nextAdd(index, index + toAdd.size());
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        beginChange();
+        try {
+            List<T> removed = elements.subList(fromIndex, toIndex);
+            nextRemove(fromIndex, new ArrayList<>(removed));
+            removed.clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, T element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected T doSet(int index, T element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected T doRemove(int index) {
+        return elements.remove(index);
+    }
+
+}
@@ -1,17 +1,23 @@
 package seedu.address.model;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 
-import seedu.address.logic.commands.exceptions.CommandException;
-
 import seedu.address.model.account.ReadOnlyAccount;
 import seedu.address.model.account.exceptions.DuplicateAccountException;
+import seedu.address.model.person.PersonUpdate;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate.MatchMode;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.reminder.Priority;
 import seedu.address.model.reminder.ReadOnlyReminder;
 import seedu.address.model.reminder.exceptions.DuplicateReminderException;
 import seedu.address.model.reminder.exceptions.ReminderNotFoundException;
@@ -29,9 +35,18 @@ public interface Model {
     void resetData(ReadOnlyAddressBook newData);
     void resetDatabase(ReadOnlyDatabase newData);
 
+    /** Applies {@code delta}, which must have been taken from the current state of the backing model. */
+    void applyDelta(AddressBookDelta delta);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the AddressBook as of the last completed change.
+     * Unlike {@link #getAddressBook()}, it can be read on any thread without waiting for changes being made.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /** Returns the DatabaseBook */
     ReadOnlyDatabase getDatabase();
 
@@ -61,6 +76,15 @@ public interface Model {
     void updatePerson(ReadOnlyPerson target, ReadOnlyPerson editedPerson)
             throws DuplicatePersonException, PersonNotFoundException;
 
+    /**
+     * Applies all {@code updates} to the person list in a single pass, raising a single change event.
+     * Does nothing if {@code updates} is empty. Either all updates are applied or, if an exception is thrown, none are.
+     *
+     * @throws DuplicatePersonException if the updates cause two persons in the list to be equivalent.
+     * @throws PersonNotFoundException if the target of any update could not be found in the list.
+     */
+    void updatePersons(List<PersonUpdate> updates) throws DuplicatePersonException, PersonNotFoundException;
+
     void deletePersonTag(Tag tag) throws PersonNotFoundException, DuplicatePersonException;
 
     /** Returns an unmodifiable view of the filtered person list */
@@ -73,6 +97,56 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<ReadOnlyPerson> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons whose name contains any of
+     * the given {@code keywords}, found as the union of the posting lists of the address book's name index.
+     * Showing them still tests each person in the list, by a constant-time lookup in that union.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredPersonListByName(List<String> keywords);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons whose phone number matches any of
+     * the given {@code keywords} under {@code mode}, looked up through the address book's phone index.
+     * @throws NullPointerException if {@code keywords} or {@code mode} is null.
+     */
+    void updateFilteredPersonListByPhone(List<String> keywords, MatchMode mode);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons whose email matches any of
+     * the given {@code keywords}, looked up through the address book's email index.
+     * Keywords starting with {@code @} match every email at that domain or its subdomains.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredPersonListByEmail(List<String> keywords);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons whose birthdays fall from {@code from}
+     * to {@code daysAhead} days after it, inclusive, looked up through the address book's birthday index.
+     * @throws NullPointerException if {@code from} is null.
+     */
+    void updateFilteredPersonListByUpcomingBirthday(LocalDate from, int daysAhead);
+
+    /**
+     * Returns the persons whose birthdays fall from {@code from} to {@code daysAhead} days after it, inclusive,
+     * in the order their birthdays come.
+     * @throws NullPointerException if {@code from} is null.
+     */
+    List<ReadOnlyPerson> getUpcomingBirthdays(LocalDate from, int daysAhead);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons having {@code tag},
+     * looked up through the address book's tag index.
+     * @throws NullPointerException if {@code tag} is null.
+     */
+    void updateFilteredPersonListByTag(Tag tag);
+
+    /** Returns the persons in the address book having {@code tag}, in no particular order. */
+    List<ReadOnlyPerson> getPersonsWithTag(Tag tag);
+
+    /** Returns the tags that at least one person in the address book has. */
+    Set<Tag> getPersonTags();
+
     void updateFilteredAccountList(Predicate<ReadOnlyAccount> predicate);
 
     /**
@@ -124,27 +198,35 @@ public interface Model {
     //@@author
 
     /**
-     * Sort contact list in alphabetical order
-     * @throws NullPointerException if {@code contactList} is null.
+     * Updates the filter of the filtered reminder list to show the reminders due from {@code from} to {@code to},
+     * inclusive.
+     */
+    void updateFilteredReminderListByDueTime(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Updates the filter of the filtered reminder list to show the first {@code count} reminders due at or after
+     * {@code from}. The list keeps showing the first {@code count} as reminders are added, edited and removed.
      */
-    void sortListByName(ArrayList<ReadOnlyPerson> contactList)  throws CommandException;
+    void updateFilteredReminderListToNextDue(LocalDateTime from, int count);
 
     /**
-     * @param contactList
-     * @throws CommandException
+     * Updates the filter of the filtered reminder list to show the reminders with any of the priority
+     * {@code levels}, looked up in the priority buckets of the address book's reminder list.
+     * @throws NullPointerException if {@code levels} is null.
      */
-    void sortListByBirthday(ArrayList<ReadOnlyPerson> contactList)  throws CommandException;
+    void updateFilteredReminderListByPriority(Set<Priority.Level> levels);
 
     /**
-     * @param contactList
-     * @throws CommandException
+     * Orders the filtered person list by {@code comparator}. The persons are only shown in that order: the order
+     * they are stored in is left as it is, and persons added or edited later are shown in their place.
+     * @throws NullPointerException if {@code comparator} is null.
      */
-    void sortListByAge(ArrayList<ReadOnlyPerson> contactList)  throws CommandException;
+    void sortFilteredPersonList(Comparator<ReadOnlyPerson> comparator);
 
     /**
-     * @param contactList
-     * @throws CommandException
+     * Orders the filtered reminder list by priority, from High to Low, and by due time within each priority.
+     * The order is kept as reminders are added, edited and removed, without changing the order they are stored in.
      */
-    void sortListByPriority(ArrayList<ReadOnlyReminder> contactList)  throws CommandException;
+    void sortFilteredReminderListByPriority();
 
 }
@@ -3,31 +3,39 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
-
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 
 import seedu.address.commons.events.model.DatabaseChangedEvent;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.account.ReadOnlyAccount;
 import seedu.address.model.account.exceptions.DuplicateAccountException;
-import seedu.address.model.person.AgeComparator;
-import seedu.address.model.person.BirthdayComparator;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonUpdate;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate.MatchMode;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.reminder.Priority;
 import seedu.address.model.reminder.PriorityComparator;
 import seedu.address.model.reminder.ReadOnlyReminder;
 import seedu.address.model.reminder.Reminder;
@@ -38,7 +46,13 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
- * All changes to any model should be synchronized.
+ *
+ * Changes are serialized by a write lock, and each completed change publishes an immutable snapshot of the address
+ * book, which can be read on any thread through {@link #getAddressBookSnapshot()} without waiting for writers.
+ * The filtered lists observed by the UI are kept apart from the address book, and are brought up to the latest
+ * snapshot on the UI executor, so that changes made on any thread reach them on the UI thread only.
+ * Their filters are resolved against the address book under the lock and published with the snapshot, so the UI
+ * never reads the address book or its indexes.
  */
 public class ModelManager extends ComponentManager implements Model {
 
@@ -48,24 +62,71 @@ public class ModelManager extends ComponentManager implements Model {
 
     private final AddressBook addressBook;
     private final FilteredList<ReadOnlyPerson> filteredPersons;
+    // the filtered persons in the order they are shown, which is the order they are stored in until sorted
+    private final SortedList<ReadOnlyPerson> sortedPersons;
     private final Database database;
     private final FilteredList<ReadOnlyAccount> filteredAccount;
     private final FilteredList<ReadOnlyReminder> filteredReminders;
+    // the filtered reminders in the order they are shown, which is the order they are stored in until sorted
+    private final SortedList<ReadOnlyReminder> sortedReminders;
+
+    private final Lock readLock;
+    private final ReentrantReadWriteLock.WriteLock writeLock;
+    // the latest snapshot of the address book, published at the end of every change
+    private volatile ReadOnlyAddressBook published;
+
+    // the filters of the UI's lists, changed under the write lock, as they are resolved against the address book
+    private ListFilter<ReadOnlyPerson> personFilter = ListFilter.of(PREDICATE_SHOW_ALL_PERSONS);
+    private ListFilter<ReadOnlyReminder> reminderFilter = ListFilter.of(PREDICATE_SHOW_ALL_REMINDERS);
+    // what the UI's lists are to show, published together with the snapshot of the address book
+    private volatile ShownLists shown;
+
+    // the UI's copies of the person and reminder lists, and what they show, only used on uiExecutor
+    private final Executor uiExecutor;
+    private final MirroredList<ReadOnlyPerson> uiPersons;
+    private final MirroredList<ReadOnlyReminder> uiReminders;
+    private final ListFilter.Applier<ReadOnlyPerson> uiPersonFilter;
+    private final ListFilter.Applier<ReadOnlyReminder> uiReminderFilter;
+    private ShownLists mirrored;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, whose filtered lists are updated on the
+     * thread that changes it.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyDatabase database, UserPrefs userPrefs) {
+        this(addressBook, database, userPrefs, Runnable::run);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, whose filtered lists are only ever
+     * updated by tasks run on {@code uiExecutor}, in the order they are given to it.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyDatabase database, UserPrefs userPrefs,
+                        Executor uiExecutor) {
         super();
-        requireAllNonNull(addressBook, userPrefs);
+        requireAllNonNull(addressBook, userPrefs, uiExecutor);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.database = new Database(database);
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+        this.published = this.addressBook.getSnapshot();
+        publishShownLists();
+
+        this.uiExecutor = uiExecutor;
+        this.mirrored = shown;
+        this.uiPersons = new MirroredList<>(published.getPersonList());
+        this.uiReminders = new MirroredList<>(published.getReminderList());
         filteredAccount = new FilteredList<ReadOnlyAccount>(this.database.getAccountList());
-        filteredReminders = new FilteredList<>(this.addressBook.getReminderList());
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredReminders = new FilteredList<>(uiReminders);
+        sortedReminders = new SortedList<>(filteredReminders);
+        filteredPersons = new FilteredList<>(uiPersons);
+        sortedPersons = new SortedList<>(filteredPersons);
+        uiPersonFilter = new ListFilter.Applier<>(filteredPersons, shown.persons);
+        uiReminderFilter = new ListFilter.Applier<>(filteredReminders, shown.reminders);
 
     }
 
@@ -75,14 +136,35 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
-        addressBook.resetData(newData);
-        indicateAddressBookChanged();
+        writeLock.lock();
+        try {
+            addressBook.resetData(newData);
+            indicateAddressBookChanged();
+        } finally {
+            endWrite();
+        }
+    }
+
+    @Override
+    public void applyDelta(AddressBookDelta delta) {
+        writeLock.lock();
+        try {
+            addressBook.applyDelta(delta);
+            indicateAddressBookChanged();
+        } finally {
+            endWrite();
+        }
     }
 
     @Override
     public void resetDatabase(ReadOnlyDatabase newData) {
-        database.resetData(newData);
-        indicateDatabaseChanged();
+        writeLock.lock();
+        try {
+            database.resetData(newData);
+            indicateDatabaseChanged();
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
@@ -95,11 +177,112 @@ public class ModelManager extends ComponentManager implements Model {
         return database;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return published;
+    }
+
     /** Raises an event to indicate the model has changed */
     private void indicateAddressBookChanged() {
         raise(new AddressBookChangedEvent(addressBook));
     }
 
+    /**
+     * Releases the write lock after publishing the snapshot of the address book left by the change made under it,
+     * and then has the UI's lists brought up to that snapshot.
+     * The UI is only told once the lock is no longer held, as {@code uiExecutor} may wait for the UI thread,
+     * which must not be kept waiting on the lock in turn.
+     */
+    private void endWrite() {
+        try {
+            published = addressBook.getSnapshot();
+            publishShownLists();
+        } finally {
+            writeLock.unlock();
+        }
+        updateUiLists();
+    }
+
+    /**
+     * Publishes what the UI's lists are to show: the latest snapshot, and the filters resolved against it.
+     * Must be called under the write lock.
+     */
+    private void publishShownLists() {
+        shown = new ShownLists(published, personFilter.resolve(addressBook), reminderFilter.resolve(addressBook));
+    }
+
+    /**
+     * Has the UI's lists brought up to what was last published, unless the write lock is still held, in which case
+     * that is done once it is released.
+     */
+    private void updateUiLists() {
+        if (!writeLock.isHeldByCurrentThread()) {
+            uiExecutor.execute(this::syncUiLists);
+        }
+    }
+
+    /**
+     * Returns the result of {@code read}, which reads the live address book, under the read lock so that it does not
+     * see a change that is half made.
+     */
+    private <T> T readAddressBook(Supplier<T> read) {
+        readLock.lock();
+        try {
+            return read.get();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Brings the UI's lists up to the latest published snapshot and filters, changing only the positions that differ.
+     * Bursts of changes made before the UI gets to them are brought into its lists at once.
+     */
+    private void syncUiLists() {
+        ShownLists latest = shown;
+        if (latest == mirrored) {
+            return;
+        }
+        uiPersonFilter.beforeElementsChange(latest.persons);
+        uiReminderFilter.beforeElementsChange(latest.reminders);
+        if (latest.snapshot != mirrored.snapshot) {
+            AddressBookDelta delta = AddressBookDelta.between(mirrored.snapshot, latest.snapshot);
+            uiPersons.applySplices(delta.getPersonSplices());
+            uiReminders.applySplices(delta.getReminderSplices());
+        }
+        uiPersonFilter.afterElementsChange(latest.persons);
+        uiReminderFilter.afterElementsChange(latest.reminders);
+        mirrored = latest;
+    }
+
+    /**
+     * Has the filtered person list show {@code filter}.
+     */
+    private void setPersonFilter(ListFilter<ReadOnlyPerson> filter) {
+        writeLock.lock();
+        try {
+            personFilter = filter;
+            publishShownLists();
+        } finally {
+            writeLock.unlock();
+        }
+        updateUiLists();
+    }
+
+    /**
+     * Has the filtered reminder list show {@code filter}.
+     */
+    private void setReminderFilter(ListFilter<ReadOnlyReminder> filter) {
+        writeLock.lock();
+        try {
+            reminderFilter = filter;
+            publishShownLists();
+        } finally {
+            writeLock.unlock();
+        }
+        updateUiLists();
+    }
+
     private void indicateDatabaseChanged() {
         raise(new DatabaseChangedEvent(database));
     }
@@ -107,37 +290,72 @@ public class ModelManager extends ComponentManager implements Model {
     //// person-level operations
 
     @Override
-    public synchronized void deletePerson(ReadOnlyPerson target) throws PersonNotFoundException {
-        addressBook.removePerson(target);
-        indicateAddressBookChanged();
+    public void deletePerson(ReadOnlyPerson target) throws PersonNotFoundException {
+        writeLock.lock();
+        try {
+            addressBook.removePerson(target);
+            indicateAddressBookChanged();
+        } finally {
+            endWrite();
+        }
     }
 
     @Override
-    public synchronized void addPerson(ReadOnlyPerson person) throws DuplicatePersonException {
-        addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        indicateAddressBookChanged();
+    public void addPerson(ReadOnlyPerson person) throws DuplicatePersonException {
+        writeLock.lock();
+        try {
+            addressBook.addPerson(person);
+            personFilter = ListFilter.of(PREDICATE_SHOW_ALL_PERSONS);
+            indicateAddressBookChanged();
+        } finally {
+            endWrite();
+        }
     }
 
     @Override
     public void updatePerson(ReadOnlyPerson target, ReadOnlyPerson editedPerson)
             throws DuplicatePersonException, PersonNotFoundException {
         requireAllNonNull(target, editedPerson);
-        addressBook.updatePerson(target, editedPerson);
-        indicateAddressBookChanged();
+        writeLock.lock();
+        try {
+            addressBook.updatePerson(target, editedPerson);
+            indicateAddressBookChanged();
+        } finally {
+            endWrite();
+        }
     }
 
     @Override
-    public void deletePersonTag(Tag tag) throws PersonNotFoundException, DuplicatePersonException  {
-        for (int i = 0; i < addressBook.getPersonList().size(); i++) {
-            ReadOnlyPerson oldPerson = addressBook.getPersonList().get(i);
-
-            Person newPerson = new Person(oldPerson);
-            Set<Tag> newTags = newPerson.getTags();
-            newTags.remove(tag);
-            newPerson.setTags(newTags);
+    public void updatePersons(List<PersonUpdate> updates) throws DuplicatePersonException, PersonNotFoundException {
+        requireNonNull(updates);
+        if (updates.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            addressBook.updatePersons(updates);
+            indicateAddressBookChanged();
+        } finally {
+            endWrite();
+        }
+    }
 
-            addressBook.updatePerson(oldPerson, newPerson);
+    @Override
+    public void deletePersonTag(Tag tag) throws PersonNotFoundException, DuplicatePersonException  {
+        writeLock.lock();
+        try {
+            List<PersonUpdate> updates = new ArrayList<>();
+            for (ReadOnlyPerson oldPerson : addressBook.getPersonsWithTag(tag)) {
+                Person newPerson = new Person(oldPerson);
+                Set<Tag> newTags = new HashSet<>(newPerson.getTags());
+                newTags.remove(tag);
+                newPerson.setTags(newTags);
+
+                updates.add(new PersonUpdate(oldPerson, newPerson));
+            }
+            updatePersons(updates);
+        } finally {
+            endWrite();
         }
     }
 
@@ -145,65 +363,100 @@ public class ModelManager extends ComponentManager implements Model {
     //// reminder-level operations
 
     @Override
-    public synchronized void deleteReminder(ReadOnlyReminder target) throws ReminderNotFoundException {
-        addressBook.removeReminder(target);
-        indicateAddressBookChanged();
+    public void deleteReminder(ReadOnlyReminder target) throws ReminderNotFoundException {
+        writeLock.lock();
+        try {
+            addressBook.removeReminder(target);
+            indicateAddressBookChanged();
+        } finally {
+            endWrite();
+        }
     }
 
     @Override
-    public synchronized void addReminder(ReadOnlyReminder reminder) throws DuplicateReminderException {
-        addressBook.addReminder(reminder);
-        updateFilteredReminderList(PREDICATE_SHOW_ALL_REMINDERS);
-        indicateAddressBookChanged();
+    public void addReminder(ReadOnlyReminder reminder) throws DuplicateReminderException {
+        writeLock.lock();
+        try {
+            addressBook.addReminder(reminder);
+            reminderFilter = ListFilter.of(PREDICATE_SHOW_ALL_REMINDERS);
+            indicateAddressBookChanged();
+        } finally {
+            endWrite();
+        }
     }
 
     @Override
     public void updateReminder(ReadOnlyReminder target, ReadOnlyReminder editedReminder)
             throws DuplicateReminderException, ReminderNotFoundException {
         requireAllNonNull(target, editedReminder);
-        addressBook.updateReminder(target, editedReminder);
-        indicateAddressBookChanged();
+        writeLock.lock();
+        try {
+            addressBook.updateReminder(target, editedReminder);
+            indicateAddressBookChanged();
+        } finally {
+            endWrite();
+        }
     }
 
     @Override
     public void deleteReminderTag(Tag tag) throws ReminderNotFoundException, DuplicateReminderException  {
-        for (int i = 0; i < addressBook.getReminderList().size(); i++) {
-            ReadOnlyReminder oldReminder = addressBook.getReminderList().get(i);
+        writeLock.lock();
+        try {
+            for (int i = 0; i < addressBook.getReminderList().size(); i++) {
+                ReadOnlyReminder oldReminder = addressBook.getReminderList().get(i);
 
-            Reminder newReminder = new Reminder(oldReminder);
-            Set<Tag> newTags = newReminder.getTags();
-            newTags.remove(tag);
-            newReminder.setTags(newTags);
+                Reminder newReminder = new Reminder(oldReminder);
+                Set<Tag> newTags = newReminder.getTags();
+                newTags.remove(tag);
+                newReminder.setTags(newTags);
 
-            addressBook.updateReminder(oldReminder, newReminder);
+                addressBook.updateReminder(oldReminder, newReminder);
+            }
+        } finally {
+            endWrite();
         }
     }
     //@@author
 
     //@@author cqhchan
     @Override
-    public synchronized void deleteAccount(ReadOnlyAccount target) throws PersonNotFoundException {
-        database.removeAccount(target);
-        indicateAddressBookChanged();
+    public void deleteAccount(ReadOnlyAccount target) throws PersonNotFoundException {
+        writeLock.lock();
+        try {
+            database.removeAccount(target);
+            indicateAddressBookChanged();
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
-    public synchronized void addAccount(ReadOnlyAccount account) throws DuplicateAccountException {
-        database.addAccount(account);
-        updateFilteredAccountList(PREDICATE_SHOW_ALL_ACCOUNTS);
-        indicateDatabaseChanged();
+    public void addAccount(ReadOnlyAccount account) throws DuplicateAccountException {
+        writeLock.lock();
+        try {
+            database.addAccount(account);
+            updateFilteredAccountList(PREDICATE_SHOW_ALL_ACCOUNTS);
+            indicateDatabaseChanged();
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
-    public synchronized boolean checkAccount(ReadOnlyAccount account) {
-        for (ReadOnlyAccount tempAccount : database.getAccountList()) {
-            if (tempAccount.getUsername().fullName.equals(account.getUsername().fullName)
-                    && tempAccount.getPassword().value.equals(account.getPassword().value)) {
-                return true;
+    public boolean checkAccount(ReadOnlyAccount account) {
+        readLock.lock();
+        try {
+            for (ReadOnlyAccount tempAccount : database.getAccountList()) {
+                if (tempAccount.getUsername().fullName.equals(account.getUsername().fullName)
+                        && tempAccount.getPassword().value.equals(account.getPassword().value)) {
+                    return true;
+                }
             }
-        }
 
-        return false;
+            return false;
+        } finally {
+            readLock.unlock();
+        }
     }
 
     //@@author
@@ -212,27 +465,79 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void deleteUnusedTag(Tag tag) {
-        if (addressBook.isUnusedTag(tag)) {
-            addressBook.removeTag(tag);
-            indicateAddressBookChanged();
+        writeLock.lock();
+        try {
+            if (addressBook.isUnusedTag(tag)) {
+                addressBook.removeTag(tag);
+                indicateAddressBookChanged();
+            }
+        } finally {
+            endWrite();
         }
     }
 
     //=========== Filtered Person List Accessors =============================================================
 
     /**
-     * Returns an unmodifiable view of the list of {@code ReadOnlyPerson} backed by the internal list of
-     * {@code addressBook}
+     * Returns an unmodifiable view of the list of {@code ReadOnlyPerson} backed by the UI's copy of the internal list
+     * of {@code addressBook}, which is only changed on the UI executor.
      */
     @Override
     public ObservableList<ReadOnlyPerson> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredPersons);
+        return FXCollections.unmodifiableObservableList(sortedPersons);
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<ReadOnlyPerson> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setPersonFilter(ListFilter.of(predicate));
+    }
+
+    @Override
+    public void updateFilteredPersonListByName(List<String> keywords) {
+        requireNonNull(keywords);
+        setPersonFilter(ListFilter.lookingUp(book -> book.getPersonsMatchingName(keywords)));
+    }
+
+    @Override
+    public void updateFilteredPersonListByPhone(List<String> keywords, MatchMode mode) {
+        requireAllNonNull(keywords, mode);
+        setPersonFilter(ListFilter.lookingUp(book -> book.getPersonsMatchingPhone(keywords, mode)));
+    }
+
+    @Override
+    public void updateFilteredPersonListByEmail(List<String> keywords) {
+        requireNonNull(keywords);
+        setPersonFilter(ListFilter.lookingUp(book -> book.getPersonsMatchingEmail(keywords)));
+    }
+
+    @Override
+    public void updateFilteredPersonListByUpcomingBirthday(LocalDate from, int daysAhead) {
+        requireNonNull(from);
+        setPersonFilter(ListFilter.lookingUp(book -> book.getUpcomingBirthdays(from, daysAhead)));
+    }
+
+    @Override
+    public List<ReadOnlyPerson> getUpcomingBirthdays(LocalDate from, int daysAhead) {
+        requireNonNull(from);
+        return readAddressBook(() -> addressBook.getUpcomingBirthdays(from, daysAhead));
+    }
+
+    @Override
+    public void updateFilteredPersonListByTag(Tag tag) {
+        requireNonNull(tag);
+        setPersonFilter(ListFilter.lookingUp(book -> book.getPersonsWithTag(tag)));
+    }
+
+    @Override
+    public List<ReadOnlyPerson> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return readAddressBook(() -> addressBook.getPersonsWithTag(tag));
+    }
+
+    @Override
+    public Set<Tag> getPersonTags() {
+        return readAddressBook(addressBook::getPersonTags);
     }
 
     //=========== Filtered Account List Accessors =============================================================
@@ -256,20 +561,20 @@ public class ModelManager extends ComponentManager implements Model {
     //=========== Filtered Reminder List Accessors =============================================================
 
     /**
-     * Returns an unmodifiable view of the list of {@code ReadOnlyReminder} backed by the internal list of
-     * {@code addressBook}
+     * Returns an unmodifiable view of the list of {@code ReadOnlyReminder} backed by the UI's copy of the internal
+     * list of {@code addressBook}, which is only changed on the UI executor.
      */
     @Override
     public ObservableList<ReadOnlyReminder> getFilteredReminderList() {
         logger.info("it came here");
 
-        return FXCollections.unmodifiableObservableList(filteredReminders);
+        return FXCollections.unmodifiableObservableList(sortedReminders);
     }
 
     @Override
     public void updateFilteredReminderList(Predicate<ReadOnlyReminder> predicate) {
         requireNonNull(predicate);
-        filteredReminders.setPredicate(predicate);
+        setReminderFilter(ListFilter.of(predicate));
     }
 
     @Override
@@ -287,11 +592,31 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return addressBook.equals(other.addressBook)
-                && filteredPersons.equals(other.filteredPersons)
-                && filteredReminders.equals(other.filteredReminders);
+                && sortedPersons.equals(other.sortedPersons)
+                && sortedReminders.equals(other.sortedReminders);
     }
     //@@author
 
+    @Override
+    public void updateFilteredReminderListByDueTime(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        setReminderFilter(ListFilter.lookingUp(book -> book.getDueBetween(from, to)));
+    }
+
+    @Override
+    public void updateFilteredReminderListToNextDue(LocalDateTime from, int count) {
+        requireNonNull(from);
+        setReminderFilter(ListFilter.lookingUpAmongAll(book -> book.getNextDue(from, count)));
+    }
+
+    @Override
+    public void updateFilteredReminderListByPriority(Set<Priority.Level> levels) {
+        requireNonNull(levels);
+        final Set<Priority.Level> copiedLevels = levels.isEmpty()
+                ? EnumSet.noneOf(Priority.Level.class) : EnumSet.copyOf(levels);
+        setReminderFilter(ListFilter.lookingUp(book -> book.getRemindersWithPriority(copiedLevels)));
+    }
+
     @Override
     public Boolean checkIfPersonListEmpty(ArrayList<ReadOnlyPerson> contactList) {
         if (filteredPersons.isEmpty()) {
@@ -310,67 +635,31 @@ public class ModelManager extends ComponentManager implements Model {
     }
     //@@author
 
-    /**
-     * @param contactList
-     * @throws CommandException
-     */
-    public void sortListByName(ArrayList<ReadOnlyPerson> contactList) throws CommandException {
-        contactList.addAll(filteredPersons);
-        Collections.sort(contactList, Comparator.comparing(p -> p.toString().toLowerCase()));
-
-        try {
-            addressBook.setPersons(contactList);
-            indicateAddressBookChanged();
-        } catch (DuplicatePersonException e) {
-            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
-        }
-    }
-
-    /**
-     * @param contactList
-     * @throws CommandException
-     */
-    public void sortListByAge(ArrayList<ReadOnlyPerson> contactList) throws CommandException {
-        contactList.addAll(filteredPersons);
-        Collections.sort(contactList, new AgeComparator());
-
-        try {
-            addressBook.setPersons(contactList);
-            indicateAddressBookChanged();
-        } catch (DuplicatePersonException e) {
-            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
-        }
+    @Override
+    public void sortFilteredPersonList(Comparator<ReadOnlyPerson> comparator) {
+        requireNonNull(comparator);
+        uiExecutor.execute(() -> sortedPersons.setComparator(comparator));
     }
 
-    /**
-     * @param contactList
-     * @throws CommandException
-     */
-    public void sortListByBirthday(ArrayList<ReadOnlyPerson> contactList) throws CommandException {
-        contactList.addAll(filteredPersons);
-        Collections.sort(contactList, new BirthdayComparator());
-
-        try {
-            addressBook.setPersons(contactList);
-            indicateAddressBookChanged();
-        } catch (DuplicatePersonException e) {
-            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
-        }
+    @Override
+    public void sortFilteredReminderListByPriority() {
+        uiExecutor.execute(() -> sortedReminders.setComparator(new PriorityComparator()));
     }
 
     /**
-     * @param contactList
-     * @throws CommandException
+     * What the UI's lists are to show: a snapshot of the address book, and the filters of the lists resolved against
+     * it. Never changed once made.
      */
-    public void sortListByPriority(ArrayList<ReadOnlyReminder> contactList) throws CommandException {
-        contactList.addAll(filteredReminders);
-        Collections.sort(contactList, new PriorityComparator());
-
-        try {
-            addressBook.setReminders(contactList);
-            indicateAddressBookChanged();
-        } catch (DuplicateReminderException e) {
-            throw new CommandException(MESSAGE_DUPLICATE_REMINDER);
+    private static class ShownLists {
+        private final ReadOnlyAddressBook snapshot;
+        private final ListFilter.Resolved<ReadOnlyPerson> persons;
+        private final ListFilter.Resolved<ReadOnlyReminder> reminders;
+
+        ShownLists(ReadOnlyAddressBook snapshot, ListFilter.Resolved<ReadOnlyPerson> persons,
+                   ListFilter.Resolved<ReadOnlyReminder> reminders) {
+            this.snapshot = snapshot;
+            this.persons = persons;
+            this.reminders = reminders;
         }
     }
 
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.reminder.ReadOnlyReminder;
 import seedu.address.model.tag.Tag;
@@ -28,4 +29,21 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Tag> getTagList();
 
+    /**
+     * Returns the versions of the shards that this address book is stored in.
+     * Address books that do not track their changes return {@link ShardVersions#UNTRACKED}.
+     */
+    default ShardVersions getShardVersions() {
+        return ShardVersions.UNTRACKED;
+    }
+
+    /**
+     * Returns an address book holding the current contents of this address book, which later changes to this
+     * address book do not affect.
+     */
+    default ReadOnlyAddressBook getSnapshot() {
+        return new ImmutableAddressBook(PersistentList.of(getPersonList()), PersistentList.of(getReminderList()),
+                PersistentList.of(getTagList()), getShardVersions());
+    }
+
 }
@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import seedu.address.model.person.PersonIndex;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.reminder.ReadOnlyReminder;
+import seedu.address.model.reminder.ReminderIndex;
+
+/**
+ * Gives the shards of an address book a new version whenever they change.
+ * It is kept up to date by registering {@link #personIndex()} with the person list and {@link #reminderIndex()}
+ * with the reminder list, and by calling {@link #markChanged(int)} when the tag list changes.
+ *
+ * @see ShardVersions
+ */
+class ShardVersionTracker {
+
+    private final long[] versions = new long[ShardVersions.SHARD_COUNT];
+
+    private final PersonIndex personIndex = new PersonIndex() {
+        @Override
+        public void add(ReadOnlyPerson person) {
+            markChanged(ShardVersions.personShardOf(person));
+        }
+
+        @Override
+        public void remove(ReadOnlyPerson person) {
+            markChanged(ShardVersions.personShardOf(person));
+        }
+
+        @Override
+        public void clear() {
+            for (int shard = 0; shard < ShardVersions.PERSON_SHARD_COUNT; shard++) {
+                markChanged(shard);
+            }
+        }
+    };
+
+    private final ReminderIndex reminderIndex = new ReminderIndex() {
+        @Override
+        public void add(ReadOnlyReminder reminder) {
+            markChanged(ShardVersions.REMINDER_SHARD);
+        }
+
+        @Override
+        public void remove(ReadOnlyReminder reminder) {
+            markChanged(ShardVersions.REMINDER_SHARD);
+        }
+
+        @Override
+        public void clear() {
+            markChanged(ShardVersions.REMINDER_SHARD);
+        }
+    };
+
+    ShardVersionTracker() {
+        ShardVersions.newVersions().copyTo(versions);
+    }
+
+    PersonIndex personIndex() {
+        return personIndex;
+    }
+
+    ReminderIndex reminderIndex() {
+        return reminderIndex;
+    }
+
+    /**
+     * Gives {@code shard} a new version.
+     */
+    void markChanged(int shard) {
+        versions[shard] = ShardVersions.nextVersion();
+    }
+
+    /**
+     * Takes on {@code source}'s versions, after the contents of the address book have been replaced by
+     * the contents of an address book with those versions. Does nothing if {@code source} is not tracked.
+     */
+    void adopt(ShardVersions source) {
+        if (source.isTracked()) {
+            source.copyTo(versions);
+        }
+    }
+
+    ShardVersions getVersions() {
+        return ShardVersions.of(versions);
+    }
+
+}
@@ -0,0 +1,108 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.model.person.PersonKey;
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * The versions of the shards that an address book is split into for storage: one shard for each of the
+ * {@link #PERSON_SHARD_COUNT} hash buckets of persons, one for the reminders and one for the tags.
+ * A shard gets a new version, unique across all address books, whenever its contents change, so two address books
+ * holding the same version of a shard hold the same contents in it, and a storage only needs to rewrite the shards
+ * whose versions differ from the versions it last saved.
+ * Guarantees: immutable
+ */
+public final class ShardVersions {
+
+    public static final int PERSON_SHARD_COUNT = 16;
+    public static final int REMINDER_SHARD = PERSON_SHARD_COUNT;
+    public static final int TAG_SHARD = PERSON_SHARD_COUNT + 1;
+    public static final int SHARD_COUNT = PERSON_SHARD_COUNT + 2;
+
+    /**
+     * The versions of an address book that does not track its changes, every shard of which is always changed.
+     */
+    public static final ShardVersions UNTRACKED = new ShardVersions(null);
+
+    private static final AtomicLong lastVersion = new AtomicLong();
+
+    private final long[] versions;
+
+    private ShardVersions(long[] versions) {
+        this.versions = versions;
+    }
+
+    /**
+     * Returns versions giving every shard a new version.
+     */
+    public static ShardVersions newVersions() {
+        long[] versions = new long[SHARD_COUNT];
+        Arrays.fill(versions, nextVersion());
+        return new ShardVersions(versions);
+    }
+
+    /**
+     * Returns the shard that {@code person} is stored in, which depends only on the person's identity key.
+     */
+    public static int personShardOf(ReadOnlyPerson person) {
+        requireNonNull(person);
+        return Math.floorMod(PersonKey.of(person).hashCode(), PERSON_SHARD_COUNT);
+    }
+
+    /**
+     * Returns a version that has not been given out before.
+     */
+    static long nextVersion() {
+        return lastVersion.incrementAndGet();
+    }
+
+    /**
+     * Returns versions of tracked shards holding a copy of {@code versions}.
+     */
+    static ShardVersions of(long[] versions) {
+        assert versions.length == SHARD_COUNT;
+        return new ShardVersions(versions.clone());
+    }
+
+    public boolean isTracked() {
+        return versions != null;
+    }
+
+    /**
+     * Returns true if {@code shard} may hold different contents than it did at {@code other}.
+     */
+    public boolean isChangedSince(ShardVersions other, int shard) {
+        requireNonNull(other);
+        return !isTracked() || !other.isTracked() || versions[shard] != other.versions[shard];
+    }
+
+    /**
+     * Copies the versions into {@code destination}.
+     */
+    void copyTo(long[] destination) {
+        assert isTracked();
+        System.arraycopy(versions, 0, destination, 0, SHARD_COUNT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ShardVersions // instanceof handles nulls
+                && Arrays.equals(versions, ((ShardVersions) other).versions));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(versions);
+    }
+
+    @Override
+    public String toString() {
+        return isTracked() ? Arrays.toString(versions) : "untracked";
+    }
+
+}
@@ -0,0 +1,66 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * A durable log of the commands that change the address book, kept so that they can be undone in later sessions.
+ * Every command that is executed, undone or redone is appended to the log, and the commands that were left undoable
+ * at the end of the earlier sessions can be read back from it.
+ */
+public interface UndoHistoryLog {
+
+    /**
+     * Appends the execution of the command entered as {@code commandText}, which is undone by {@code undoDelta}.
+     */
+    void logExecuted(String commandText, AddressBookDelta undoDelta);
+
+    /**
+     * Appends the undoing of the most recently executed or redone command that has not been undone.
+     */
+    void logUndone();
+
+    /**
+     * Appends the redoing of the most recently undone command that has not been redone.
+     */
+    void logRedone();
+
+    /**
+     * Returns the positions of the commands that could still be undone when this log was opened, oldest first.
+     *
+     * @throws IOException if there was any problem reading the log.
+     */
+    List<Long> readHistory() throws IOException;
+
+    /**
+     * Reads back the command logged at {@code position}.
+     *
+     * @throws DataConversionException if the command could not be decoded.
+     * @throws IOException if there was any problem reading the log.
+     */
+    Entry read(long position) throws DataConversionException, IOException;
+
+    /**
+     * A command read back from the log.
+     */
+    class Entry {
+        private final String commandText;
+        private final AddressBookDelta undoDelta;
+
+        public Entry(String commandText, AddressBookDelta undoDelta) {
+            this.commandText = commandText;
+            this.undoDelta = undoDelta;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public AddressBookDelta getUndoDelta() {
+            return undoDelta;
+        }
+    }
+
+}
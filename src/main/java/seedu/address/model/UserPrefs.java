@@ -9,12 +9,22 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    /**
+     * The file formats that the address book can be stored in.
+     */
+    public enum AddressBookFormat { XML, BINARY, SHARDED }
+
     private GuiSettings guiSettings;
     private String addressBookFilePathPrefix = "data/";
     private String addressBookFilePathSufix = ".xml";
     private String addressBookName = "MyAddressBook";
     private String addressBookFilePath = "data/addressbook.xml";
     private String userDataBase = "data/database.xml";
+    private long saveDebounceMillis = 200;
+    private AddressBookFormat addressBookFormat = AddressBookFormat.XML;
+    private long undoMemoryBudget = 16L * 1024 * 1024;
+    private long undoDiskBudget = 64L * 1024 * 1024;
+    private boolean undoHistoryLogged = true;
 
     public UserPrefs() {
         this.setGuiSettings(500, 500, 0, 0);
@@ -53,6 +63,67 @@ public class UserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    /**
+     * Returns how long changes to the address book are collected before they are saved together.
+     * A value of 0 or less saves every change as it happens.
+     */
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
+    /**
+     * Returns the format that the address book is stored in.
+     * Binary and sharded address books are stored next to {@link #getAddressBookFilePath()}, which they are
+     * migrated from.
+     */
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    /**
+     * Returns the estimated number of bytes of memory that the undo history may take.
+     * Older undo history beyond it is moved to disk.
+     */
+    public long getUndoMemoryBudget() {
+        return undoMemoryBudget;
+    }
+
+    public void setUndoMemoryBudget(long undoMemoryBudget) {
+        this.undoMemoryBudget = undoMemoryBudget;
+    }
+
+    /**
+     * Returns the number of bytes of disk that the undo history moved out of memory may take.
+     * The oldest undo history beyond it is forgotten.
+     */
+    public long getUndoDiskBudget() {
+        return undoDiskBudget;
+    }
+
+    public void setUndoDiskBudget(long undoDiskBudget) {
+        this.undoDiskBudget = undoDiskBudget;
+    }
+
+    /**
+     * Returns true if the undo history is logged beside the address book file, so that commands can still be undone
+     * after the application is restarted.
+     */
+    public boolean isUndoHistoryLogged() {
+        return undoHistoryLogged;
+    }
+
+    public void setUndoHistoryLogged(boolean undoHistoryLogged) {
+        this.undoHistoryLogged = undoHistoryLogged;
+    }
+
     public String getAddressBookName() {
         return addressBookName;
     }
@@ -74,12 +145,18 @@ public class UserPrefs {
 
         return Objects.equals(guiSettings, o.guiSettings)
                 && Objects.equals(addressBookFilePath, o.addressBookFilePath)
-                && Objects.equals(addressBookName, o.addressBookName);
+                && Objects.equals(addressBookName, o.addressBookName)
+                && saveDebounceMillis == o.saveDebounceMillis
+                && addressBookFormat == o.addressBookFormat
+                && undoMemoryBudget == o.undoMemoryBudget
+                && undoDiskBudget == o.undoDiskBudget
+                && undoHistoryLogged == o.undoHistoryLogged;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, addressBookName);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookName, saveDebounceMillis, addressBookFormat,
+                undoMemoryBudget, undoDiskBudget, undoHistoryLogged);
     }
 
     @Override
@@ -4,8 +4,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.time.MonthDay;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Optional;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 
@@ -18,7 +20,14 @@ public class Birthday {
     public static final String MESSAGE_BIRTHDAY_CONSTRAINTS =
             "Person birthdays must be either a valid date, of format DD/MM/YYYY or empty";
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    // sorts the persons without a birthday after everyone else
+    private static final long NO_BIRTHDAY_SORT_KEY = Long.MAX_VALUE;
+
     public final String value;
+    private final LocalDate date; // null when the birthday is empty
+    private final long ageSortKey;
+    private final long calendarSortKey;
 
     /**
      * Validates given birthday.
@@ -32,6 +41,11 @@ public class Birthday {
             throw new IllegalValueException(MESSAGE_BIRTHDAY_CONSTRAINTS);
         }
         this.value = trimmedBirthday;
+        this.date = trimmedBirthday.isEmpty() ? null : LocalDate.parse(trimmedBirthday, DATE_FORMATTER);
+        this.ageSortKey = (date == null) ? NO_BIRTHDAY_SORT_KEY : date.toEpochDay();
+        // the digits of mmddyyyy, as the year always has four digits
+        this.calendarSortKey = (date == null) ? NO_BIRTHDAY_SORT_KEY
+                : (date.getMonthValue() * 100L + date.getDayOfMonth()) * 10000L + date.getYear();
     }
 
     /**
@@ -45,15 +59,48 @@ public class Birthday {
             return true;
         }
 
-        final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
         try {
-            LocalDate.parse(trimmedBirthday, dateFormatter);
+            LocalDate.parse(trimmedBirthday, DATE_FORMATTER);
         } catch (DateTimeParseException dtpe) {
             return false;
         }
         return true;
     }
 
+    /**
+     * Returns the day and month of the birthday, or an empty Optional if the birthday is empty.
+     */
+    public Optional<MonthDay> getMonthDay() {
+        return Optional.ofNullable(date).map(MonthDay::from);
+    }
+
+    /**
+     * Returns the first date on or after {@code from} on which the birthday falls, or an empty Optional if the
+     * birthday is empty. A birthday on 29 February falls on 28 February in years that are not leap years.
+     */
+    public Optional<LocalDate> getNextOccurrence(LocalDate from) {
+        requireNonNull(from);
+        return getMonthDay().map(monthDay -> {
+            LocalDate thisYear = monthDay.atYear(from.getYear());
+            return thisYear.isBefore(from) ? monthDay.atYear(from.getYear() + 1) : thisYear;
+        });
+    }
+
+    /**
+     * Returns the key that orders birthdays from the earliest date to the latest, and so persons from the oldest
+     * to the youngest. Empty birthdays come last.
+     */
+    public long getAgeSortKey() {
+        return ageSortKey;
+    }
+
+    /**
+     * Returns the key that orders birthdays by month and day, and then by year. Empty birthdays come last.
+     */
+    public long getCalendarSortKey() {
+        return calendarSortKey;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An index of the persons by the day of the year of their {@code Birthday}.
+ * Each of the 366 days of a leap year has a slot holding the persons born on that day, so that the persons whose
+ * birthdays fall within the next few days are found by visiting one slot per day, in time proportional to the
+ * number of days plus the number of persons found, without sorting or scanning the whole list.
+ * Persons with an empty birthday are not indexed.
+ */
+public class BirthdayCalendarIndex implements PersonIndex {
+
+    /**
+     * The most days ahead that can be looked up. A window of up to 365 dates never reaches the same day of the
+     * following year, so no slot is visited twice.
+     */
+    public static final int MAX_DAYS_AHEAD = 364;
+
+    private static final int SLOT_COUNT = 366;
+    private static final int LEAP_YEAR = 2000;
+    private static final MonthDay LEAP_DAY = MonthDay.of(Month.FEBRUARY, 29);
+
+    private final List<Set<ReadOnlyPerson>> slots = new ArrayList<>(SLOT_COUNT);
+
+    public BirthdayCalendarIndex() {
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            slots.add(PostingLists.newPostingList());
+        }
+    }
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        requireNonNull(person);
+        slotOf(person).ifPresent(slot -> slots.get(slot).add(person));
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        requireNonNull(person);
+        slotOf(person).ifPresent(slot -> slots.get(slot).remove(person));
+    }
+
+    @Override
+    public void clear() {
+        slots.forEach(Set::clear);
+    }
+
+    /**
+     * Returns the persons whose birthdays fall from {@code from} to {@code daysAhead} days after it, inclusive,
+     * in the order their birthdays come. {@code daysAhead} is capped at {@link #MAX_DAYS_AHEAD}.
+     */
+    public List<ReadOnlyPerson> getBirthdaysWithin(LocalDate from, int daysAhead) {
+        requireNonNull(from);
+        final List<ReadOnlyPerson> found = new ArrayList<>();
+        final int lastDay = Math.min(daysAhead, MAX_DAYS_AHEAD);
+        for (int day = 0; day <= lastDay; day++) {
+            LocalDate date = from.plusDays(day);
+            found.addAll(slots.get(slotOf(MonthDay.from(date))));
+            if (isStandInForLeapDay(date)) {
+                found.addAll(slots.get(slotOf(LEAP_DAY)));
+            }
+        }
+        return found;
+    }
+
+    private static Optional<Integer> slotOf(ReadOnlyPerson person) {
+        return person.getBirthday().getMonthDay().map(BirthdayCalendarIndex::slotOf);
+    }
+
+    /**
+     * Returns the slot of {@code monthDay}, which is its day of the year in a leap year, counting from 0.
+     */
+    private static int slotOf(MonthDay monthDay) {
+        return monthDay.atYear(LEAP_YEAR).getDayOfYear() - 1;
+    }
+
+    /**
+     * Returns true if {@code date} is 28 February of a year that is not a leap year, when the birthdays on
+     * 29 February fall.
+     */
+    private static boolean isStandInForLeapDay(LocalDate date) {
+        return date.getMonth() == Month.FEBRUARY && date.getDayOfMonth() == 28 && !Year.isLeap(date.getYear());
+    }
+
+}
@@ -2,12 +2,14 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 
 /**
- * Tests that a {@code ReadOnlyPerson}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code ReadOnlyPerson}'s {@code Email} matches any of the keywords given.
+ * A keyword starting with {@code @} matches every email at that domain or any of its subdomains.
  */
 public class EmailContainsKeywordsPredicate implements Predicate<ReadOnlyPerson> {
     private final List<String> keywords;
@@ -16,10 +18,26 @@ public class EmailContainsKeywordsPredicate implements Predicate<ReadOnlyPerson>
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(ReadOnlyPerson person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getEmail().value, keyword));
+        return keywords.stream().anyMatch(keyword -> matches(person.getEmail().value, keyword));
+    }
+
+    /**
+     * Returns true if {@code email} is at the domain given by {@code keyword}, or is the address {@code keyword}.
+     */
+    private static boolean matches(String email, String keyword) {
+        String trimmedKeyword = keyword.trim();
+        if (!trimmedKeyword.startsWith(EmailIndex.DOMAIN_QUERY_PREFIX)) {
+            return StringUtil.containsWordIgnoreCase(email, keyword);
+        }
+        String domain = trimmedKeyword.substring(EmailIndex.DOMAIN_QUERY_PREFIX.length()).toLowerCase(Locale.ROOT);
+        String emailDomain = email.substring(email.indexOf('@') + 1).toLowerCase(Locale.ROOT);
+        return emailDomain.equals(domain) || emailDomain.endsWith("." + domain);
     }
 
     @Override
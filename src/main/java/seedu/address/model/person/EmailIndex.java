@@ -0,0 +1,164 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A two-level index over the persons' {@code Email} addresses, ignoring case.
+ * The first level is a trie over the domain labels in reverse order, e.g. {@code com}, {@code example}, {@code mail}
+ * for {@code mail.example.com}, so that everyone at a domain or any of its subdomains sits in a single subtree.
+ * The second level maps the local parts of the addresses at each domain to the persons having them.
+ */
+public class EmailIndex implements PersonIndex {
+
+    /** Marks a keyword as a domain query, e.g. {@code @example.com}. */
+    public static final String DOMAIN_QUERY_PREFIX = "@";
+
+    private final DomainNode root = new DomainNode();
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        requireNonNull(person);
+        final String email = normalize(person.getEmail().value);
+        DomainNode node = root;
+        for (String label : reversedLabels(domainOf(email))) {
+            node = node.children.computeIfAbsent(label, unused -> new DomainNode());
+        }
+        PostingLists.addPosting(node.localParts, localPartOf(email), person);
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        requireNonNull(person);
+        final String email = normalize(person.getEmail().value);
+        final Deque<DomainNode> path = new ArrayDeque<>();
+        final String[] labels = reversedLabels(domainOf(email));
+        DomainNode node = root;
+        for (String label : labels) {
+            path.push(node);
+            node = node.children.get(label);
+            if (node == null) {
+                return;
+            }
+        }
+        PostingLists.removePosting(node.localParts, localPartOf(email), person);
+
+        // prune the domain nodes that no longer lead to any address
+        for (int i = labels.length - 1; i >= 0 && node.isEmpty(); i--) {
+            DomainNode parent = path.pop();
+            parent.children.remove(labels[i]);
+            node = parent;
+        }
+    }
+
+    @Override
+    public void clear() {
+        root.children.clear();
+        root.localParts.clear();
+    }
+
+    /**
+     * Returns the persons matching any of {@code keywords}, ignoring case.
+     * A keyword starting with {@link #DOMAIN_QUERY_PREFIX} matches every address at that domain or its subdomains;
+     * any other keyword matches the whole address.
+     */
+    public Set<ReadOnlyPerson> getPersonsMatchingAny(Collection<String> keywords) {
+        final Set<ReadOnlyPerson> matches = PostingLists.newPostingList();
+        for (String keyword : keywords) {
+            String normalizedKeyword = normalize(keyword);
+            if (normalizedKeyword.startsWith(DOMAIN_QUERY_PREFIX)) {
+                collectDomain(normalizedKeyword.substring(DOMAIN_QUERY_PREFIX.length()), matches);
+            } else if (normalizedKeyword.contains("@")) {
+                collectAddress(normalizedKeyword, matches);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Adds the persons with the exact address {@code email} to {@code matches}.
+     */
+    private void collectAddress(String email, Set<ReadOnlyPerson> matches) {
+        DomainNode node = find(domainOf(email));
+        if (node != null) {
+            matches.addAll(node.localParts.getOrDefault(localPartOf(email), PostingLists.newPostingList()));
+        }
+    }
+
+    /**
+     * Adds every person with an address at {@code domain} or any of its subdomains to {@code matches}.
+     */
+    private void collectDomain(String domain, Set<ReadOnlyPerson> matches) {
+        DomainNode top = find(domain);
+        if (top == null) {
+            return;
+        }
+        final Deque<DomainNode> pending = new ArrayDeque<>();
+        pending.push(top);
+        while (!pending.isEmpty()) {
+            DomainNode node = pending.pop();
+            node.localParts.values().forEach(matches::addAll);
+            node.children.values().forEach(pending::push);
+        }
+    }
+
+    /**
+     * Returns the trie node of {@code domain}, or null if no address is at that domain or its subdomains.
+     */
+    private DomainNode find(String domain) {
+        DomainNode node = root;
+        for (String label : reversedLabels(domain)) {
+            node = node.children.get(label);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String localPartOf(String email) {
+        return email.substring(0, email.indexOf('@'));
+    }
+
+    private static String domainOf(String email) {
+        return email.substring(email.indexOf('@') + 1);
+    }
+
+    /**
+     * Returns the labels of {@code domain} from the top-level label down, e.g. {@code [com, example]} for
+     * {@code example.com}. Empty labels are kept so that every valid address maps to exactly one trie node.
+     */
+    private static String[] reversedLabels(String domain) {
+        final String[] labels = domain.split("\\.", -1);
+        for (int i = 0, j = labels.length - 1; i < j; i++, j--) {
+            String label = labels[i];
+            labels[i] = labels[j];
+            labels[j] = label;
+        }
+        return labels;
+    }
+
+    /**
+     * A domain in the trie, holding the addresses at exactly that domain and the trie nodes of its subdomains.
+     */
+    private static class DomainNode {
+        private final Map<String, DomainNode> children = new HashMap<>();
+        private final Map<String, Set<ReadOnlyPerson>> localParts = new HashMap<>();
+
+        private boolean isEmpty() {
+            return children.isEmpty() && localParts.isEmpty();
+        }
+    }
+
+}
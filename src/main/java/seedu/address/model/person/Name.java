@@ -2,6 +2,10 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.regex.Pattern;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
@@ -18,8 +22,11 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern NAME_VALIDATION_PATTERN = Pattern.compile(NAME_VALIDATION_REGEX);
 
     public final String fullName;
+    // computed on first use, as most names are never sorted; volatile as names are shared with the UI thread
+    private volatile CollationKey sortKey;
 
     /**
      * Validates given name.
@@ -39,9 +46,22 @@ public class Name {
      * Returns true if a given string is a valid person name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        return NAME_VALIDATION_PATTERN.matcher(test).matches();
     }
 
+    /**
+     * Returns the key that orders names alphabetically under the rules of the default locale, with differences
+     * in case only breaking ties. Comparing the keys is much cheaper than comparing the names with a collator.
+     */
+    public CollationKey getSortKey() {
+        CollationKey key = sortKey;
+        if (key == null) {
+            // keys computed twice by racing threads are equal, so either one may be kept
+            key = Collator.getInstance().getCollationKey(fullName);
+            sortKey = key;
+        }
+        return key;
+    }
 
     @Override
     public String toString() {
@@ -0,0 +1,14 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+
+/**
+ * Compares Name of ReadOnlyPerson in alphabetical order
+ */
+public class NameComparator implements Comparator<ReadOnlyPerson> {
+
+    @Override
+    public int compare(ReadOnlyPerson firstPerson, ReadOnlyPerson secondPerson) {
+        return firstPerson.getName().getSortKey().compareTo(secondPerson.getName().getSortKey());
+    }
+}
@@ -15,6 +15,10 @@ public class NameContainsKeywordsPredicate implements Predicate<ReadOnlyPerson>
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(ReadOnlyPerson person) {
         return keywords.stream()
@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the lower-cased words of each person's name to the persons having that word in their name.
+ * Matching follows the same full-word, case-insensitive rule as {@link NameContainsKeywordsPredicate}.
+ */
+public class NameTokenIndex implements PersonIndex {
+
+    private final Map<String, Set<ReadOnlyPerson>> postings = new HashMap<>();
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            PostingLists.addPosting(postings, token, person);
+        }
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            PostingLists.removePosting(postings, token, person);
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords}, as the union of their posting lists, in time
+     * proportional to the number of keywords and persons found rather than to the number of persons indexed.
+     */
+    public Set<ReadOnlyPerson> getPersonsMatchingAny(Collection<String> keywords) {
+        final Set<ReadOnlyPerson> matches = PostingLists.newPostingList();
+        for (String keyword : normalize(keywords)) {
+            matches.addAll(postings.getOrDefault(keyword, Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns {@code keywords} in the lower-cased form in which names are indexed.
+     */
+    private static List<String> normalize(Collection<String> keywords) {
+        final List<String> normalized = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            normalized.add(keyword.trim().toLowerCase(Locale.ROOT));
+        }
+        return normalized;
+    }
+
+    private static String[] tokenize(String fullName) {
+        return fullName.toLowerCase(Locale.ROOT).split("\\s+");
+    }
+
+}
@@ -0,0 +1,26 @@
+package seedu.address.model.person;
+
+/**
+ * A secondary index over the persons stored in a {@link UniquePersonList}.
+ * The list notifies its indexes of every person it stores or discards before the change becomes visible through
+ * {@link UniquePersonList#asObservableList()}, so views that are filtered through an index never observe it stale.
+ * The persons passed in are the instances held by the list, so indexes may rely on their identity.
+ */
+public interface PersonIndex {
+
+    /**
+     * Indexes {@code person}, which has just been stored in the list.
+     */
+    void add(ReadOnlyPerson person);
+
+    /**
+     * Removes {@code person}, which is about to be discarded from the list, from the index.
+     */
+    void remove(ReadOnlyPerson person);
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear();
+
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * A value-based identity key for a {@code ReadOnlyPerson}.
+ * Two persons map to equal keys if and only if they have the same state as defined by
+ * {@link ReadOnlyPerson#isSameStateAs(ReadOnlyPerson)}, which allows persons to be looked up in hash-based
+ * structures regardless of which copy of the person is held.
+ * Guarantees: immutable
+ */
+public final class PersonKey {
+
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final String birthday;
+    private final int hash;
+
+    private PersonKey(String name, String phone, String email, String address, String birthday) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.birthday = birthday;
+        this.hash = Objects.hash(name, phone, email, address, birthday);
+    }
+
+    /**
+     * Returns the identity key of {@code person}.
+     */
+    public static PersonKey of(ReadOnlyPerson person) {
+        requireNonNull(person);
+        Birthday birthday = person.getBirthday();
+        return new PersonKey(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getAddress().value, (birthday == null) ? null : birthday.value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PersonKey)) {
+            return false;
+        }
+        PersonKey o = (PersonKey) other;
+        return hash == o.hash
+                && name.equals(o.name)
+                && phone.equals(o.phone)
+                && email.equals(o.email)
+                && address.equals(o.address)
+                && Objects.equals(birthday, o.birthday);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + phone + " " + email;
+    }
+
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+/**
+ * An edit of one person in a batch of edits: the person {@code target} is to be replaced by {@code editedPerson}.
+ * Guarantees: immutable; both persons are present and not null.
+ */
+public class PersonUpdate {
+
+    private final ReadOnlyPerson target;
+    private final ReadOnlyPerson editedPerson;
+
+    public PersonUpdate(ReadOnlyPerson target, ReadOnlyPerson editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        this.target = target;
+        this.editedPerson = editedPerson;
+    }
+
+    public ReadOnlyPerson getTarget() {
+        return target;
+    }
+
+    public ReadOnlyPerson getEditedPerson() {
+        return editedPerson;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonUpdate // instanceof handles nulls
+                && this.target.equals(((PersonUpdate) other).target)
+                && this.editedPerson.equals(((PersonUpdate) other).editedPerson)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * target.hashCode() + editedPerson.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return target.getName() + " -> " + editedPerson.getAsText();
+    }
+
+}
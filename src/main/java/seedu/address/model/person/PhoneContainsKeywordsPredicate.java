@@ -1,32 +1,76 @@
 //@@author inGall
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 
 /**
- * Tests that a {@code ReadOnlyPerson}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code ReadOnlyPerson}'s {@code Phone} matches any of the keywords given.
  */
 public class PhoneContainsKeywordsPredicate implements Predicate<ReadOnlyPerson> {
+
+    /**
+     * How a keyword is matched against a phone number.
+     */
+    public enum MatchMode {
+        /** The keyword is the whole phone number. */
+        EXACT,
+        /** The phone number starts with the keyword. */
+        PREFIX,
+        /** The phone number contains the keyword anywhere. */
+        SUBSTRING
+    }
+
     private final List<String> keywords;
+    private final MatchMode matchMode;
 
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, MatchMode.EXACT);
+    }
+
+    public PhoneContainsKeywordsPredicate(List<String> keywords, MatchMode matchMode) {
+        requireNonNull(matchMode);
         this.keywords = keywords;
+        this.matchMode = matchMode;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public MatchMode getMatchMode() {
+        return matchMode;
     }
 
     @Override
     public boolean test(ReadOnlyPerson person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getPhone().value, keyword));
+        return keywords.stream().anyMatch(keyword -> matches(person.getPhone().value, keyword));
+    }
+
+    /**
+     * Returns true if {@code phone} matches {@code keyword} under this predicate's {@code MatchMode}.
+     */
+    private boolean matches(String phone, String keyword) {
+        switch (matchMode) {
+        case PREFIX:
+            return phone.startsWith(keyword.trim());
+        case SUBSTRING:
+            return phone.contains(keyword.trim());
+        default:
+            return StringUtil.containsWordIgnoreCase(phone, keyword);
+        }
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof PhoneContainsKeywordsPredicate // instanceof handles nulls
-                && this.keywords.equals(((PhoneContainsKeywordsPredicate) other).keywords)); // state check
+                && this.keywords.equals(((PhoneContainsKeywordsPredicate) other).keywords)
+                && this.matchMode == ((PhoneContainsKeywordsPredicate) other).matchMode); // state check
     }
 
 }
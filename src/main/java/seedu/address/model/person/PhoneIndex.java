@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.PhoneContainsKeywordsPredicate.MatchMode;
+
+/**
+ * A sorted index over the persons' {@code Phone} numbers.
+ * Every number is kept in a sorted map together with all of its suffixes, so that exact, prefix and substring
+ * lookups are range scans whose cost is proportional to the number of matches rather than to the number of persons.
+ */
+public class PhoneIndex implements PersonIndex {
+
+    /** Upper bound of the range of keys starting with a given prefix. */
+    private static final char RANGE_END = Character.MAX_VALUE;
+
+    private final NavigableMap<String, Set<ReadOnlyPerson>> numbers = new TreeMap<>();
+    private final NavigableMap<String, Set<ReadOnlyPerson>> suffixes = new TreeMap<>();
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        requireNonNull(person);
+        final String number = person.getPhone().value;
+        PostingLists.addPosting(numbers, number, person);
+        for (int i = 0; i < number.length(); i++) {
+            PostingLists.addPosting(suffixes, number.substring(i), person);
+        }
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        requireNonNull(person);
+        final String number = person.getPhone().value;
+        PostingLists.removePosting(numbers, number, person);
+        for (int i = 0; i < number.length(); i++) {
+            PostingLists.removePosting(suffixes, number.substring(i), person);
+        }
+    }
+
+    @Override
+    public void clear() {
+        numbers.clear();
+        suffixes.clear();
+    }
+
+    /**
+     * Returns the persons whose phone number matches any of {@code keywords} under {@code mode}.
+     */
+    public Set<ReadOnlyPerson> getPersonsMatchingAny(Collection<String> keywords, MatchMode mode) {
+        requireNonNull(mode);
+        final Set<ReadOnlyPerson> matches = PostingLists.newPostingList();
+        for (String keyword : normalize(keywords)) {
+            switch (mode) {
+            case EXACT:
+                matches.addAll(numbers.getOrDefault(keyword, Collections.emptySet()));
+                break;
+            case PREFIX:
+                numbers.subMap(keyword, keyword + RANGE_END).values().forEach(matches::addAll);
+                break;
+            case SUBSTRING:
+                suffixes.subMap(keyword, keyword + RANGE_END).values().forEach(matches::addAll);
+                break;
+            default:
+                throw new AssertionError("Unknown match mode " + mode);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the non-empty {@code keywords}, trimmed.
+     */
+    private static List<String> normalize(Collection<String> keywords) {
+        final List<String> normalized = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            String trimmedKeyword = keyword.trim();
+            if (!trimmedKeyword.isEmpty()) {
+                normalized.add(trimmedKeyword);
+            }
+        }
+        return normalized;
+    }
+
+}
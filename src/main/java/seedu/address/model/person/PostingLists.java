@@ -0,0 +1,42 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Helper functions for the posting lists of the {@link PersonIndex} implementations.
+ * Posting lists hold the exact instances stored in the person list and compare them by identity,
+ * so that persons with equal values stay distinct entries.
+ */
+public final class PostingLists {
+
+    private PostingLists() {}
+
+    public static Set<ReadOnlyPerson> newPostingList() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Adds {@code person} to the posting list of {@code key}, creating the posting list if needed.
+     */
+    public static <K> void addPosting(Map<K, Set<ReadOnlyPerson>> postings, K key, ReadOnlyPerson person) {
+        postings.computeIfAbsent(key, unused -> newPostingList()).add(person);
+    }
+
+    /**
+     * Removes {@code person} from the posting list of {@code key}, dropping the posting list once it is empty.
+     */
+    public static <K> void removePosting(Map<K, Set<ReadOnlyPerson>> postings, K key, ReadOnlyPerson person) {
+        Set<ReadOnlyPerson> postingList = postings.get(key);
+        if (postingList == null) {
+            return;
+        }
+        postingList.remove(person);
+        if (postingList.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+}
@@ -2,14 +2,22 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.fxmisc.easybind.EasyBind;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -17,6 +25,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
  *
  * Supports a minimal set of list operations.
+ * A hash index from each person's {@link PersonKey} to its position in the list is kept in sync with the list,
+ * so that membership checks, replacements and removals do not need to scan the whole list.
+ * Secondary {@link PersonIndex}es can be registered with {@link #addIndex(PersonIndex)} to be kept in sync as well.
  *
  * @see Person#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
@@ -26,13 +37,27 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     // used by asObservableList()
     private final ObservableList<ReadOnlyPerson> mappedList = EasyBind.map(internalList, (person) -> person);
+    // position of every person in internalList, keyed by the person's identity key
+    private final Map<PersonKey, Integer> positions = new HashMap<>();
+    private final List<PersonIndex> indexes = new ArrayList<>();
+    // the same persons as internalList, in a list whose versions can be kept as snapshots at no cost
+    private PersistentList<ReadOnlyPerson> snapshot = PersistentList.empty();
+
+    /**
+     * Registers {@code index} to be kept in sync with this list, indexing the persons already in the list.
+     */
+    public void addIndex(PersonIndex index) {
+        requireNonNull(index);
+        internalList.forEach(index::add);
+        indexes.add(index);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(ReadOnlyPerson toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return positions.containsKey(PersonKey.of(toCheck));
     }
 
     /**
@@ -42,10 +67,15 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(ReadOnlyPerson toAdd) throws DuplicatePersonException {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        PersonKey key = PersonKey.of(toAdd);
+        if (positions.containsKey(key)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(new Person(toAdd));
+        Person newPerson = new Person(toAdd);
+        positions.put(key, internalList.size());
+        indexes.forEach(index -> index.add(newPerson));
+        snapshot = snapshot.plus(newPerson);
+        internalList.add(newPerson);
     }
 
     /**
@@ -58,16 +88,96 @@ public class UniquePersonList implements Iterable<Person> {
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        PersonKey targetKey = PersonKey.of(target);
+        Integer index = positions.get(targetKey);
+        if (index == null) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.equals(editedPerson) && internalList.contains(editedPerson)) {
+        PersonKey editedKey = PersonKey.of(editedPerson);
+        if (!targetKey.equals(editedKey) && positions.containsKey(editedKey)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, new Person(editedPerson));
+        Person oldPerson = internalList.get(index);
+        Person newPerson = new Person(editedPerson);
+        positions.remove(targetKey);
+        positions.put(editedKey, index);
+        for (PersonIndex personIndex : indexes) {
+            personIndex.remove(oldPerson);
+            personIndex.add(newPerson);
+        }
+        snapshot = snapshot.with(index, newPerson);
+        internalList.set(index, newPerson);
+    }
+
+    /**
+     * Applies all {@code updates} in a single pass, publishing them to observers as one replacement of the list.
+     * Either all updates are applied or, if an exception is thrown, none are.
+     * If several updates target the same person, the last of them is applied.
+     *
+     * @throws DuplicatePersonException if the list would contain equivalent persons after the updates.
+     * @throws PersonNotFoundException if the target of any update could not be found in the list.
+     */
+    public void updatePersons(Collection<PersonUpdate> updates)
+            throws DuplicatePersonException, PersonNotFoundException {
+        requireNonNull(updates);
+
+        // validate the whole batch before changing anything
+        final Map<Integer, Person> replacements = resolveUpdates(updates);
+        final List<Person> updatedList = new ArrayList<>(internalList);
+        for (Map.Entry<Integer, Person> replacement : replacements.entrySet()) {
+            Person oldPerson = updatedList.set(replacement.getKey(), replacement.getValue());
+            positions.remove(PersonKey.of(oldPerson));
+            indexes.forEach(personIndex -> personIndex.remove(oldPerson));
+        }
+        for (Map.Entry<Integer, Person> replacement : replacements.entrySet()) {
+            positions.put(PersonKey.of(replacement.getValue()), replacement.getKey());
+            indexes.forEach(personIndex -> personIndex.add(replacement.getValue()));
+            snapshot = snapshot.with(replacement.getKey(), replacement.getValue());
+        }
+        internalList.setAll(updatedList);
+    }
+
+    /**
+     * Checks that {@link #updatePersons(Collection)} would apply all {@code updates}, without changing the list.
+     *
+     * @throws DuplicatePersonException if the list would contain equivalent persons after the updates.
+     * @throws PersonNotFoundException if the target of any update could not be found in the list.
+     */
+    public void checkUpdates(Collection<PersonUpdate> updates)
+            throws DuplicatePersonException, PersonNotFoundException {
+        requireNonNull(updates);
+        resolveUpdates(updates);
+    }
+
+    /**
+     * Returns the copies of the edited persons of {@code updates} by the positions of their targets in the list.
+     *
+     * @throws DuplicatePersonException if the list would contain equivalent persons after the updates.
+     * @throws PersonNotFoundException if the target of any update could not be found in the list.
+     */
+    private Map<Integer, Person> resolveUpdates(Collection<PersonUpdate> updates)
+            throws DuplicatePersonException, PersonNotFoundException {
+        final Map<Integer, Person> replacements = new LinkedHashMap<>();
+        final Set<PersonKey> targetKeys = new HashSet<>();
+        for (PersonUpdate update : updates) {
+            PersonKey targetKey = PersonKey.of(update.getTarget());
+            Integer index = positions.get(targetKey);
+            if (index == null) {
+                throw new PersonNotFoundException();
+            }
+            targetKeys.add(targetKey);
+            replacements.put(index, new Person(update.getEditedPerson()));
+        }
+        final Set<PersonKey> editedKeys = new HashSet<>();
+        for (Person editedPerson : replacements.values()) {
+            PersonKey editedKey = PersonKey.of(editedPerson);
+            if (!editedKeys.add(editedKey) || (positions.containsKey(editedKey) && !targetKeys.contains(editedKey))) {
+                throw new DuplicatePersonException();
+            }
+        }
+        return replacements;
     }
 
     /**
@@ -77,23 +187,133 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
         requireNonNull(toRemove);
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
-        if (!personFoundAndDeleted) {
+        final Integer index = positions.remove(PersonKey.of(toRemove));
+        if (index == null) {
+            throw new PersonNotFoundException();
+        }
+        Person removedPerson = internalList.get(index);
+        indexes.forEach(personIndex -> personIndex.remove(removedPerson));
+        snapshot = snapshot.minus(index);
+        internalList.remove(index.intValue());
+        shiftPositionsFrom(index);
+        return true;
+    }
+
+    /**
+     * Replaces the persons {@code toRemove}, which must be in the list starting at position {@code index},
+     * with {@code toInsert}. Only the spliced positions of the list are changed.
+     *
+     * @throws PersonNotFoundException if the persons starting at {@code index} are not equal to {@code toRemove}.
+     * @throws DuplicatePersonException if the list would contain equivalent persons after the splice.
+     */
+    public void splice(int index, List<? extends ReadOnlyPerson> toRemove, List<? extends ReadOnlyPerson> toInsert)
+            throws DuplicatePersonException, PersonNotFoundException {
+        CollectionUtil.requireAllNonNull(toRemove, toInsert);
+        final int end = index + toRemove.size();
+        if (index < 0 || end > internalList.size()) {
             throw new PersonNotFoundException();
         }
-        return personFoundAndDeleted;
+
+        // validate the whole splice before changing anything
+        final Set<PersonKey> removedKeys = new HashSet<>();
+        for (int i = index; i < end; i++) {
+            if (!internalList.get(i).equals(toRemove.get(i - index))) {
+                throw new PersonNotFoundException();
+            }
+            removedKeys.add(PersonKey.of(internalList.get(i)));
+        }
+        final Set<PersonKey> insertedKeys = new HashSet<>();
+        final List<Person> inserted = new ArrayList<>(toInsert.size());
+        for (ReadOnlyPerson person : toInsert) {
+            PersonKey key = PersonKey.of(person);
+            if (!insertedKeys.add(key) || (positions.containsKey(key) && !removedKeys.contains(key))) {
+                throw new DuplicatePersonException();
+            }
+            inserted.add(new Person(person));
+        }
+
+        for (int i = index; i < end; i++) {
+            Person oldPerson = internalList.get(i);
+            positions.remove(PersonKey.of(oldPerson));
+            indexes.forEach(personIndex -> personIndex.remove(oldPerson));
+        }
+        for (Person newPerson : inserted) {
+            indexes.forEach(personIndex -> personIndex.add(newPerson));
+        }
+        if (inserted.size() == toRemove.size()) {
+            for (int i = 0; i < inserted.size(); i++) {
+                positions.put(PersonKey.of(inserted.get(i)), index + i);
+                snapshot = snapshot.with(index + i, inserted.get(i));
+                internalList.set(index + i, inserted.get(i));
+            }
+            return;
+        }
+        for (int i = index; i < end; i++) {
+            snapshot = snapshot.minus(index);
+        }
+        for (int i = 0; i < inserted.size(); i++) {
+            snapshot = snapshot.plus(index + i, inserted.get(i));
+        }
+        internalList.remove(index, end);
+        internalList.addAll(index, inserted);
+        shiftPositionsFrom(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
+        this.positions.clear();
+        this.positions.putAll(replacement.positions);
+        reindex(replacement.internalList);
+        this.snapshot = replacement.snapshot;
         this.internalList.setAll(replacement.internalList);
     }
 
+    /**
+     * Replaces the contents of this list with {@code persons} in a single pass.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains equivalent persons.
+     */
     public void setPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
-        final UniquePersonList replacement = new UniquePersonList();
+        final Map<PersonKey, Integer> replacementPositions = new HashMap<>();
+        final List<Person> replacement = new ArrayList<>(persons.size());
         for (final ReadOnlyPerson person : persons) {
+            if (replacementPositions.put(PersonKey.of(person), replacement.size()) != null) {
+                throw new DuplicatePersonException();
+            }
             replacement.add(new Person(person));
         }
-        setPersons(replacement);
+        this.positions.clear();
+        this.positions.putAll(replacementPositions);
+        reindex(replacement);
+        this.snapshot = PersistentList.of(replacement);
+        this.internalList.setAll(replacement);
+    }
+
+    /**
+     * Rebuilds every registered index from {@code persons}, which are about to replace the contents of the list.
+     */
+    private void reindex(List<Person> persons) {
+        for (PersonIndex index : indexes) {
+            index.clear();
+            persons.forEach(index::add);
+        }
+    }
+
+    /**
+     * Updates the recorded positions of the persons from {@code index} onwards,
+     * after persons have been removed or inserted at {@code index}.
+     */
+    private void shiftPositionsFrom(int index) {
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(PersonKey.of(internalList.get(i)), i);
+        }
+    }
+
+    /**
+     * Returns the persons in the list, in a list that later changes to this list do not affect.
+     * Takes constant time, as the returned list shares its memory with this list.
+     */
+    public PersistentList<ReadOnlyPerson> snapshot() {
+        return snapshot;
     }
 
     /**
@@ -5,7 +5,9 @@ package seedu.address.model.reminder;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
@@ -13,6 +15,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Represents a reminder's date in the address book.
+ * The date is parsed once, when it is created, so that comparing and counting down to it need not parse it again.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
  */
 public class Date {
@@ -20,7 +23,12 @@ public class Date {
     public static final String MESSAGE_DATE_CONSTRAINTS =
             "Date should conform the following format: dd/mm/yyyy hh:mm";
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
     public final String date;
+    private final LocalDateTime dueTime;
+    private final long epochMinute;
 
     /**
      * Validates given date.
@@ -35,6 +43,28 @@ public class Date {
         String time = splittedDateAndTime[1].trim();
 
         this.date = date + " " + time;
+        this.dueTime = LocalDateTime.of(LocalDate.parse(date, DATE_FORMATTER), LocalTime.parse(time, TIME_FORMATTER));
+        this.epochMinute = toEpochMinute(dueTime);
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to {@code dateTime}, counted as if both were in UTC, so that
+     * dates and times are ordered as they are written whatever the time zone.
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    public LocalDateTime getDueTime() {
+        return dueTime;
+    }
+
+    /**
+     * Returns the due time as the number of minutes from the epoch.
+     * @see #toEpochMinute(LocalDateTime)
+     */
+    public long getEpochMinute() {
+        return epochMinute;
     }
 
     /**
@@ -46,13 +76,11 @@ public class Date {
             return false;
         }
 
-        final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
         try {
             String date = splittedDateAndTime[0].trim();
-            LocalDate.parse(date, dateFormatter);
+            LocalDate.parse(date, DATE_FORMATTER);
             String time = splittedDateAndTime[1].trim();
-            LocalTime.parse(time, timeFormatter);
+            LocalTime.parse(time, TIME_FORMATTER);
         } catch (DateTimeParseException dtpe) {
             return false;
         }
@@ -0,0 +1,96 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An index of the reminders ordered by when they are due.
+ * Reminders are kept in a sorted map from their due time, in minutes, so that the reminders due within a range, or
+ * the next few reminders due, are found in time proportional to the log of the number of reminders plus the number
+ * of reminders found, without scanning the whole list.
+ */
+public class DueTimeIndex implements ReminderIndex {
+
+    private final NavigableMap<Long, List<ReadOnlyReminder>> reminders = new TreeMap<>();
+
+    @Override
+    public void add(ReadOnlyReminder reminder) {
+        requireNonNull(reminder);
+        reminders.computeIfAbsent(reminder.getDate().getEpochMinute(), unused -> new ArrayList<>()).add(reminder);
+    }
+
+    @Override
+    public void remove(ReadOnlyReminder reminder) {
+        requireNonNull(reminder);
+        long dueMinute = reminder.getDate().getEpochMinute();
+        List<ReadOnlyReminder> dueTogether = reminders.get(dueMinute);
+        if (dueTogether == null) {
+            return;
+        }
+        // the list holds the exact instances stored, which are compared by identity
+        dueTogether.removeIf(indexed -> indexed == reminder);
+        if (dueTogether.isEmpty()) {
+            reminders.remove(dueMinute);
+        }
+    }
+
+    @Override
+    public void clear() {
+        reminders.clear();
+    }
+
+    /**
+     * Returns all the reminders indexed, earliest due first.
+     */
+    public List<ReadOnlyReminder> getAll() {
+        final List<ReadOnlyReminder> all = new ArrayList<>();
+        reminders.values().forEach(all::addAll);
+        return all;
+    }
+
+    /**
+     * Returns the reminders due from {@code from} to {@code to}, inclusive, earliest first.
+     */
+    public List<ReadOnlyReminder> getDueBetween(LocalDateTime from, LocalDateTime to) {
+        final List<ReadOnlyReminder> due = new ArrayList<>();
+        rangeOf(from, to).values().forEach(due::addAll);
+        return due;
+    }
+
+    /**
+     * Returns the first {@code count} reminders due at or after {@code from}, earliest first.
+     */
+    public List<ReadOnlyReminder> getNextDue(LocalDateTime from, int count) {
+        if (count <= 0) {
+            return new ArrayList<>();
+        }
+        final List<ReadOnlyReminder> due = new ArrayList<>(Math.min(count, 16));
+        for (List<ReadOnlyReminder> dueTogether : reminders.tailMap(Date.toEpochMinute(from), true).values()) {
+            for (ReadOnlyReminder reminder : dueTogether) {
+                if (due.size() == count) {
+                    return due;
+                }
+                due.add(reminder);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Returns the reminders due from {@code from} to {@code to}, inclusive, grouped by their due time.
+     */
+    private NavigableMap<Long, List<ReadOnlyReminder>> rangeOf(LocalDateTime from, LocalDateTime to) {
+        long fromMinute = Date.toEpochMinute(from);
+        long toMinute = Date.toEpochMinute(to);
+        if (fromMinute > toMinute) {
+            return new TreeMap<>();
+        }
+        return reminders.subMap(fromMinute, true, toMinute, true);
+    }
+
+}
@@ -4,18 +4,56 @@ package seedu.address.model.reminder;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+import java.util.regex.Pattern;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Represents a reminder's priority in the address book.
+ * The priority is kept as a {@link Level}, so that priorities are compared and grouped by their ordinal rather than
+ * by their words.
  * Guarantees: immutable; is valid as declared in {@link #isValidPriority(String)}
  */
-public class Priority {
+public class Priority implements Comparable<Priority> {
+
+    /**
+     * The levels of priority, from the highest to the lowest.
+     */
+    public enum Level {
+        HIGH("High"), MEDIUM("Medium"), LOW("Low");
+
+        private final String word;
+
+        Level(String word) {
+            this.word = word;
+        }
+
+        /**
+         * Returns the level named by {@code word}, ignoring case and surrounding whitespace, if there is one.
+         */
+        public static Optional<Level> fromWord(String word) {
+            String trimmedWord = word.trim();
+            for (Level level : values()) {
+                if (level.word.equalsIgnoreCase(trimmedWord)) {
+                    return Optional.of(level);
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public String toString() {
+            return word;
+        }
+    }
 
     public static final String MESSAGE_PRIORITY_CONSTRAINTS =
             "Priority can only be Low / Medium / High";
     public static final String PRIORITY_VALIDATION_REGEX = "(?:Low|Medium|High)";
+    private static final Pattern PRIORITY_VALIDATION_PATTERN = Pattern.compile(PRIORITY_VALIDATION_REGEX);
     public final String value;
+    private final Level level;
 
     /**
      * Validates given priority word.
@@ -29,13 +67,26 @@ public class Priority {
             throw new IllegalValueException(MESSAGE_PRIORITY_CONSTRAINTS);
         }
         this.value = trimmedPriority;
+        this.level = Level.fromWord(trimmedPriority).get();
     }
 
     /**
      * Returns true if a given string is a valid reminder priority word.
      */
     public static boolean isValidPriority(String test) {
-        return test.matches(PRIORITY_VALIDATION_REGEX);
+        return PRIORITY_VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Orders higher priorities before lower ones.
+     */
+    @Override
+    public int compareTo(Priority other) {
+        return level.compareTo(other.level);
     }
 
     @Override
@@ -47,7 +98,7 @@ public class Priority {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Priority // instanceof handles nulls
-                && this.value.equals(((Priority) other).value)); // state check
+                && this.level == ((Priority) other).level); // state check
     }
 
     @Override
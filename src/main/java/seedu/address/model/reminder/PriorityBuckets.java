@@ -0,0 +1,61 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The reminders split into one bucket per {@link Priority.Level}, each ordered by due time, so that the reminders of
+ * a few priorities are found by reading their buckets, without testing the reminders of the other priorities.
+ */
+public class PriorityBuckets implements ReminderIndex {
+
+    private final Map<Priority.Level, DueTimeIndex> buckets = new EnumMap<>(Priority.Level.class);
+
+    public PriorityBuckets() {
+        for (Priority.Level level : Priority.Level.values()) {
+            buckets.put(level, new DueTimeIndex());
+        }
+    }
+
+    @Override
+    public void add(ReadOnlyReminder reminder) {
+        requireNonNull(reminder);
+        bucketOf(reminder).add(reminder);
+    }
+
+    @Override
+    public void remove(ReadOnlyReminder reminder) {
+        requireNonNull(reminder);
+        bucketOf(reminder).remove(reminder);
+    }
+
+    @Override
+    public void clear() {
+        buckets.values().forEach(DueTimeIndex::clear);
+    }
+
+    /**
+     * Returns the reminders with any of the priority {@code levels}, highest priority first, and earliest due first
+     * within a priority.
+     */
+    public List<ReadOnlyReminder> getRemindersWithPriority(Set<Priority.Level> levels) {
+        requireNonNull(levels);
+        final List<ReadOnlyReminder> found = new ArrayList<>();
+        for (Map.Entry<Priority.Level, DueTimeIndex> bucket : buckets.entrySet()) {
+            if (levels.contains(bucket.getKey())) {
+                found.addAll(bucket.getValue().getAll());
+            }
+        }
+        return found;
+    }
+
+    private DueTimeIndex bucketOf(ReadOnlyReminder reminder) {
+        return buckets.get(reminder.getPriority().getLevel());
+    }
+
+}
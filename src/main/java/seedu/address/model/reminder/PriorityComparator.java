@@ -4,18 +4,16 @@ package seedu.address.model.reminder;
 import java.util.Comparator;
 
 /**
- * Compares Age of ReadOnlyPerson
+ * Orders reminders from the highest priority to the lowest, and reminders of the same priority by when they are due.
  */
 public class PriorityComparator implements Comparator<ReadOnlyReminder> {
 
     @Override
     public int compare(ReadOnlyReminder firstPrior, ReadOnlyReminder secondPrior) {
-        String newFirstPrior = firstPrior.getPriority().toString();
-        String newSecondPrior = secondPrior.getPriority().toString();
-        if (newFirstPrior.equals("High") || newSecondPrior.equals("High")) {
-            return newFirstPrior.compareTo(newSecondPrior);
-        } else {
-            return newSecondPrior.compareTo(newFirstPrior);
+        int byPriority = firstPrior.getPriority().compareTo(secondPrior.getPriority());
+        if (byPriority != 0) {
+            return byPriority;
         }
+        return Long.compare(firstPrior.getDate().getEpochMinute(), secondPrior.getDate().getEpochMinute());
     }
 }
@@ -1,25 +1,35 @@
 //@@author inGall
 package seedu.address.model.reminder;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
- * Tests that a {@code ReadOnlyPerson}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code ReadOnlyReminder}'s {@code Priority} is any of the priorities named by the keywords given,
+ * ignoring case. The keywords are resolved to priority levels once, so each test is a lookup of the reminder's level.
  */
 public class PriorityContainsKeywordsPredicate implements Predicate<ReadOnlyReminder> {
     private final List<String> keywords;
+    private final Set<Priority.Level> levels = EnumSet.noneOf(Priority.Level.class);
 
     public PriorityContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        keywords.forEach(keyword -> Priority.Level.fromWord(keyword).ifPresent(levels::add));
+    }
+
+    /**
+     * Returns the priority levels named by the keywords.
+     */
+    public Set<Priority.Level> getLevels() {
+        return Collections.unmodifiableSet(levels);
     }
 
     @Override
     public boolean test(ReadOnlyReminder reminder) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(reminder.getPriority().value, keyword));
+        return levels.contains(reminder.getPriority().getLevel());
     }
 
     @Override
@@ -0,0 +1,25 @@
+package seedu.address.model.reminder;
+
+/**
+ * A secondary index over the reminders stored in a {@link UniqueReminderList}.
+ * The list notifies its indexes of every reminder it stores or discards before the change becomes visible through
+ * {@link UniqueReminderList#asObservableList()}. The reminders passed in are the instances held by the list.
+ */
+public interface ReminderIndex {
+
+    /**
+     * Indexes {@code reminder}, which has just been stored in the list.
+     */
+    void add(ReadOnlyReminder reminder);
+
+    /**
+     * Removes {@code reminder}, which is about to be discarded from the list, from the index.
+     */
+    void remove(ReadOnlyReminder reminder);
+
+    /**
+     * Removes all reminders from the index.
+     */
+    void clear();
+
+}
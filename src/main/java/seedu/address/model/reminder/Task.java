@@ -4,6 +4,8 @@ package seedu.address.model.reminder;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
@@ -20,6 +22,7 @@ public class Task {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String TASK_NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern TASK_NAME_VALIDATION_PATTERN = Pattern.compile(TASK_NAME_VALIDATION_REGEX);
 
     public final String taskName;
 
@@ -41,7 +44,7 @@ public class Task {
      * Returns true if a given string is a valid reminder task name.
      */
     public static boolean isValidTaskName(String test) {
-        return test.matches(TASK_NAME_VALIDATION_REGEX);
+        return TASK_NAME_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
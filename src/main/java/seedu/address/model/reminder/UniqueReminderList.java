@@ -4,14 +4,17 @@ package seedu.address.model.reminder;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import org.fxmisc.easybind.EasyBind;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.reminder.exceptions.DuplicateReminderException;
 import seedu.address.model.reminder.exceptions.ReminderNotFoundException;
 
@@ -19,6 +22,8 @@ import seedu.address.model.reminder.exceptions.ReminderNotFoundException;
  * A list of reminders that enforces uniqueness between its elements and does not allow nulls.
  *
  * Supports a minimal set of list operations.
+ * Secondary {@link ReminderIndex}es can be registered with {@link #addIndex(ReminderIndex)} to be kept in sync.
+ * The list keeps its reminders in {@link PriorityBuckets} of its own, through which they are found by priority.
  *
  * @see Reminder#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
@@ -28,6 +33,31 @@ public class UniqueReminderList implements Iterable<Reminder> {
     private final ObservableList<Reminder> internalList = FXCollections.observableArrayList();
     // used by asObservableList()
     private final ObservableList<ReadOnlyReminder> mappedList = EasyBind.map(internalList, (reminder) -> reminder);
+    private final PriorityBuckets priorityBuckets = new PriorityBuckets();
+    private final List<ReminderIndex> indexes = new ArrayList<>();
+    // the same reminders as internalList, in a list whose versions can be kept as snapshots at no cost
+    private PersistentList<ReadOnlyReminder> snapshot = PersistentList.empty();
+
+    {
+        indexes.add(priorityBuckets);
+    }
+
+    /**
+     * Registers {@code index} to be kept in sync with this list, indexing the reminders already in the list.
+     */
+    public void addIndex(ReminderIndex index) {
+        requireNonNull(index);
+        internalList.forEach(index::add);
+        indexes.add(index);
+    }
+
+    /**
+     * Returns the reminders in the list with any of the priority {@code levels}, read from the priority buckets,
+     * highest priority first, and earliest due first within a priority.
+     */
+    public List<ReadOnlyReminder> getRemindersWithPriority(Set<Priority.Level> levels) {
+        return priorityBuckets.getRemindersWithPriority(levels);
+    }
 
     /**
      * Returns true if the list contains an equivalent reminder as the given argument.
@@ -47,7 +77,10 @@ public class UniqueReminderList implements Iterable<Reminder> {
         if (contains(toAdd)) {
             throw new DuplicateReminderException();
         }
-        internalList.add(new Reminder(toAdd));
+        Reminder newReminder = new Reminder(toAdd);
+        indexes.forEach(index -> index.add(newReminder));
+        snapshot = snapshot.plus(newReminder);
+        internalList.add(newReminder);
     }
 
     /**
@@ -69,7 +102,14 @@ public class UniqueReminderList implements Iterable<Reminder> {
             throw new DuplicateReminderException();
         }
 
-        internalList.set(index, new Reminder(editedReminder));
+        Reminder oldReminder = internalList.get(index);
+        Reminder newReminder = new Reminder(editedReminder);
+        for (ReminderIndex reminderIndex : indexes) {
+            reminderIndex.remove(oldReminder);
+            reminderIndex.add(newReminder);
+        }
+        snapshot = snapshot.with(index, newReminder);
+        internalList.set(index, newReminder);
     }
 
     /**
@@ -79,14 +119,71 @@ public class UniqueReminderList implements Iterable<Reminder> {
      */
     public boolean remove(ReadOnlyReminder toRemove) throws ReminderNotFoundException {
         requireNonNull(toRemove);
-        final boolean reminderFoundAndDeleted = internalList.remove(toRemove);
-        if (!reminderFoundAndDeleted) {
+        final int index = internalList.indexOf(toRemove);
+        if (index == -1) {
+            throw new ReminderNotFoundException();
+        }
+        Reminder removedReminder = internalList.get(index);
+        indexes.forEach(reminderIndex -> reminderIndex.remove(removedReminder));
+        snapshot = snapshot.minus(index);
+        internalList.remove(index);
+        return true;
+    }
+
+    /**
+     * Replaces the reminders {@code toRemove}, which must be in the list starting at position {@code index},
+     * with {@code toInsert}. Only the spliced positions of the list are changed.
+     *
+     * @throws ReminderNotFoundException if the reminders starting at {@code index} are not equal to {@code toRemove}.
+     * @throws DuplicateReminderException if the list would contain equivalent reminders after the splice.
+     */
+    public void splice(int index, List<? extends ReadOnlyReminder> toRemove,
+                       List<? extends ReadOnlyReminder> toInsert)
+            throws DuplicateReminderException, ReminderNotFoundException {
+        CollectionUtil.requireAllNonNull(toRemove, toInsert);
+        final int end = index + toRemove.size();
+        if (index < 0 || end > internalList.size() || !internalList.subList(index, end).equals(toRemove)) {
             throw new ReminderNotFoundException();
         }
-        return reminderFoundAndDeleted;
+        final List<Reminder> inserted = new ArrayList<>(toInsert.size());
+        for (ReadOnlyReminder reminder : toInsert) {
+            int existing = internalList.indexOf(reminder);
+            if (inserted.contains(reminder) || (existing != -1 && (existing < index || existing >= end))) {
+                throw new DuplicateReminderException();
+            }
+            inserted.add(new Reminder(reminder));
+        }
+
+        for (int i = index; i < end; i++) {
+            Reminder oldReminder = internalList.get(i);
+            indexes.forEach(reminderIndex -> reminderIndex.remove(oldReminder));
+        }
+        for (Reminder newReminder : inserted) {
+            indexes.forEach(reminderIndex -> reminderIndex.add(newReminder));
+        }
+        if (inserted.size() == toRemove.size()) {
+            for (int i = 0; i < inserted.size(); i++) {
+                snapshot = snapshot.with(index + i, inserted.get(i));
+                internalList.set(index + i, inserted.get(i));
+            }
+            return;
+        }
+        for (int i = index; i < end; i++) {
+            snapshot = snapshot.minus(index);
+        }
+        for (int i = 0; i < inserted.size(); i++) {
+            snapshot = snapshot.plus(index + i, inserted.get(i));
+        }
+        internalList.remove(index, end);
+        internalList.addAll(index, inserted);
     }
 
     public void setReminders(UniqueReminderList replacement) {
+        for (ReminderIndex index : indexes) {
+            index.clear();
+            replacement.internalList.forEach(index::add);
+        }
+        this.snapshot = replacement.snapshot;
         this.internalList.setAll(replacement.internalList);
     }
 
@@ -98,6 +195,14 @@ public class UniqueReminderList implements Iterable<Reminder> {
         setReminders(replacement);
     }
 
+    /**
+     * Returns the reminders in the list, in a list that later changes to this list do not affect.
+     * Takes constant time, as the returned list shares its memory with this list.
+     */
+    public PersistentList<ReadOnlyReminder> snapshot() {
+        return snapshot;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
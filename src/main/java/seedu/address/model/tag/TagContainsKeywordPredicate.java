@@ -17,6 +17,10 @@ public class TagContainsKeywordPredicate implements Predicate<ReadOnlyPerson> {
         this.tag = tag;
     }
 
+    public Tag getTag() {
+        return tag;
+    }
+
     @Override
     public boolean test(ReadOnlyPerson person) {
         return person.getTags().contains(tag);
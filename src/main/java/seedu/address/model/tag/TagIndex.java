@@ -0,0 +1,107 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.PersonIndex;
+import seedu.address.model.person.PostingLists;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.reminder.ReadOnlyReminder;
+import seedu.address.model.reminder.ReminderIndex;
+
+/**
+ * An index from each tag to its members: the persons having the tag, and a reference count of the reminders
+ * having it. It is kept up to date by registering {@link #personIndex()} with the person list and
+ * {@link #reminderIndex()} with the reminder list.
+ */
+public class TagIndex {
+
+    private final Map<Tag, Set<ReadOnlyPerson>> personPostings = new HashMap<>();
+    private final Map<Tag, Integer> reminderCounts = new HashMap<>();
+
+    private final PersonIndex personIndex = new PersonIndex() {
+        @Override
+        public void add(ReadOnlyPerson person) {
+            for (Tag tag : person.getTags()) {
+                PostingLists.addPosting(personPostings, tag, person);
+            }
+        }
+
+        @Override
+        public void remove(ReadOnlyPerson person) {
+            for (Tag tag : person.getTags()) {
+                PostingLists.removePosting(personPostings, tag, person);
+            }
+        }
+
+        @Override
+        public void clear() {
+            personPostings.clear();
+        }
+    };
+
+    private final ReminderIndex reminderIndex = new ReminderIndex() {
+        @Override
+        public void add(ReadOnlyReminder reminder) {
+            for (Tag tag : reminder.getTags()) {
+                reminderCounts.merge(tag, 1, Integer::sum);
+            }
+        }
+
+        @Override
+        public void remove(ReadOnlyReminder reminder) {
+            for (Tag tag : reminder.getTags()) {
+                reminderCounts.computeIfPresent(tag, (unused, count) -> (count == 1) ? null : count - 1);
+            }
+        }
+
+        @Override
+        public void clear() {
+            reminderCounts.clear();
+        }
+    };
+
+    public PersonIndex personIndex() {
+        return personIndex;
+    }
+
+    public ReminderIndex reminderIndex() {
+        return reminderIndex;
+    }
+
+    /**
+     * Returns true if no person and no reminder has {@code tag}.
+     */
+    public boolean isUnused(Tag tag) {
+        requireNonNull(tag);
+        return !personPostings.containsKey(tag) && !reminderCounts.containsKey(tag);
+    }
+
+    /**
+     * Returns the number of persons and reminders having {@code tag}.
+     */
+    public int getReferenceCount(Tag tag) {
+        requireNonNull(tag);
+        return personPostings.getOrDefault(tag, Collections.emptySet()).size() + reminderCounts.getOrDefault(tag, 0);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons having {@code tag}.
+     */
+    public Set<ReadOnlyPerson> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return Collections.unmodifiableSet(personPostings.getOrDefault(tag, Collections.emptySet()));
+    }
+
+    /**
+     * Returns an unmodifiable view of the tags that at least one person has.
+     */
+    public Set<Tag> getPersonTags() {
+        return Collections.unmodifiableSet(personPostings.keySet());
+    }
+
+}
@@ -11,6 +11,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.DuplicateDataException;
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.PersistentList;
 
 /**
  * A list of tags that enforces no nulls and uniqueness between its elements.
@@ -22,6 +23,8 @@ import seedu.address.commons.util.CollectionUtil;
 public class UniqueTagList implements Iterable<Tag> {
 
     private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
+    // the same tags as internalList, in a list whose versions can be kept as snapshots at no cost
+    private PersistentList<Tag> snapshot = PersistentList.empty();
 
     /**
      * Constructs empty TagList.
@@ -35,6 +38,7 @@ public class UniqueTagList implements Iterable<Tag> {
     public UniqueTagList(Set<Tag> tags) {
         requireAllNonNull(tags);
         internalList.addAll(tags);
+        snapshot = PersistentList.of(internalList);
 
         assert CollectionUtil.elementsAreUnique(internalList);
     }
@@ -54,6 +58,7 @@ public class UniqueTagList implements Iterable<Tag> {
     public void setTags(Set<Tag> tags) {
         requireAllNonNull(tags);
         internalList.setAll(tags);
+        snapshot = PersistentList.of(internalList);
         assert CollectionUtil.elementsAreUnique(internalList);
     }
 
@@ -64,7 +69,10 @@ public class UniqueTagList implements Iterable<Tag> {
         final Set<Tag> alreadyInside = this.toSet();
         from.internalList.stream()
                 .filter(tag -> !alreadyInside.contains(tag))
-                .forEach(internalList::add);
+                .forEach(tag -> {
+                    snapshot = snapshot.plus(tag);
+                    internalList.add(tag);
+                });
 
         assert CollectionUtil.elementsAreUnique(internalList);
     }
@@ -87,6 +95,7 @@ public class UniqueTagList implements Iterable<Tag> {
         if (contains(toAdd)) {
             throw new DuplicateTagException();
         }
+        snapshot = snapshot.plus(toAdd);
         internalList.add(toAdd);
 
         assert CollectionUtil.elementsAreUnique(internalList);
@@ -97,7 +106,11 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public void remove(Tag toRemove) {
         requireNonNull(toRemove);
-        internalList.remove(toRemove);
+        int index = internalList.indexOf(toRemove);
+        if (index != -1) {
+            snapshot = snapshot.minus(index);
+            internalList.remove(index);
+        }
 
         assert CollectionUtil.elementsAreUnique(internalList);
     }
@@ -108,6 +121,14 @@ public class UniqueTagList implements Iterable<Tag> {
         return internalList.iterator();
     }
 
+    /**
+     * Returns the tags in the list, in a list that later changes to this list do not affect.
+     * Takes constant time, as the returned list shares its memory with this list.
+     */
+    public PersistentList<Tag> snapshot() {
+        return snapshot;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
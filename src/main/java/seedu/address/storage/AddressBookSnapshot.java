@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ShardVersions;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.reminder.ReadOnlyReminder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An address book of fixed lists, such as one that has been read from a file or one shard of an address book.
+ * Only the lists are copied: the persons, reminders and tags are shared with the given lists.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<ReadOnlyPerson> persons;
+    private final ObservableList<ReadOnlyReminder> reminders;
+    private final ObservableList<Tag> tags;
+    private final ShardVersions shardVersions;
+
+    AddressBookSnapshot(List<ReadOnlyPerson> persons, List<ReadOnlyReminder> reminders, List<Tag> tags) {
+        this(persons, reminders, tags, ShardVersions.UNTRACKED);
+    }
+
+    AddressBookSnapshot(List<ReadOnlyPerson> persons, List<ReadOnlyReminder> reminders, List<Tag> tags,
+                        ShardVersions shardVersions) {
+        this.shardVersions = shardVersions;
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(new ArrayList<>(persons)));
+        this.reminders =
+                FXCollections.unmodifiableObservableList(FXCollections.observableList(new ArrayList<>(reminders)));
+        this.tags = FXCollections.unmodifiableObservableList(FXCollections.observableList(new ArrayList<>(tags)));
+    }
+
+    @Override
+    public ObservableList<ReadOnlyPerson> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<ReadOnlyReminder> getReminderList() {
+        return reminders;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+
+    @Override
+    public ShardVersions getShardVersions() {
+        return shardVersions;
+    }
+
+}
@@ -0,0 +1,307 @@
+package seedu.address.storage;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Birthday;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.reminder.Date;
+import seedu.address.model.reminder.Message;
+import seedu.address.model.reminder.Priority;
+import seedu.address.model.reminder.ReadOnlyReminder;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.Task;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes address books into, and decodes them from, the binary format of {@link BinaryAddressBookStorage}.
+ *
+ * All numbers are big-endian ints, and every string is stored once in a string table and referred to by its position
+ * in the table, so repeated tags, email domains and addresses take four bytes each. The layout is:
+ * <pre>
+ * magic, version
+ * strings section:   byte length, count, then for each string its byte length and UTF-8 bytes
+ * persons section:   byte length, count, then for each person the strings of its name, phone, email local part,
+ *                    email domain, address and birthday, its tag count and the strings of its tags
+ * reminders section: byte length, count, then for each reminder the strings of its task, priority, date and
+ *                    message, its tag count and the strings of its tags
+ * tags section:      byte length, count, then the string of each tag
+ * CRC-32 of everything before it
+ * </pre>
+ */
+final class BinaryAddressBookFormat {
+
+    static final int MAGIC = 0x41424231;
+    static final int VERSION = 1;
+
+    private static final int NO_STRING = -1;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Returns {@code addressBook} encoded into a direct buffer, ready to be written.
+     */
+    static ByteBuffer encode(ReadOnlyAddressBook addressBook) {
+        StringTable strings = new StringTable();
+        List<int[]> persons = new ArrayList<>();
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            // the domain is stored apart from the local part, so that it is shared by all emails on the domain
+            String email = person.getEmail().value;
+            int at = email.lastIndexOf('@');
+            int localPart = strings.refer(at < 0 ? email : email.substring(0, at));
+            int domain = at < 0 ? NO_STRING : strings.refer(email.substring(at + 1));
+            persons.add(withTags(strings, person.getTags(),
+                    strings.refer(person.getName().fullName),
+                    strings.refer(person.getPhone().value),
+                    localPart,
+                    domain,
+                    strings.refer(person.getAddress().value),
+                    strings.refer(person.getBirthday().value)));
+        }
+        List<int[]> reminders = new ArrayList<>();
+        for (ReadOnlyReminder reminder : addressBook.getReminderList()) {
+            reminders.add(withTags(strings, reminder.getTags(),
+                    strings.refer(reminder.getTask().taskName),
+                    strings.refer(reminder.getPriority().value),
+                    strings.refer(reminder.getDate().date),
+                    strings.refer(reminder.getMessage().message)));
+        }
+        int[] tags = addressBook.getTagList().stream().mapToInt(tag -> strings.refer(tag.tagName)).toArray();
+
+        int size = 2 * Integer.BYTES + sectionSize(strings.encodedSize()) + sectionSize(refsSize(persons))
+                + sectionSize(refsSize(reminders)) + sectionSize(tags.length * Integer.BYTES) + Integer.BYTES;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+        buffer.putInt(MAGIC).putInt(VERSION);
+
+        buffer.putInt(Integer.BYTES + strings.encodedSize()).putInt(strings.size());
+        for (byte[] string : strings.getEncoded()) {
+            buffer.putInt(string.length).put(string);
+        }
+        putRecords(buffer, persons);
+        putRecords(buffer, reminders);
+        buffer.putInt(Integer.BYTES + tags.length * Integer.BYTES).putInt(tags.length);
+        for (int tag : tags) {
+            buffer.putInt(tag);
+        }
+
+        buffer.putInt(checksumOf(buffer, buffer.position()));
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Returns the address book encoded in the remaining bytes of {@code buffer}.
+     *
+     * @throws IllegalValueException if the bytes are not a valid encoded address book.
+     */
+    static ReadOnlyAddressBook decode(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            int start = buffer.position();
+            int end = buffer.limit() - Integer.BYTES;
+            if (end - start < 2 * Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new IllegalValueException("Not a binary address book");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IllegalValueException("Unsupported binary address book version " + version);
+            }
+            ByteBuffer content = buffer.duplicate();
+            content.position(end);
+            if (checksumOf(content, end - start) != buffer.getInt(end)) {
+                throw new IllegalValueException("Checksum does not match, the file may be truncated or corrupted");
+            }
+            buffer.limit(end);
+
+            String[] strings = getStrings(nextSection(buffer));
+            Map<Integer, Tag> tagsByString = new LinkedHashMap<>();
+            List<ReadOnlyPerson> persons = getPersons(nextSection(buffer), strings, tagsByString);
+            List<ReadOnlyReminder> reminders = getReminders(nextSection(buffer), strings, tagsByString);
+            ByteBuffer tagSection = nextSection(buffer);
+            List<Tag> tags = new ArrayList<>();
+            for (int i = tagSection.getInt(); i > 0; i--) {
+                tags.add(getTag(tagSection.getInt(), strings, tagsByString));
+            }
+            return new AddressBookSnapshot(persons, reminders, tags);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalValueException("Binary address book is malformed: " + e);
+        }
+    }
+
+    private static int sectionSize(int contentSize) {
+        return 2 * Integer.BYTES + contentSize;
+    }
+
+    private static int refsSize(List<int[]> records) {
+        return records.stream().mapToInt(record -> record.length * Integer.BYTES).sum();
+    }
+
+    /**
+     * Returns {@code refs} followed by the number of {@code tags} and the string of each tag.
+     */
+    private static int[] withTags(StringTable strings, Set<Tag> tags, int... refs) {
+        int[] record = new int[refs.length + 1 + tags.size()];
+        System.arraycopy(refs, 0, record, 0, refs.length);
+        int i = refs.length;
+        record[i++] = tags.size();
+        for (Tag tag : tags) {
+            record[i++] = strings.refer(tag.tagName);
+        }
+        return record;
+    }
+
+    /**
+     * Puts the section of {@code records}, each of which is a list of ints, into {@code buffer}.
+     */
+    private static void putRecords(ByteBuffer buffer, List<int[]> records) {
+        buffer.putInt(Integer.BYTES + refsSize(records)).putInt(records.size());
+        for (int[] record : records) {
+            for (int ref : record) {
+                buffer.putInt(ref);
+            }
+        }
+    }
+
+    /**
+     * Returns the CRC-32 of the {@code length} bytes of {@code buffer} before its position.
+     */
+    private static int checksumOf(ByteBuffer buffer, int length) {
+        ByteBuffer bytes = buffer.duplicate();
+        bytes.limit(bytes.position());
+        bytes.position(bytes.position() - length);
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Returns the next length-prefixed section of {@code buffer}, moving {@code buffer} past it.
+     */
+    static ByteBuffer nextSection(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        ByteBuffer section = buffer.slice();
+        section.limit(length);
+        buffer.position(buffer.position() + length);
+        return section;
+    }
+
+    private static String[] getStrings(ByteBuffer section) {
+        String[] strings = new String[section.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[section.getInt()];
+            section.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    /**
+     * Returns the persons in {@code section}, sharing one {@code Tag} for every tag string.
+     */
+    private static List<ReadOnlyPerson> getPersons(ByteBuffer section, String[] strings,
+            Map<Integer, Tag> tagsByString) throws IllegalValueException {
+        int count = section.getInt();
+        List<ReadOnlyPerson> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Name name = new Name(strings[section.getInt()]);
+            Phone phone = new Phone(strings[section.getInt()]);
+            String localPart = strings[section.getInt()];
+            int domain = section.getInt();
+            Email email = new Email((domain == NO_STRING) ? localPart : localPart + "@" + strings[domain]);
+            Address address = new Address(strings[section.getInt()]);
+            Birthday birthday = new Birthday(strings[section.getInt()]);
+            persons.add(new Person(name, phone, email, address, birthday, getTags(section, strings, tagsByString)));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the reminders in {@code section}, sharing one {@code Tag} for every tag string.
+     */
+    private static List<ReadOnlyReminder> getReminders(ByteBuffer section, String[] strings,
+            Map<Integer, Tag> tagsByString) throws IllegalValueException {
+        int count = section.getInt();
+        List<ReadOnlyReminder> reminders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task(strings[section.getInt()]);
+            Priority priority = new Priority(strings[section.getInt()]);
+            Date date = new Date(strings[section.getInt()]);
+            Message message = new Message(strings[section.getInt()]);
+            reminders.add(new Reminder(task, priority, date, message, getTags(section, strings, tagsByString)));
+        }
+        return reminders;
+    }
+
+    private static Set<Tag> getTags(ByteBuffer section, String[] strings, Map<Integer, Tag> tagsByString)
+            throws IllegalValueException {
+        Set<Tag> tags = new HashSet<>();
+        for (int i = section.getInt(); i > 0; i--) {
+            tags.add(getTag(section.getInt(), strings, tagsByString));
+        }
+        return tags;
+    }
+
+    private static Tag getTag(int string, String[] strings, Map<Integer, Tag> tagsByString)
+            throws IllegalValueException {
+        Tag tag = tagsByString.get(string);
+        if (tag == null) {
+            tag = new Tag(strings[string]);
+            tagsByString.put(string, tag);
+        }
+        return tag;
+    }
+
+    /**
+     * The distinct strings of an address book being encoded, in the order they were first referred to.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> positions = new LinkedHashMap<>();
+        private final List<byte[]> encoded = new ArrayList<>();
+        private int encodedSize;
+
+        /**
+         * Returns the position of {@code string} in the table, adding it if it is not in the table yet.
+         */
+        int refer(String string) {
+            Integer position = positions.get(string);
+            if (position == null) {
+                position = encoded.size();
+                positions.put(string, position);
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                encoded.add(bytes);
+                encodedSize += Integer.BYTES + bytes.length;
+            }
+            return position;
+        }
+
+        int size() {
+            return encoded.size();
+        }
+
+        List<byte[]> getEncoded() {
+            return encoded;
+        }
+
+        /**
+         * Returns the number of bytes taken by the strings and their lengths, excluding their count.
+         */
+        int encodedSize() {
+            return encodedSize;
+        }
+    }
+
+}
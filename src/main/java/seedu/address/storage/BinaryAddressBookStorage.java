@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the compact binary format of {@link BinaryAddressBookFormat}
+ * on the hard disk.
+ * Files are loaded through a read-only memory mapping and saved atomically, keeping the replaced file as the
+ * previous generation to fall back on.
+ * If the binary file does not exist yet, the xml file it replaces is imported instead.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final String XML_EXTENSION = ".xml";
+    private static final String BINARY_EXTENSION = ".bin";
+
+    private final String filePath;
+    private final String xmlFilePath;
+
+    /**
+     * @param xmlFilePath the xml file whose data is imported if there is no binary file yet.
+     */
+    public BinaryAddressBookStorage(String filePath, String xmlFilePath) {
+        this.filePath = filePath;
+        this.xmlFilePath = xmlFilePath;
+    }
+
+    /**
+     * Returns the path of the binary file that replaces the xml file at {@code xmlFilePath}.
+     */
+    public static String toBinaryFilePath(String xmlFilePath) {
+        String basePath = xmlFilePath.endsWith(XML_EXTENSION)
+                ? xmlFilePath.substring(0, xmlFilePath.length() - XML_EXTENSION.length())
+                : xmlFilePath;
+        return basePath + BINARY_EXTENSION;
+    }
+
+    @Override
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        if (!XmlFileStorage.isSaveFileExists(new File(filePath)) && new File(xmlFilePath).exists()) {
+            logger.info("Migrating AddressBook file " + xmlFilePath + " to " + filePath);
+            return importFromXml(xmlFilePath);
+        }
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, without importing the xml file.
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if neither the file nor its previous generation is a valid binary address book.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        File file = new File(filePath);
+        if (!XmlFileStorage.isSaveFileExists(file)) {
+            logger.info("AddressBook file " + file + " not found");
+            return Optional.empty();
+        }
+
+        File previousGeneration = XmlFileStorage.getPreviousGenerationFile(file);
+        try {
+            return Optional.of(load(file));
+        } catch (FileNotFoundException fnfe) {
+            logger.warning(file + " is missing, loading its previous generation " + previousGeneration);
+        } catch (DataConversionException dce) {
+            if (!FileUtil.isFileExists(previousGeneration)) {
+                throw dce;
+            }
+            logger.warning(file + " is corrupted, loading its previous generation " + previousGeneration);
+        }
+        return Optional.of(load(previousGeneration));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        File file = new File(filePath);
+        FileUtil.writeToFileAtomically(file, BinaryAddressBookFormat.encode(addressBook),
+                XmlFileStorage.getPreviousGenerationFile(file));
+    }
+
+    /**
+     * Saves {@code addressBook} as xml, so that the backup can be read and edited by hand.
+     */
+    @Override
+    public void backupAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        String addressBookBackupFilePath = "backup/addressbook-backup.xml";
+        XmlFileStorage.saveDataToFile(new File(addressBookBackupFilePath), new XmlSerializableAddressBook(addressBook));
+    }
+
+    /**
+     * Reads the xml address book at {@code xmlFilePath} and saves it in the binary format.
+     *
+     * @return the imported address book, or {@code Optional.empty()} if there is no xml file to import.
+     * @throws DataConversionException if the xml file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> importFromXml(String xmlFilePath) throws DataConversionException,
+            IOException {
+        requireNonNull(xmlFilePath);
+
+        Optional<ReadOnlyAddressBook> addressBook = new JournaledAddressBookStorage(xmlFilePath).readAddressBook();
+        if (addressBook.isPresent()) {
+            saveAddressBook(addressBook.get());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Saves the binary address book as xml at {@code xmlFilePath}.
+     * Throws a {@code FileNotFoundException} if there is no binary file to export.
+     *
+     * @throws DataConversionException if the binary file is not in the correct format.
+     */
+    public void exportToXml(String xmlFilePath) throws DataConversionException, IOException {
+        requireNonNull(xmlFilePath);
+
+        ReadOnlyAddressBook addressBook = readAddressBook(filePath)
+                .orElseThrow(() -> new FileNotFoundException("File not found : " + filePath));
+        XmlFileStorage.saveDataToFile(new File(xmlFilePath), new XmlSerializableAddressBook(addressBook));
+    }
+
+    /**
+     * Returns the address book in {@code file}, read through a read-only memory mapping of the file.
+     */
+    private static ReadOnlyAddressBook load(File file) throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return BinaryAddressBookFormat.decode(buffer);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.AddressBookDelta.Splice;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Encodes address book deltas into, and decodes them from, a binary format.
+ *
+ * All numbers are big-endian ints. The records removed by all the splices of a delta are gathered into one address
+ * book, and the records inserted by them into another, and both are stored in the format of
+ * {@link BinaryAddressBookFormat}. The layout is:
+ * <pre>
+ * magic, version
+ * for persons, reminders and tags in turn: splice count, then for each splice its index, the number of records it
+ *                                          removes and the number of records it inserts
+ * removed records:  byte length, then the address book of the removed records
+ * inserted records: byte length, then the address book of the inserted records
+ * </pre>
+ */
+final class BinaryDeltaFormat {
+
+    static final int MAGIC = 0x41424431;
+    static final int VERSION = 1;
+
+    private BinaryDeltaFormat() {}
+
+    /**
+     * Returns {@code delta} encoded into a buffer, ready to be written.
+     */
+    static ByteBuffer encode(AddressBookDelta delta) {
+        ByteBuffer removed = BinaryAddressBookFormat.encode(recordsOf(delta, true));
+        ByteBuffer inserted = BinaryAddressBookFormat.encode(recordsOf(delta, false));
+        int spliceCount = delta.getPersonSplices().size() + delta.getReminderSplices().size()
+                + delta.getTagSplices().size();
+
+        ByteBuffer buffer = ByteBuffer.allocate(7 * Integer.BYTES + 3 * Integer.BYTES * spliceCount
+                + removed.remaining() + inserted.remaining());
+        buffer.putInt(MAGIC).putInt(VERSION);
+        putSplices(buffer, delta.getPersonSplices());
+        putSplices(buffer, delta.getReminderSplices());
+        putSplices(buffer, delta.getTagSplices());
+        buffer.putInt(removed.remaining()).put(removed);
+        buffer.putInt(inserted.remaining()).put(inserted);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Returns the delta encoded in the remaining bytes of {@code buffer}.
+     *
+     * @throws IllegalValueException if the bytes are not a valid encoded delta.
+     */
+    static AddressBookDelta decode(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalValueException("Not a binary address book delta");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IllegalValueException("Unsupported binary address book delta version " + version);
+            }
+            int[][] personSplices = getSplices(buffer);
+            int[][] reminderSplices = getSplices(buffer);
+            int[][] tagSplices = getSplices(buffer);
+            ReadOnlyAddressBook removed = BinaryAddressBookFormat.decode(BinaryAddressBookFormat.nextSection(buffer));
+            ReadOnlyAddressBook inserted = BinaryAddressBookFormat.decode(BinaryAddressBookFormat.nextSection(buffer));
+
+            return AddressBookDelta.of(
+                    toSplices(personSplices, removed.getPersonList(), inserted.getPersonList()),
+                    toSplices(reminderSplices, removed.getReminderList(), inserted.getReminderList()),
+                    toSplices(tagSplices, removed.getTagList(), inserted.getTagList()));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalValueException("Binary address book delta is malformed: " + e);
+        }
+    }
+
+    /**
+     * Returns the records removed by all the splices of {@code delta} if {@code removed} is true,
+     * or else the records inserted by them, as one address book.
+     */
+    private static ReadOnlyAddressBook recordsOf(AddressBookDelta delta, boolean removed) {
+        return new AddressBookSnapshot(recordsOf(delta.getPersonSplices(), removed),
+                recordsOf(delta.getReminderSplices(), removed), recordsOf(delta.getTagSplices(), removed));
+    }
+
+    private static <T> List<T> recordsOf(List<Splice<T>> splices, boolean removed) {
+        List<T> records = new ArrayList<>();
+        splices.forEach(splice -> records.addAll(removed ? splice.getRemoved() : splice.getInserted()));
+        return records;
+    }
+
+    /**
+     * Puts the count of {@code splices}, then the index, removed count and inserted count of each of them.
+     */
+    private static void putSplices(ByteBuffer buffer, List<? extends Splice<?>> splices) {
+        buffer.putInt(splices.size());
+        for (Splice<?> splice : splices) {
+            buffer.putInt(splice.getIndex()).putInt(splice.getRemoved().size()).putInt(splice.getInserted().size());
+        }
+    }
+
+    /**
+     * Returns the index, removed count and inserted count of each splice at the position of {@code buffer}.
+     */
+    private static int[][] getSplices(ByteBuffer buffer) {
+        int[][] splices = new int[buffer.getInt()][];
+        for (int i = 0; i < splices.length; i++) {
+            splices[i] = new int[] {buffer.getInt(), buffer.getInt(), buffer.getInt()};
+        }
+        return splices;
+    }
+
+    /**
+     * Returns the splices described by {@code splices}, taking the records they remove from {@code removed}
+     * and the records they insert from {@code inserted} in turn.
+     */
+    private static <T> List<Splice<T>> toSplices(int[][] splices, List<? extends T> removed,
+                                                 List<? extends T> inserted) {
+        List<Splice<T>> result = new ArrayList<>(splices.length);
+        int nextRemoved = 0;
+        int nextInserted = 0;
+        for (int[] splice : splices) {
+            result.add(new Splice<>(splice[0], removed.subList(nextRemoved, nextRemoved + splice[1]),
+                    inserted.subList(nextInserted, nextInserted + splice[2])));
+            nextRemoved += splice[1];
+            nextInserted += splice[2];
+        }
+        return result;
+    }
+
+}
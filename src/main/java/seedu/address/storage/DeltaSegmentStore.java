@@ -0,0 +1,219 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.AddressBookDeltaStore;
+
+/**
+ * Stores address book deltas, compressed, in segment files in a directory.
+ * Deltas are appended to the newest segment until it grows past the segment size, after which a new segment is
+ * started, so that the space taken by the oldest deltas can be freed by deleting whole segments.
+ * Each segment is named after the position of its first delta, and holds, for each delta, the byte length of the
+ * compressed delta followed by the deflated {@link BinaryDeltaFormat} of the delta.
+ *
+ * The segments only live as long as this store: they are deleted when they are discarded or when the application
+ * exits, and any segments left in the directory by an earlier run are deleted when the first segment is started.
+ */
+public class DeltaSegmentStore implements AddressBookDeltaStore {
+
+    private static final Logger logger = LogsCenter.getLogger(DeltaSegmentStore.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".bin";
+
+    private final long segmentSize;
+    private Path directory;
+    // the start position of every segment that has not been discarded, in order
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private FileChannel newestSegment;
+    private long end;
+
+    /**
+     * Creates a store whose segments are kept in {@code directory}, which is created when it is first needed.
+     */
+    public DeltaSegmentStore(Path directory, long segmentSize) {
+        this.directory = requireNonNull(directory);
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Creates a store whose segments are kept in a new temporary directory, created when it is first needed.
+     */
+    public DeltaSegmentStore(long segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public synchronized long write(AddressBookDelta delta) throws IOException {
+        requireNonNull(delta);
+        ByteBuffer encoded = BinaryDeltaFormat.encode(delta);
+        byte[] compressed = deflate(encoded.array(), encoded.remaining());
+
+        if (newestSegment == null || newestSegment.size() >= segmentSize) {
+            startSegment();
+        }
+        long position = end;
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + compressed.length);
+        record.putInt(compressed.length).put(compressed).flip();
+        while (record.hasRemaining()) {
+            newestSegment.write(record);
+        }
+        end += record.capacity();
+        return position;
+    }
+
+    @Override
+    public synchronized AddressBookDelta read(long position) throws DataConversionException, IOException {
+        Map.Entry<Long, Path> segment = segments.floorEntry(position);
+        if (segment == null || position >= end) {
+            throw new IOException("No delta is stored at " + position);
+        }
+        try (FileChannel channel = FileChannel.open(segment.getValue(), StandardOpenOption.READ)) {
+            long offset = position - segment.getKey();
+            int length = readFully(channel, offset, Integer.BYTES).getInt();
+            if (length < 0) {
+                throw new IOException("Delta segment is corrupted at " + position);
+            }
+            ByteBuffer compressed = readFully(channel, offset + Integer.BYTES, length);
+            return BinaryDeltaFormat.decode(ByteBuffer.wrap(inflate(compressed.array())));
+        } catch (IllegalValueException | DataFormatException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public synchronized void discardBefore(long position) throws IOException {
+        Iterator<Map.Entry<Long, Path>> iterator = segments.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Path> segment = iterator.next();
+            Long nextStart = segments.higherKey(segment.getKey());
+            long segmentEnd = (nextStart == null) ? end : nextStart;
+            if (segmentEnd > position) {
+                return;
+            }
+            if (nextStart == null && newestSegment != null) {
+                newestSegment.close();
+                newestSegment = null;
+            }
+            Files.deleteIfExists(segment.getValue());
+            iterator.remove();
+        }
+    }
+
+    @Override
+    public synchronized long getSize() {
+        return segments.isEmpty() ? 0 : end - segments.firstKey();
+    }
+
+    /**
+     * Closes the newest segment and starts a new one at the end of the store.
+     */
+    private void startSegment() throws IOException {
+        if (newestSegment != null) {
+            newestSegment.close();
+        }
+        if (directory == null) {
+            directory = Files.createTempDirectory("addressbook-undo");
+            directory.toFile().deleteOnExit();
+        } else if (segments.isEmpty() && Files.isDirectory(directory)) {
+            deleteLeftoverSegments();
+        }
+        Files.createDirectories(directory);
+
+        Path segment = directory.resolve(SEGMENT_PREFIX + end + SEGMENT_SUFFIX);
+        newestSegment = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        segment.toFile().deleteOnExit();
+        segments.put(end, segment);
+    }
+
+    /**
+     * Deletes the segments in the directory that do not belong to this store.
+     */
+    private void deleteLeftoverSegments() {
+        File[] leftovers = directory.toFile().listFiles((dir, name) ->
+                name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+        if (leftovers == null) {
+            return;
+        }
+        for (File leftover : leftovers) {
+            if (!leftover.delete()) {
+                logger.warning("Could not delete leftover undo segment " + leftover);
+            }
+        }
+    }
+
+    /**
+     * Returns the {@code length} bytes of {@code channel} from {@code offset}.
+     */
+    private static ByteBuffer readFully(FileChannel channel, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException("Delta segment is truncated");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Returns the first {@code length} of {@code bytes}, compressed.
+     */
+    private static byte[] deflate(byte[] bytes, int length) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(bytes, 0, length);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length / 2 + 16);
+        byte[] chunk = new byte[4096];
+        while (!deflater.finished()) {
+            out.write(chunk, 0, deflater.deflate(chunk));
+        }
+        deflater.end();
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns {@code bytes} decompressed.
+     *
+     * @throws DataFormatException if {@code bytes} are not compressed data, or are truncated.
+     */
+    private static byte[] inflate(byte[] bytes) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        inflater.setInput(bytes);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+        byte[] chunk = new byte[4096];
+        while (!inflater.finished()) {
+            int inflated = inflater.inflate(chunk);
+            if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                inflater.end();
+                throw new DataFormatException("Compressed delta is truncated");
+            }
+            out.write(chunk, 0, inflated);
+        }
+        inflater.end();
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,430 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.AddressBookDelta.Splice;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.reminder.ReadOnlyReminder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as an xml snapshot, followed by a journal of the
+ * changes made since the snapshot was saved.
+ * Saving appends only the persons, reminders and tags that changed since the last save to the journal, so the
+ * amount written depends on the size of the change rather than the size of the address book. The changes are found
+ * by comparing a snapshot of the address book with the snapshot of the last save by identity, without copying either.
+ * The journal is folded into a new snapshot once it grows larger than the snapshot. The journal of the replaced
+ * snapshot is kept until the next compaction, next to the previous generation of the snapshot it applies to.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final int JOURNAL_MAGIC = 0x41424a31;
+    // every record is its length and checksum, followed by an xml splice
+    private static final int RECORD_HEADER_BYTES = 2 * Integer.BYTES;
+    private static final long DEFAULT_MIN_COMPACTION_BYTES = 1024 * 1024;
+
+    private final String filePath;
+    private final long minCompactionBytes;
+
+    // state of the files at filePath as of the last read or save, the generation is null if it is not known
+    private String generation;
+    private ReadOnlyAddressBook saved;
+    private long snapshotLength;
+    // length of the valid part of the journal of the current generation, 0 if it has not been started
+    private long journalLength;
+
+    public JournaledAddressBookStorage(String filePath) {
+        this(filePath, DEFAULT_MIN_COMPACTION_BYTES);
+    }
+
+    /**
+     * @param minCompactionBytes the journal is never folded into the snapshot while it is smaller than this.
+     */
+    JournaledAddressBookStorage(String filePath, long minCompactionBytes) {
+        this.filePath = filePath;
+        this.minCompactionBytes = minCompactionBytes;
+    }
+
+    /**
+     * Returns the journal of the snapshot at {@code file}.
+     */
+    static File getJournalFile(File file) {
+        return new File(file.getPath() + JOURNAL_SUFFIX);
+    }
+
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the snapshot or a complete record of its journal is not in the correct
+     *     format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(String filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        File file = new File(filePath);
+        if (!XmlFileStorage.isSaveFileExists(file)) {
+            logger.info("AddressBook file " + file + " not found");
+            return Optional.empty();
+        }
+
+        XmlStreamedAddressBook addressBook = XmlFileStorage.loadDataFromSaveFile(file);
+        File journalFile = getJournalFile(file);
+        long replayedLength = replayJournal(addressBook, journalFile);
+        // if the previous generation of the snapshot was loaded, its journal is the one kept by the last compaction
+        boolean isPreviousJournal = replayedLength == 0
+                && replayJournal(addressBook, XmlFileStorage.getPreviousGenerationFile(journalFile)) > 0;
+        if (filePath.equals(this.filePath)) {
+            // the journal kept is never appended to, so the next save starts a new snapshot instead
+            generation = isPreviousJournal ? null : addressBook.getGeneration();
+            rememberSaved(addressBook);
+            snapshotLength = file.length();
+            journalLength = replayedLength;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * Address books saved anywhere but {@link #getAddressBookFilePath()} are saved as a snapshot without a journal.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            XmlFileStorage.saveDataToFile(new File(filePath), new XmlSerializableAddressBook(addressBook));
+            return;
+        }
+        if (generation == null) {
+            compact(addressBook);
+            return;
+        }
+
+        ReadOnlyAddressBook current = addressBook.getSnapshot();
+        AddressBookDelta delta = AddressBookDelta.between(saved, current);
+        List<XmlAdaptedSplice> splices = new ArrayList<>();
+        for (Splice<ReadOnlyPerson> splice : delta.getPersonSplices()) {
+            for (Range range : diff(splice, JournaledAddressBookStorage::isSamePerson)) {
+                splices.add(XmlAdaptedSplice.ofPersons(range.index, range.removed,
+                        adapt(splice, range, XmlAdaptedPerson::new)));
+            }
+        }
+        for (Splice<ReadOnlyReminder> splice : delta.getReminderSplices()) {
+            for (Range range : diff(splice, JournaledAddressBookStorage::isSameReminder)) {
+                splices.add(XmlAdaptedSplice.ofReminders(range.index, range.removed,
+                        adapt(splice, range, XmlAdaptedReminder::new)));
+            }
+        }
+        // the order of the master tag list is not kept by the model, so it is only rewritten when its tags change
+        List<Tag> savedTags = saved.getTagList();
+        List<Tag> tags = current.getTagList();
+        if (!delta.getTagSplices().isEmpty() && !new HashSet<>(savedTags).equals(new HashSet<>(tags))) {
+            splices.add(XmlAdaptedSplice.ofTags(0, savedTags.size(),
+                    tags.stream().map(XmlAdaptedTag::new).collect(Collectors.toList())));
+        }
+
+        if (!splices.isEmpty()) {
+            appendToJournal(splices);
+        }
+        saved = current;
+        if (journalLength > Math.max(minCompactionBytes, snapshotLength)) {
+            compact(addressBook);
+        }
+    }
+
+    @Override
+    public void backupAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        String addressBookBackupFilePath = "backup/addressbook-backup.xml";
+        saveAddressBook(addressBook, addressBookBackupFilePath);
+    }
+
+    /**
+     * Saves {@code addressBook} as the snapshot of a new generation, whose journal is started on the next change.
+     * The journal of the replaced snapshot is kept as the previous generation of the journal, so that it still
+     * applies to the previous generation of the snapshot kept by {@link XmlFileStorage}.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        String newGeneration = UUID.randomUUID().toString();
+        XmlSerializableAddressBook snapshot = new XmlSerializableAddressBook(addressBook);
+        snapshot.setGeneration(newGeneration);
+
+        File file = new File(filePath);
+        XmlFileStorage.saveDataToFile(file, snapshot);
+        logger.fine("Saved snapshot " + newGeneration + " of " + file);
+        File journalFile = getJournalFile(file);
+        if (FileUtil.isFileExists(journalFile)) {
+            Files.move(journalFile.toPath(), XmlFileStorage.getPreviousGenerationFile(journalFile).toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        generation = newGeneration;
+        rememberSaved(addressBook);
+        snapshotLength = file.length();
+        journalLength = 0;
+    }
+
+    private void rememberSaved(ReadOnlyAddressBook addressBook) {
+        saved = addressBook.getSnapshot();
+    }
+
+    /**
+     * Appends {@code splices} to the journal of the current generation, starting the journal if needed.
+     * Anything after the valid part of the journal, such as a record whose append was interrupted, is discarded.
+     */
+    private void appendToJournal(List<XmlAdaptedSplice> splices) throws IOException {
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(records);
+        for (XmlAdaptedSplice splice : splices) {
+            byte[] payload = marshal(splice);
+            out.writeInt(payload.length);
+            out.writeInt(checksumOf(payload, 0, payload.length));
+            out.write(payload);
+        }
+
+        File journalFile = getJournalFile(new File(filePath));
+        if (journalLength == 0) {
+            byte[] header = createJournalHeader(generation);
+            FileUtil.writeToFileAtomically(journalFile, header, null);
+            journalLength = header.length;
+        }
+        try (FileChannel channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.WRITE)) {
+            channel.truncate(journalLength);
+            channel.position(journalLength);
+            ByteBuffer buffer = ByteBuffer.wrap(records.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        journalLength += records.size();
+    }
+
+    /**
+     * Applies the complete records of {@code journalFile} to {@code addressBook} if the journal belongs to the
+     * generation of {@code addressBook}.
+     *
+     * @return the length of the valid part of the journal, or 0 if it was not applied.
+     * @throws DataConversionException if a complete record cannot be applied.
+     */
+    private long replayJournal(XmlStreamedAddressBook addressBook, File journalFile)
+            throws DataConversionException, IOException {
+        if (addressBook.getGeneration() == null || !FileUtil.isFileExists(journalFile)) {
+            return 0;
+        }
+        ByteBuffer journal = ByteBuffer.wrap(Files.readAllBytes(journalFile.toPath()));
+        if (!addressBook.getGeneration().equals(readJournalHeader(journal))) {
+            logger.info("Ignoring journal " + journalFile + " of another generation of the address book");
+            return 0;
+        }
+
+        int replayed = 0;
+        while (journal.remaining() >= RECORD_HEADER_BYTES) {
+            int recordStart = journal.position();
+            int length = journal.getInt();
+            int checksum = journal.getInt();
+            if (length < 0 || length > journal.remaining()
+                    || checksumOf(journal.array(), journal.position(), length) != checksum) {
+                journal.position(recordStart);
+                break;
+            }
+            try {
+                unmarshal(journal.array(), journal.position(), length).applyTo(addressBook);
+            } catch (JAXBException | IllegalValueException e) {
+                throw new DataConversionException(e);
+            }
+            journal.position(journal.position() + length);
+            replayed++;
+        }
+        if (journal.hasRemaining()) {
+            logger.warning("Ignoring incomplete record at the end of journal " + journalFile);
+        }
+        logger.fine("Replayed " + replayed + " records of journal " + journalFile);
+        return journal.position();
+    }
+
+    /**
+     * Returns the header that starts the journal of the snapshot of {@code generation}.
+     */
+    private static byte[] createJournalHeader(String generation) {
+        byte[] generationBytes = generation.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(Integer.BYTES + Short.BYTES + generationBytes.length)
+                .putInt(JOURNAL_MAGIC)
+                .putShort((short) generationBytes.length)
+                .put(generationBytes)
+                .array();
+    }
+
+    /**
+     * Returns the generation in the header of {@code journal}, leaving {@code journal} positioned after the header,
+     * or null if {@code journal} does not start with a valid header.
+     */
+    private static String readJournalHeader(ByteBuffer journal) {
+        if (journal.remaining() < Integer.BYTES + Short.BYTES || journal.getInt() != JOURNAL_MAGIC) {
+            return null;
+        }
+        int length = journal.getShort();
+        if (length < 0 || length > journal.remaining()) {
+            return null;
+        }
+        String generation = new String(journal.array(), journal.position(), length, StandardCharsets.UTF_8);
+        journal.position(journal.position() + length);
+        return generation;
+    }
+
+    /**
+     * Returns {@code splice} as an xml fragment.
+     */
+    private static byte[] marshal(XmlAdaptedSplice splice) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            Marshaller m = XmlUtil.getContext(XmlAdaptedSplice.class).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            m.marshal(splice, out);
+        } catch (JAXBException e) {
+            assert false : "Unexpected exception " + e.getMessage();
+        }
+        return out.toByteArray();
+    }
+
+    private static XmlAdaptedSplice unmarshal(byte[] bytes, int offset, int length) throws JAXBException {
+        return (XmlAdaptedSplice) XmlUtil.getContext(XmlAdaptedSplice.class).createUnmarshaller()
+                .unmarshal(new ByteArrayInputStream(bytes, offset, length));
+    }
+
+    private static int checksumOf(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static boolean isSamePerson(ReadOnlyPerson saved, ReadOnlyPerson current) {
+        return saved == current || (saved.isSameStateAs(current) && saved.getTags().equals(current.getTags()));
+    }
+
+    private static boolean isSameReminder(ReadOnlyReminder saved, ReadOnlyReminder current) {
+        return saved == current || (saved.isSameStateAs(current) && saved.getTags().equals(current.getTags()));
+    }
+
+    /**
+     * Returns the entries inserted by {@code range} of {@code splice}, converted by {@code adapter}.
+     */
+    private static <T, A> List<A> adapt(Splice<T> splice, Range range, Function<T, A> adapter) {
+        int from = range.index - splice.getIndex();
+        return splice.getInserted().subList(from, from + range.inserted).stream()
+                .map(adapter).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the ranges of the list spliced by {@code splice} that really have to be replaced, leaving out the
+     * entries that {@code splice} replaces with equal ones. Such entries are only found when the saved entries
+     * were read back from the file, as the model keeps the instances of unchanged entries.
+     */
+    private static <T> List<Range> diff(Splice<T> splice, BiPredicate<T, T> isUnchanged) {
+        List<T> saved = splice.getRemoved();
+        List<T> current = splice.getInserted();
+        int offset = splice.getIndex();
+        List<Range> ranges = new ArrayList<>();
+        if (saved.size() == current.size()) {
+            // entries were only replaced, so every run of replaced entries is recorded in place
+            int i = 0;
+            while (i < current.size()) {
+                int start = i;
+                while (i < current.size() && !isUnchanged.test(saved.get(i), current.get(i))) {
+                    i++;
+                }
+                if (i > start) {
+                    ranges.add(new Range(offset + start, i - start, i - start));
+                } else {
+                    i++;
+                }
+            }
+            return ranges;
+        }
+
+        int shorter = Math.min(saved.size(), current.size());
+        int prefix = 0;
+        while (prefix < shorter && isUnchanged.test(saved.get(prefix), current.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < shorter - prefix && isUnchanged.test(saved.get(saved.size() - 1 - suffix),
+                current.get(current.size() - 1 - suffix))) {
+            suffix++;
+        }
+        if (prefix + suffix < Math.max(saved.size(), current.size())) {
+            ranges.add(new Range(offset + prefix, saved.size() - prefix - suffix,
+                    current.size() - prefix - suffix));
+        }
+        return ranges;
+    }
+
+    /**
+     * A range of {@code removed} saved entries from {@code index}, to be replaced by {@code inserted} current
+     * entries from the same index.
+     */
+    private static class Range {
+        private final int index;
+        private final int removed;
+        private final int inserted;
+
+        Range(int index, int removed, int inserted) {
+            this.index = index;
+            this.removed = removed;
+            this.inserted = inserted;
+        }
+    }
+
+}
@@ -0,0 +1,368 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ShardVersions;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.reminder.ReadOnlyReminder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data split into shard files on the hard disk: one xml file for each hash bucket of
+ * persons, one for the reminders and one for the tags, listed in a manifest file.
+ * Every save writes new versions of only the shards that changed since the last save, as told by the
+ * {@link ShardVersions} of the address book, and then atomically replaces the manifest to refer to them.
+ * If the manifest does not exist yet, the xml file it replaces is imported instead.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String XML_EXTENSION = ".xml";
+    private static final String SHARD_DIRECTORY_EXTENSION = ".shards";
+    private static final String MANIFEST_FILE_NAME = "manifest.xml";
+    private static final Pattern SHARD_FILE_PATTERN = Pattern.compile("(persons-\\d+|reminders|tags)\\.\\d+\\.xml");
+
+    private final String filePath;
+    private final String xmlFilePath;
+
+    // the manifest last read from or saved to filePath, and the versions of the shards it refers to
+    private XmlShardManifest savedManifest;
+    private ShardVersions savedVersions = ShardVersions.UNTRACKED;
+
+    /**
+     * @param filePath the manifest file, which is stored in the same directory as the shard files.
+     * @param xmlFilePath the xml file whose data is imported if there is no manifest yet.
+     */
+    public ShardedAddressBookStorage(String filePath, String xmlFilePath) {
+        this.filePath = filePath;
+        this.xmlFilePath = xmlFilePath;
+    }
+
+    /**
+     * Returns the path of the manifest of the shards that replace the xml file at {@code xmlFilePath}.
+     */
+    public static String toShardedFilePath(String xmlFilePath) {
+        String basePath = xmlFilePath.endsWith(XML_EXTENSION)
+                ? xmlFilePath.substring(0, xmlFilePath.length() - XML_EXTENSION.length())
+                : xmlFilePath;
+        return new File(basePath + SHARD_DIRECTORY_EXTENSION, MANIFEST_FILE_NAME).getPath();
+    }
+
+    /**
+     * Returns the name of {@code shard}, one of the shards of {@link ShardVersions}.
+     */
+    static String getShardName(int shard) {
+        if (shard == ShardVersions.REMINDER_SHARD) {
+            return "reminders";
+        } else if (shard == ShardVersions.TAG_SHARD) {
+            return "tags";
+        }
+        return String.format("persons-%02d", shard);
+    }
+
+    @Override
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(new File(filePath)) && new File(xmlFilePath).exists()) {
+            logger.info("Migrating AddressBook file " + xmlFilePath + " to " + filePath);
+            return importFromXml(xmlFilePath);
+        }
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, without importing the xml file.
+     * @param filePath location of the manifest. Cannot be null
+     * @throws DataConversionException if the manifest or a shard it refers to is missing or not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        File manifestFile = new File(filePath);
+        if (!FileUtil.isFileExists(manifestFile)) {
+            logger.info("AddressBook file " + manifestFile + " not found");
+            return Optional.empty();
+        }
+
+        XmlShardManifest manifest = readManifest(manifestFile);
+        File directory = manifestFile.getAbsoluteFile().getParentFile();
+        List<List<ReadOnlyPerson>> personShards = new ArrayList<>();
+        for (int shard = 0; shard < ShardVersions.PERSON_SHARD_COUNT; shard++) {
+            personShards.add(readShard(directory, manifest, shard).getPersonList());
+        }
+        List<ReadOnlyReminder> reminders = readShard(directory, manifest, ShardVersions.REMINDER_SHARD)
+                .getReminderList();
+        List<Tag> tags = readShard(directory, manifest, ShardVersions.TAG_SHARD).getTagList();
+
+        ShardVersions versions = ShardVersions.newVersions();
+        ReadOnlyAddressBook addressBook = new AddressBookSnapshot(mergeInOrder(personShards, manifest.getOrder()),
+                reminders, tags, versions);
+        if (filePath.equals(this.filePath)) {
+            savedManifest = manifest;
+            savedVersions = versions;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * Only the shards that changed since the last save to {@code filePath} are written.
+     * @param filePath location of the manifest. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        File manifestFile = new File(filePath);
+        File directory = manifestFile.getAbsoluteFile().getParentFile();
+        boolean isPrimary = filePath.equals(this.filePath) && savedManifest != null;
+        XmlShardManifest previous = isPrimary ? savedManifest : readManifestIfValid(manifestFile);
+        ShardVersions since = isPrimary ? savedVersions : ShardVersions.UNTRACKED;
+        ShardVersions versions = addressBook.getShardVersions();
+
+        XmlShardManifest manifest = new XmlShardManifest(previous);
+        List<List<ReadOnlyPerson>> personShards = null;
+        List<File> superseded = new ArrayList<>();
+        boolean isWritten = false;
+        for (int shard = 0; shard < ShardVersions.SHARD_COUNT; shard++) {
+            if (!versions.isChangedSince(since, shard)) {
+                continue;
+            }
+            if (shard < ShardVersions.PERSON_SHARD_COUNT && personShards == null) {
+                personShards = splitIntoShards(addressBook.getPersonList(), manifest);
+            }
+            String name = getShardName(shard);
+            long version = previous.getVersion(name);
+            writeShard(directory, name, version + 1, toShardContents(addressBook, shard, personShards));
+            manifest.setVersion(name, version + 1);
+            isWritten = true;
+            if (version > 0) {
+                superseded.add(getShardFile(directory, name, version));
+            }
+        }
+
+        if (isWritten) {
+            try {
+                XmlUtil.saveDataToFileAtomically(manifestFile, manifest, null);
+            } catch (JAXBException e) {
+                assert false : "Unexpected exception " + e.getMessage();
+            }
+            superseded.forEach(File::delete);
+            deleteUnusedShardFiles(directory, manifest);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedManifest = manifest;
+            savedVersions = versions;
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} as xml, so that the backup can be read and edited by hand.
+     */
+    @Override
+    public void backupAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        String addressBookBackupFilePath = "backup/addressbook-backup.xml";
+        XmlFileStorage.saveDataToFile(new File(addressBookBackupFilePath), new XmlSerializableAddressBook(addressBook));
+    }
+
+    /**
+     * Reads the xml address book at {@code xmlFilePath} and saves it into shards.
+     *
+     * @return the imported address book, or {@code Optional.empty()} if there is no xml file to import.
+     * @throws DataConversionException if the xml file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> importFromXml(String xmlFilePath) throws DataConversionException,
+            IOException {
+        requireNonNull(xmlFilePath);
+
+        Optional<ReadOnlyAddressBook> xmlAddressBook = new JournaledAddressBookStorage(xmlFilePath).readAddressBook();
+        if (!xmlAddressBook.isPresent()) {
+            return Optional.empty();
+        }
+        // versioned, so that saving the imported address book again does not rewrite any shard
+        ReadOnlyAddressBook addressBook = new AddressBookSnapshot(xmlAddressBook.get().getPersonList(),
+                xmlAddressBook.get().getReminderList(), xmlAddressBook.get().getTagList(),
+                ShardVersions.newVersions());
+        saveAddressBook(addressBook);
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the manifest in {@code manifestFile}.
+     */
+    private static XmlShardManifest readManifest(File manifestFile) throws DataConversionException,
+            FileNotFoundException {
+        try {
+            return XmlUtil.getDataFromFile(manifestFile, XmlShardManifest.class);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the manifest in {@code manifestFile}, or an empty manifest if it cannot be read,
+     * so that a save never reuses the versions of the shard files that the manifest refers to.
+     */
+    private static XmlShardManifest readManifestIfValid(File manifestFile) {
+        if (!FileUtil.isFileExists(manifestFile)) {
+            return new XmlShardManifest();
+        }
+        try {
+            return readManifest(manifestFile);
+        } catch (DataConversionException | FileNotFoundException e) {
+            logger.warning(manifestFile + " cannot be read, writing every shard again: " + e);
+            return new XmlShardManifest();
+        }
+    }
+
+    private static File getShardFile(File directory, String name, long version) {
+        return new File(directory, name + "." + version + XML_EXTENSION);
+    }
+
+    /**
+     * Returns the contents of {@code shard} in the file referred to by {@code manifest}, or an empty address book
+     * if the manifest refers to no file for the shard.
+     */
+    private static ReadOnlyAddressBook readShard(File directory, XmlShardManifest manifest, int shard)
+            throws DataConversionException {
+        String name = getShardName(shard);
+        long version = manifest.getVersion(name);
+        if (version == 0) {
+            return new AddressBookSnapshot(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        }
+        try {
+            return XmlStreamedAddressBook.load(getShardFile(directory, name, version));
+        } catch (FileNotFoundException fnfe) {
+            throw new DataConversionException(fnfe);
+        }
+    }
+
+    /**
+     * Returns the address book holding only the contents of {@code shard} of {@code addressBook}.
+     */
+    private static ReadOnlyAddressBook toShardContents(ReadOnlyAddressBook addressBook, int shard,
+            List<List<ReadOnlyPerson>> personShards) {
+        if (shard == ShardVersions.REMINDER_SHARD) {
+            return new AddressBookSnapshot(Collections.emptyList(), addressBook.getReminderList(),
+                    Collections.emptyList());
+        } else if (shard == ShardVersions.TAG_SHARD) {
+            return new AddressBookSnapshot(Collections.emptyList(), Collections.emptyList(),
+                    addressBook.getTagList());
+        }
+        return new AddressBookSnapshot(personShards.get(shard), Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Writes {@code contents} to the file holding {@code version} of the shard named {@code name}.
+     */
+    private static void writeShard(File directory, String name, long version, ReadOnlyAddressBook contents)
+            throws IOException {
+        try {
+            XmlUtil.saveDataToFileAtomically(getShardFile(directory, name, version),
+                    new XmlSerializableAddressBook(contents), null);
+        } catch (JAXBException e) {
+            assert false : "Unexpected exception " + e.getMessage();
+        }
+    }
+
+    /**
+     * Splits {@code persons} into the person shards, recording the shard of each person in {@code manifest}.
+     */
+    private static List<List<ReadOnlyPerson>> splitIntoShards(List<ReadOnlyPerson> persons,
+            XmlShardManifest manifest) {
+        List<List<ReadOnlyPerson>> personShards = new ArrayList<>();
+        for (int shard = 0; shard < ShardVersions.PERSON_SHARD_COUNT; shard++) {
+            personShards.add(new ArrayList<>());
+        }
+        StringBuilder order = new StringBuilder(persons.size());
+        for (ReadOnlyPerson person : persons) {
+            int shard = ShardVersions.personShardOf(person);
+            personShards.get(shard).add(person);
+            order.append(Character.forDigit(shard, Character.MAX_RADIX));
+        }
+        manifest.setOrder(order.toString());
+        return personShards;
+    }
+
+    /**
+     * Returns the persons in {@code personShards} in the order of the person list, as recorded in {@code order}.
+     *
+     * @throws DataConversionException if {@code order} does not match the number of persons in each shard.
+     */
+    private static List<ReadOnlyPerson> mergeInOrder(List<List<ReadOnlyPerson>> personShards, String order)
+            throws DataConversionException {
+        List<Iterator<ReadOnlyPerson>> iterators = new ArrayList<>();
+        personShards.forEach(personShard -> iterators.add(personShard.iterator()));
+        List<ReadOnlyPerson> persons = new ArrayList<>(order.length());
+        for (int i = 0; i < order.length(); i++) {
+            int shard = Character.digit(order.charAt(i), Character.MAX_RADIX);
+            if (shard < 0 || shard >= iterators.size() || !iterators.get(shard).hasNext()) {
+                throw new DataConversionException(
+                        new IllegalValueException("Person #" + (i + 1) + " is missing from its shard"));
+            }
+            persons.add(iterators.get(shard).next());
+        }
+        if (iterators.stream().anyMatch(Iterator::hasNext)) {
+            throw new DataConversionException(new IllegalValueException("Shards hold persons missing from the order"));
+        }
+        return persons;
+    }
+
+    /**
+     * Deletes the shard files in {@code directory} that {@code manifest} does not refer to, such as those left
+     * behind by a save that was interrupted before it replaced the manifest.
+     */
+    private static void deleteUnusedShardFiles(File directory, XmlShardManifest manifest) {
+        Set<String> used = new HashSet<>();
+        for (int shard = 0; shard < ShardVersions.SHARD_COUNT; shard++) {
+            String name = getShardName(shard);
+            used.add(getShardFile(directory, name, manifest.getVersion(name)).getName());
+        }
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (SHARD_FILE_PATTERN.matcher(file.getName()).matches() && !used.contains(file.getName())) {
+                logger.fine("Deleting unused shard file " + file);
+                file.delete();
+            }
+        }
+    }
+
+}
@@ -52,5 +52,17 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, DataBaseS
 
     void handleDatabaseChangedEvent(DatabaseChangedEvent abce);
 
+    //@@author
+    /**
+     * Blocks until every address book change handled so far has been written to the hard disk.
+     */
+    void flush();
+
+    /**
+     * Writes every address book change handled so far, as {@link #flush()} does, then stops the background writer
+     * and closes the undo history log. Changes handled afterwards are saved as they happen.
+     */
+    void stop();
+
 
 }
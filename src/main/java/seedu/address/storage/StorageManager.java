@@ -1,6 +1,9 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,8 +15,10 @@ import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.DatabaseChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBookDeltaStore;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyDatabase;
+import seedu.address.model.UndoHistoryLog;
 import seedu.address.model.UserPrefs;
 
 /**
@@ -22,10 +27,13 @@ import seedu.address.model.UserPrefs;
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    // the undo spill store is split into this many segments, so that it can be freed a part at a time
+    private static final int UNDO_SPILL_SEGMENTS = 4;
     private static AddressBookStorage addressBookStorage;
     private static DataBaseStorage dataBaseStorage;
     private UserPrefsStorage userPrefsStorage;
-
+    private WriteBehindSaver writeBehindSaver;
+    private UndoLogFile undoLogFile;
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
                           DataBaseStorage dataBaseStorage) {
@@ -35,6 +43,102 @@ public class StorageManager extends ComponentManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Makes {@link #handleAddressBookChangedEvent(AddressBookChangedEvent)} save the address book on a background
+     * thread, coalescing all the changes made within {@code debounceMillis} of each other into a single write.
+     * Does nothing if {@code debounceMillis} is not positive, leaving every change to be saved as it happens.
+     */
+    public void enableWriteBehind(long debounceMillis) {
+        if (debounceMillis <= 0 || writeBehindSaver != null) {
+            return;
+        }
+        writeBehindSaver = new WriteBehindSaver(this::saveAddressBook,
+            e -> raise(new DataSavingExceptionEvent(e)), debounceMillis);
+    }
+
+    @Override
+    public void flush() {
+        if (writeBehindSaver != null) {
+            writeBehindSaver.flush();
+        }
+        if (undoLogFile != null) {
+            undoLogFile.flush();
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (writeBehindSaver != null) {
+            writeBehindSaver.shutdown();
+            // any change still handled from now on is saved as it happens
+            writeBehindSaver = null;
+        }
+        if (undoLogFile != null) {
+            undoLogFile.close();
+            undoLogFile = null;
+        }
+    }
+
+    /**
+     * Makes this storage save the address book to {@code newAddressBookStorage} from now on, once the changes still
+     * waiting to be written to the current one have been written, so that they do not land in the new one.
+     * The undo history log of the current address book is closed, and the next call to
+     * {@link #openUndoHistoryLog(UserPrefs)} opens the log beside the new one.
+     */
+    public void switchAddressBookStorage(AddressBookStorage newAddressBookStorage) {
+        requireNonNull(newAddressBookStorage);
+        if (writeBehindSaver != null) {
+            writeBehindSaver.flush();
+        }
+        if (undoLogFile != null) {
+            undoLogFile.close();
+            undoLogFile = null;
+        }
+        addressBookStorage = newAddressBookStorage;
+    }
+
+    /**
+     * Returns the storage for the address book at {@code xmlFilePath} in {@code format}.
+     * Binary and sharded address books are stored next to {@code xmlFilePath}, and import it the first time they
+     * are read.
+     */
+    public static AddressBookStorage createAddressBookStorage(UserPrefs.AddressBookFormat format,
+                                                              String xmlFilePath) {
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.toBinaryFilePath(xmlFilePath), xmlFilePath);
+        case SHARDED:
+            return new ShardedAddressBookStorage(ShardedAddressBookStorage.toShardedFilePath(xmlFilePath),
+                    xmlFilePath);
+        default:
+            return new JournaledAddressBookStorage(xmlFilePath);
+        }
+    }
+
+    /**
+     * Returns the store that undo history beyond its memory budget is moved to, in a temporary directory,
+     * split into segments so that the oldest history can be freed while keeping within {@code diskBudget} bytes.
+     */
+    public static AddressBookDeltaStore createUndoSpillStore(long diskBudget) {
+        return new DeltaSegmentStore(Math.max(diskBudget / UNDO_SPILL_SEGMENTS, 1));
+    }
+
+    /**
+     * Opens the log of the undo history kept beside the address book file, or returns null if {@code userPrefs}
+     * do not have the undo history logged.
+     * The log is flushed along with the address book by {@link #flush()}.
+     */
+    public UndoHistoryLog openUndoHistoryLog(UserPrefs userPrefs) {
+        if (!userPrefs.isUndoHistoryLogged()) {
+            return null;
+        }
+        if (undoLogFile == null) {
+            undoLogFile = new UndoLogFile(Paths.get(UndoLogFile.toUndoLogFilePath(getAddressBookFilePath())),
+                    userPrefs.getUndoDiskBudget());
+        }
+        return undoLogFile;
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -91,6 +195,10 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (writeBehindSaver != null) {
+            writeBehindSaver.submit(event.data.getSnapshot());
+            return;
+        }
         try {
             saveAddressBook(event.data);
         } catch (IOException e) {
@@ -0,0 +1,386 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.UndoHistoryLog;
+
+/**
+ * Logs the undo history in an append-only file, so that commands can be undone across restarts and crashes.
+ *
+ * Each record is the byte length and the CRC-32 checksum of its payload, followed by the payload: a type byte,
+ * then, for an executed command, the byte length and UTF-8 bytes of its command text and the
+ * {@link BinaryDeltaFormat} of the delta that undoes it. Undone and redone commands have no more to their payload.
+ *
+ * All writes happen on a single background thread. Records appended while the previous batch is being forced to
+ * disk are written and forced together, so that a burst of commands costs one sync. When the file is opened,
+ * the same thread checks the records, cuts off any torn record left by a crash at the end of the file, and replays
+ * them to find the commands that were left undoable; their deltas are only read when they are undone.
+ * If the file has grown past its disk budget, it is then compacted down to the newest undoable commands.
+ */
+public class UndoLogFile implements UndoHistoryLog {
+
+    private static final Logger logger = LogsCenter.getLogger(UndoLogFile.class);
+
+    private static final String XML_EXTENSION = ".xml";
+    private static final String UNDO_LOG_EXTENSION = ".undolog";
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final byte EXECUTED = 1;
+    private static final byte UNDONE = 2;
+    private static final byte REDONE = 3;
+
+    private final Path file;
+    private final long diskBudget;
+    private final ExecutorService writer;
+    private final Future<List<Long>> history;
+
+    // only used on the writer thread
+    private FileChannel channel;
+    private boolean failed;
+
+    private final List<ByteBuffer> pending = new ArrayList<>();
+    private boolean commitScheduled;
+    private boolean closed;
+
+    /**
+     * Opens the log at {@code file}, creating it if it does not exist, and starts recovering it in the background.
+     * Once the log takes more than {@code diskBudget} bytes, it is compacted the next time it is opened.
+     */
+    public UndoLogFile(Path file, long diskBudget) {
+        this.file = requireNonNull(file);
+        this.diskBudget = diskBudget;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "undo-log-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.history = writer.submit(this::recover);
+    }
+
+    /**
+     * Returns the path of the undo log kept beside the xml file at {@code xmlFilePath}.
+     */
+    public static String toUndoLogFilePath(String xmlFilePath) {
+        String basePath = xmlFilePath.endsWith(XML_EXTENSION)
+                ? xmlFilePath.substring(0, xmlFilePath.length() - XML_EXTENSION.length())
+                : xmlFilePath;
+        return basePath + UNDO_LOG_EXTENSION;
+    }
+
+    @Override
+    public void logExecuted(String commandText, AddressBookDelta undoDelta) {
+        requireNonNull(commandText);
+        requireNonNull(undoDelta);
+        byte[] text = commandText.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer delta = BinaryDeltaFormat.encode(undoDelta);
+        ByteBuffer payload = ByteBuffer.allocate(1 + Integer.BYTES + text.length + delta.remaining());
+        payload.put(EXECUTED).putInt(text.length).put(text).put(delta).flip();
+        append(payload);
+    }
+
+    @Override
+    public void logUndone() {
+        append(ByteBuffer.wrap(new byte[] {UNDONE}));
+    }
+
+    @Override
+    public void logRedone() {
+        append(ByteBuffer.wrap(new byte[] {REDONE}));
+    }
+
+    @Override
+    public List<Long> readHistory() throws IOException {
+        try {
+            return history.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the undo log", ie);
+        } catch (ExecutionException ee) {
+            throw (ee.getCause() instanceof IOException) ? (IOException) ee.getCause() : new IOException(ee);
+        }
+    }
+
+    @Override
+    public Entry read(long position) throws DataConversionException, IOException {
+        try (FileChannel reader = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer payload = readRecord(reader, position);
+            if (payload.get() != EXECUTED) {
+                throw new DataConversionException(new IllegalValueException("No command is logged at " + position));
+            }
+            byte[] text = new byte[payload.getInt()];
+            payload.get(text);
+            return new Entry(new String(text, StandardCharsets.UTF_8), BinaryDeltaFormat.decode(payload.slice()));
+        } catch (IllegalValueException | IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Writes all the records appended so far and waits until they have been forced to disk.
+     */
+    public void flush() {
+        try {
+            writer.submit(this::commitPending).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("Committing the undo log should not throw", ee);
+        }
+    }
+
+    /**
+     * Writes all the records appended so far and waits until they have been forced to disk, then closes the file
+     * and stops the writer thread. Records appended afterwards are dropped.
+     */
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        try {
+            writer.submit(() -> {
+                commitPending();
+                closeChannel();
+            }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("Closing the undo log should not throw", ee);
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * Closes the file, if it was opened. Only called on the writer thread.
+     */
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ioe) {
+            logger.warning("Could not close the undo log: " + ioe);
+        }
+        channel = null;
+    }
+
+    /**
+     * Adds a record with {@code payload} to the next batch to be committed, scheduling the batch if need be.
+     */
+    private synchronized void append(ByteBuffer payload) {
+        if (closed) {
+            logger.warning("The undo log has been closed, dropping a record");
+            return;
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(payload.array(), 0, payload.limit());
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.limit());
+        record.putInt(payload.limit()).putInt((int) checksum.getValue()).put(payload).flip();
+        pending.add(record);
+        if (!commitScheduled) {
+            commitScheduled = true;
+            writer.execute(this::commitPending);
+        }
+    }
+
+    /**
+     * Takes every pending record, appends them to the file in one write and forces them to disk.
+     * After any failure, no more records are written, as a log with a record missing from its middle would undo
+     * the wrong commands; a record left half-written is cut off the next time the log is opened.
+     */
+    private void commitPending() {
+        final ByteBuffer[] batch;
+        synchronized (this) {
+            batch = pending.toArray(new ByteBuffer[pending.size()]);
+            pending.clear();
+            commitScheduled = false;
+        }
+        if (batch.length == 0 || failed || channel == null) {
+            return;
+        }
+        try {
+            channel.position(channel.size());
+            while (batch[batch.length - 1].hasRemaining()) {
+                channel.write(batch);
+            }
+            channel.force(false);
+        } catch (IOException ioe) {
+            logger.warning("Could not write the undo log, no longer logging the undo history: " + ioe);
+            failed = true;
+        }
+    }
+
+    /**
+     * Opens the file, cuts off any records that are torn or out of place at its end, and compacts it if it is over
+     * the disk budget.
+     *
+     * @return the positions of the commands left undoable by the records, oldest first.
+     */
+    private List<Long> recover() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        Deque<Long> undoable = new ArrayDeque<>();
+        Deque<Long> redoable = new ArrayDeque<>();
+        long size = channel.size();
+        long position = 0;
+        while (position < size) {
+            ByteBuffer payload;
+            try {
+                payload = readRecord(channel, position);
+            } catch (EOFException | DataConversionException e) {
+                break;
+            }
+            if (!replay(payload.get(), position, undoable, redoable)) {
+                break;
+            }
+            position += HEADER_BYTES + payload.limit();
+        }
+        if (position < size) {
+            logger.warning("Cutting off the last " + (size - position) + " bytes of the undo log, which are torn");
+            channel.truncate(position);
+        }
+
+        if (position > diskBudget) {
+            compact(undoable);
+        }
+        return new ArrayList<>(undoable);
+    }
+
+    /**
+     * Replays the record of type {@code type} at {@code position} onto the positions of the {@code undoable} and
+     * {@code redoable} commands.
+     *
+     * @return false if the record cannot follow the records before it.
+     */
+    private static boolean replay(byte type, long position, Deque<Long> undoable, Deque<Long> redoable) {
+        switch (type) {
+        case EXECUTED:
+            undoable.addLast(position);
+            redoable.clear();
+            return true;
+        case UNDONE:
+            if (undoable.isEmpty()) {
+                return false;
+            }
+            redoable.addLast(undoable.removeLast());
+            return true;
+        case REDONE:
+            if (redoable.isEmpty()) {
+                return false;
+            }
+            undoable.addLast(redoable.removeLast());
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Rewrites the file with only the records of the newest {@code undoable} commands that fit in half of the disk
+     * budget, and replaces the contents of {@code undoable} with their new positions.
+     */
+    private void compact(Deque<Long> undoable) throws IOException {
+        Deque<long[]> kept = new ArrayDeque<>();
+        long keptSize = 0;
+        Iterator<Long> newestFirst = undoable.descendingIterator();
+        while (newestFirst.hasNext()) {
+            long position = newestFirst.next();
+            long recordSize = HEADER_BYTES + readFully(channel, position, Integer.BYTES).getInt();
+            if (keptSize + recordSize > diskBudget / 2) {
+                break;
+            }
+            kept.addFirst(new long[] {position, recordSize});
+            keptSize += recordSize;
+        }
+
+        Path compacted = file.resolveSibling(file.getFileName() + ".compacting");
+        undoable.clear();
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (long[] record : kept) {
+                undoable.addLast(out.position());
+                long copied = 0;
+                while (copied < record[1]) {
+                    copied += channel.transferTo(record[0] + copied, record[1] - copied, out);
+                }
+            }
+            out.force(false);
+        }
+        channel.close();
+        Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        logger.info("Compacted the undo log down to the newest " + kept.size() + " undoable commands");
+    }
+
+    /**
+     * Returns the payload of the record at {@code position}, after checking it against its checksum.
+     * Throws an {@code EOFException} if the record runs past the end of the file, and a
+     * {@code DataConversionException} if it does not match its checksum.
+     */
+    private static ByteBuffer readRecord(FileChannel channel, long position)
+            throws DataConversionException, IOException {
+        ByteBuffer header = readFully(channel, position, HEADER_BYTES);
+        int length = header.getInt();
+        int expectedChecksum = header.getInt();
+        if (length <= 0 || position + HEADER_BYTES + length > channel.size()) {
+            throw new EOFException("Undo log record at " + position + " is truncated");
+        }
+        ByteBuffer payload = readFully(channel, position + HEADER_BYTES, length);
+        CRC32 checksum = new CRC32();
+        checksum.update(payload.array(), 0, length);
+        if ((int) checksum.getValue() != expectedChecksum) {
+            throw new DataConversionException(
+                    new IllegalValueException("Undo log record at " + position + " is corrupted"));
+        }
+        return payload;
+    }
+
+    /**
+     * Returns the {@code length} bytes of {@code channel} from {@code offset}.
+     */
+    private static ByteBuffer readFully(FileChannel channel, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException("Undo log is truncated");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+}
@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books on a single background thread, coalescing bursts of changes into one write.
+ * The first change after a write schedules the next write one debounce window later; every change submitted
+ * before that write starts replaces the pending address book, so only the latest one is written.
+ */
+public class WriteBehindSaver {
+
+    /**
+     * Saves an address book, e.g. to a file.
+     */
+    @FunctionalInterface
+    public interface Saver {
+        void save(ReadOnlyAddressBook addressBook) throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Saver saver;
+    private final Consumer<Exception> failureHandler;
+    private final long debounceMillis;
+    private final ScheduledExecutorService writer;
+
+    private ReadOnlyAddressBook pending;
+    private boolean writeScheduled;
+
+    /**
+     * @param saver writes an address book, called on the background thread only.
+     * @param failureHandler is told of every failed write, including writes failing with a runtime exception, on
+     *                       the background thread.
+     * @param debounceMillis how long to wait after the first of a burst of changes before writing.
+     */
+    public WriteBehindSaver(Saver saver, Consumer<Exception> failureHandler, long debounceMillis) {
+        requireNonNull(saver);
+        requireNonNull(failureHandler);
+        this.saver = saver;
+        this.failureHandler = failureHandler;
+        this.debounceMillis = debounceMillis;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Marks {@code addressBook} as the latest version to be written.
+     * {@code addressBook} must not be modified afterwards, as it is written on another thread.
+     */
+    public synchronized void submit(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (writer.isShutdown()) {
+            logger.warning("Address book submitted after the saver was shut down is not written");
+            return;
+        }
+        pending = addressBook;
+        if (!writeScheduled) {
+            writeScheduled = true;
+            writer.schedule(this::writePending, debounceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the pending address book, if any, and waits until it has been written.
+     * Does nothing once the saver has been shut down, as everything pending was written then.
+     */
+    public void flush() {
+        if (writer.isShutdown()) {
+            return;
+        }
+        try {
+            writer.submit(this::writePending).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("Writing the pending address book should not throw", ee);
+        }
+    }
+
+    /**
+     * Writes the pending address book, if any, and stops the background thread.
+     * Address books submitted afterwards are not written.
+     */
+    public void shutdown() {
+        flush();
+        writer.shutdown();
+    }
+
+    /**
+     * Takes the pending address book, if any, and writes it, reporting any failure to the failure handler.
+     */
+    private void writePending() {
+        final ReadOnlyAddressBook toWrite;
+        synchronized (this) {
+            toWrite = pending;
+            pending = null;
+            writeScheduled = false;
+        }
+        if (toWrite == null) {
+            return;
+        }
+        try {
+            saver.save(toWrite);
+        } catch (IOException | RuntimeException e) {
+            // a runtime exception would otherwise be kept by the executor, unseen, and the change never saved
+            logger.warning("Failed to save address book in the background: " + e);
+            failureHandler.accept(e);
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.reminder.ReadOnlyReminder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * JAXB-friendly record of a change to one of the lists of an address book:
+ * {@code removed} entries starting at {@code index} were replaced by the given entries.
+ */
+@XmlRootElement(name = "splice")
+public class XmlAdaptedSplice {
+
+    /**
+     * The list of an address book that a splice changes.
+     */
+    public enum Target { PERSONS, REMINDERS, TAGS }
+
+    @XmlAttribute(required = true)
+    private Target target;
+    @XmlAttribute(required = true)
+    private int index;
+    @XmlAttribute(required = true)
+    private int removed;
+
+    @XmlElement
+    private List<XmlAdaptedPerson> persons = new ArrayList<>();
+    @XmlElement
+    private List<XmlAdaptedReminder> reminders = new ArrayList<>();
+    @XmlElement
+    private List<XmlAdaptedTag> tags = new ArrayList<>();
+
+    /**
+     * Constructs an XmlAdaptedSplice.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedSplice() {}
+
+    private XmlAdaptedSplice(Target target, int index, int removed) {
+        this.target = target;
+        this.index = index;
+        this.removed = removed;
+    }
+
+    /**
+     * Returns a splice replacing {@code removed} persons from {@code index} with {@code inserted}.
+     */
+    public static XmlAdaptedSplice ofPersons(int index, int removed, List<XmlAdaptedPerson> inserted) {
+        XmlAdaptedSplice splice = new XmlAdaptedSplice(Target.PERSONS, index, removed);
+        splice.persons.addAll(inserted);
+        return splice;
+    }
+
+    /**
+     * Returns a splice replacing {@code removed} reminders from {@code index} with {@code inserted}.
+     */
+    public static XmlAdaptedSplice ofReminders(int index, int removed, List<XmlAdaptedReminder> inserted) {
+        XmlAdaptedSplice splice = new XmlAdaptedSplice(Target.REMINDERS, index, removed);
+        splice.reminders.addAll(inserted);
+        return splice;
+    }
+
+    /**
+     * Returns a splice replacing {@code removed} tags from {@code index} with {@code inserted}.
+     */
+    public static XmlAdaptedSplice ofTags(int index, int removed, List<XmlAdaptedTag> inserted) {
+        XmlAdaptedSplice splice = new XmlAdaptedSplice(Target.TAGS, index, removed);
+        splice.tags.addAll(inserted);
+        return splice;
+    }
+
+    /**
+     * Applies this change to the matching list of {@code addressBook}.
+     *
+     * @throws IllegalValueException if the changed entries do not exist in {@code addressBook},
+     *     or the inserted entries have invalid values.
+     */
+    public void applyTo(XmlStreamedAddressBook addressBook) throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException("Splice is missing its target list");
+        }
+        switch (target) {
+        case PERSONS:
+            List<ReadOnlyPerson> insertedPersons = new ArrayList<>();
+            for (XmlAdaptedPerson person : persons) {
+                insertedPersons.add(person.toModelType());
+            }
+            splice(addressBook.getModifiablePersons(), insertedPersons);
+            break;
+        case REMINDERS:
+            List<ReadOnlyReminder> insertedReminders = new ArrayList<>();
+            for (XmlAdaptedReminder reminder : reminders) {
+                insertedReminders.add(reminder.toModelType());
+            }
+            splice(addressBook.getModifiableReminders(), insertedReminders);
+            break;
+        default:
+            List<Tag> insertedTags = new ArrayList<>();
+            for (XmlAdaptedTag tag : tags) {
+                insertedTags.add(tag.toModelType());
+            }
+            splice(addressBook.getModifiableTags(), insertedTags);
+        }
+    }
+
+    /**
+     * Replaces {@code removed} entries of {@code list} from {@code index} with {@code inserted}.
+     */
+    private <T> void splice(List<T> list, List<T> inserted) throws IllegalValueException {
+        if (index < 0 || removed < 0 || index + removed > list.size()) {
+            throw new IllegalValueException("Splice of " + removed + " " + target + " at " + index
+                    + " is out of bounds of a list of size " + list.size());
+        }
+        list.subList(index, index + removed).clear();
+        list.addAll(index, inserted);
+    }
+
+}
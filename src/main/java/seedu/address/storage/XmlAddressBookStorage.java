@@ -10,7 +10,6 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -46,7 +45,7 @@ public class XmlAddressBookStorage implements AddressBookStorage {
 
         File addressBookFile = new File(filePath);
 
-        if (!addressBookFile.exists()) {
+        if (!XmlFileStorage.isSaveFileExists(addressBookFile)) {
             logger.info("AddressBook file "  + addressBookFile + " not found");
             return Optional.empty();
         }
@@ -70,7 +69,6 @@ public class XmlAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         File file = new File(filePath);
-        FileUtil.createIfMissing(file);
         XmlFileStorage.saveDataToFile(file, new XmlSerializableAddressBook(addressBook));
     }
 
@@ -11,7 +11,6 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyDatabase;
 
 /**
@@ -47,7 +46,7 @@ public class XmlDatabaseStorage implements DataBaseStorage {
 
         File databaseFile = new File(filePath);
 
-        if (!databaseFile.exists()) {
+        if (!XmlFileStorage.isSaveFileExists(databaseFile)) {
             logger.info("Database file "  + databaseFile + " not found");
             return Optional.empty();
         }
@@ -71,7 +70,6 @@ public class XmlDatabaseStorage implements DataBaseStorage {
         requireNonNull(filePath);
 
         File file = new File(filePath);
-        FileUtil.createIfMissing(file);
         XmlFileStorage.saveDataBaseToFile(file, new XmlSerializableDatabase(database));
     }
 
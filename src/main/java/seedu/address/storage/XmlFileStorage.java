@@ -2,23 +2,46 @@ package seedu.address.storage;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.logging.Logger;
 
 import javax.xml.bind.JAXBException;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
 
 /**
  * Stores addressbook data in an XML file
  */
 public class XmlFileStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlFileStorage.class);
+    private static final String PREVIOUS_GENERATION_SUFFIX = ".bak";
+
+    /**
+     * Returns the file holding the version of {@code file} that was replaced by the last save,
+     * which is loaded instead of {@code file} if {@code file} is missing or corrupted.
+     */
+    public static File getPreviousGenerationFile(File file) {
+        return new File(file.getPath() + PREVIOUS_GENERATION_SUFFIX);
+    }
+
+    /**
+     * Returns true if {@code file}, or the version of it replaced by the last save, exists.
+     */
+    public static boolean isSaveFileExists(File file) {
+        return FileUtil.isFileExists(file) || FileUtil.isFileExists(getPreviousGenerationFile(file));
+    }
+
     /**
      * Saves the given addressbook data to the specified file.
+     * The file is replaced atomically, and its previous version is kept as its previous generation.
      */
-    public static void saveDataToFile(File file, XmlSerializableAddressBook addressBook)
-            throws FileNotFoundException {
+    public static void saveDataToFile(File file, XmlSerializableAddressBook addressBook) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, addressBook);
+            XmlUtil.saveDataToFileAtomically(file, addressBook, getPreviousGenerationFile(file));
         } catch (JAXBException e) {
             assert false : "Unexpected exception " + e.getMessage();
         }
@@ -30,25 +53,21 @@ public class XmlFileStorage {
      * @param database
      * @throws FileNotFoundException
      */
-    public static void saveDataBaseToFile(File file, XmlSerializableDatabase database)
-            throws FileNotFoundException {
+    public static void saveDataBaseToFile(File file, XmlSerializableDatabase database) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, database);
+            XmlUtil.saveDataToFileAtomically(file, database, getPreviousGenerationFile(file));
         } catch (JAXBException e) {
             assert false : "Unexpected exception " + e.getMessage();
         }
     }
 
     /**
-     * Returns address book in the file or an empty address book
+     * Returns address book in the file or an empty address book.
+     * Falls back to the previous generation of the file if the file is missing or corrupted.
      */
-    public static XmlSerializableAddressBook loadDataFromSaveFile(File file) throws DataConversionException,
+    public static XmlStreamedAddressBook loadDataFromSaveFile(File file) throws DataConversionException,
                                                                             FileNotFoundException {
-        try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class);
-        } catch (JAXBException e) {
-            throw new DataConversionException(e);
-        }
+        return loadWithFallback(file, XmlStreamedAddressBook::load);
     }
 
     //@@author cqhchan
@@ -61,11 +80,47 @@ public class XmlFileStorage {
      */
     public static XmlSerializableDatabase loadDataBaseFromSaveFile(File file) throws DataConversionException,
             FileNotFoundException {
+        return loadWithFallback(file, databaseFile -> {
+            try {
+                return XmlUtil.getDataFromFile(databaseFile, XmlSerializableDatabase.class);
+            } catch (JAXBException e) {
+                throw new DataConversionException(e);
+            }
+        });
+    }
+
+    //@@author
+    /**
+     * Reads data from a file.
+     */
+    @FunctionalInterface
+    private interface Loader<T> {
+        T load(File file) throws DataConversionException, FileNotFoundException;
+    }
+
+    /**
+     * Returns the data in {@code file}, or in its previous generation if {@code file} is missing or cannot be read.
+     *
+     * @throws DataConversionException if neither file can be read, with the reason {@code file} could not be read.
+     * @throws FileNotFoundException if neither file exists.
+     */
+    private static <T> T loadWithFallback(File file, Loader<T> loader) throws DataConversionException,
+            FileNotFoundException {
+        File previousGeneration = getPreviousGenerationFile(file);
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableDatabase.class);
-        } catch (JAXBException e) {
-            throw new DataConversionException(e);
+            return loader.load(file);
+        } catch (FileNotFoundException fnfe) {
+            if (!FileUtil.isFileExists(previousGeneration)) {
+                throw fnfe;
+            }
+            logger.warning(file + " is missing, loading its previous generation " + previousGeneration);
+        } catch (DataConversionException dce) {
+            if (!FileUtil.isFileExists(previousGeneration)) {
+                throw dce;
+            }
+            logger.warning(file + " is corrupted, loading its previous generation " + previousGeneration);
         }
+        return loader.load(previousGeneration);
     }
 
 }
@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts the adapted records of one list of an xml file into their model types, in the order they were read.
+ * Records are converted in chunks, and chunks large enough to be worth it are converted in parallel on the common
+ * fork-join pool, so that only one chunk of adapted records is held at a time.
+ * Records that fail validation are collected with their position in the file instead of stopping the conversion.
+ */
+class XmlRecordConverter<A, M> {
+
+    static final int CHUNK_SIZE = 1024;
+    static final int PARALLEL_THRESHOLD = 256;
+
+    /**
+     * Converts an adapted record into its model type.
+     */
+    @FunctionalInterface
+    interface Conversion<A, M> {
+        M convert(A adapted) throws IllegalValueException;
+    }
+
+    private final String recordName;
+    private final Conversion<A, M> conversion;
+    private final List<A> pending = new ArrayList<>();
+    private final List<M> converted = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private int convertedCount;
+
+    /**
+     * @param recordName identifies the records in error messages, e.g. the name of their xml elements.
+     */
+    XmlRecordConverter(String recordName, Conversion<A, M> conversion) {
+        this.recordName = recordName;
+        this.conversion = conversion;
+    }
+
+    /**
+     * Queues {@code adapted}, the next record read from the file, for conversion.
+     */
+    void add(A adapted) {
+        pending.add(adapted);
+        if (pending.size() >= CHUNK_SIZE) {
+            convertPending();
+        }
+    }
+
+    /**
+     * Returns the records converted so far, in the order they were added, without the records that failed.
+     */
+    List<M> getConverted() {
+        convertPending();
+        return converted;
+    }
+
+    /**
+     * Returns a message for each record that failed validation, in the order they were added.
+     */
+    List<String> getErrors() {
+        convertPending();
+        return errors;
+    }
+
+    /**
+     * Converts the queued records, in parallel if there are enough of them.
+     */
+    private void convertPending() {
+        Stream<A> records = (pending.size() >= PARALLEL_THRESHOLD) ? pending.parallelStream() : pending.stream();
+        // collecting an ordered stream keeps the results in file order even when it is converted in parallel
+        List<Result<M>> results = records.map(this::tryConvert).collect(Collectors.toList());
+        for (Result<M> result : results) {
+            convertedCount++;
+            if (result.error == null) {
+                converted.add(result.value);
+            } else {
+                errors.add(recordName + " #" + convertedCount + ": " + result.error);
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * Returns {@code adapted} converted, or the reason it is invalid.
+     */
+    private Result<M> tryConvert(A adapted) {
+        try {
+            return new Result<>(conversion.convert(adapted), null);
+        } catch (IllegalValueException ive) {
+            return new Result<>(null, ive.getMessage());
+        }
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} listing {@code errors}, if there are any.
+     */
+    static void requireNoErrors(List<String> errors) throws IllegalValueException {
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(errors.size() + " invalid records:\n" + String.join("\n", errors));
+        }
+    }
+
+    /**
+     * The converted record, or the reason it could not be converted.
+     */
+    private static class Result<M> {
+        private final M value;
+        private final String error;
+
+        Result(M value, String error) {
+            this.value = value;
+            this.error = error;
+        }
+    }
+
+}
@@ -2,14 +2,16 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.reminder.ReadOnlyReminder;
@@ -21,6 +23,11 @@ import seedu.address.model.tag.Tag;
 @XmlRootElement(name = "addressbook")
 public class XmlSerializableAddressBook implements ReadOnlyAddressBook {
 
+    private static final Logger logger = LogsCenter.getLogger(XmlSerializableAddressBook.class);
+
+    // identifies the snapshot that a journal of later changes applies to, absent if there is no such journal
+    @XmlAttribute
+    private String generation;
     @XmlElement
     private List<XmlAdaptedPerson> persons;
     @XmlElement
@@ -49,46 +56,32 @@ public class XmlSerializableAddressBook implements ReadOnlyAddressBook {
         tags.addAll(src.getTagList().stream().map(XmlAdaptedTag::new).collect(Collectors.toList()));
     }
 
+    void setGeneration(String generation) {
+        this.generation = generation;
+    }
+
     @Override
     public ObservableList<ReadOnlyPerson> getPersonList() {
-        final ObservableList<ReadOnlyPerson> persons = this.persons.stream().map(p -> {
-            try {
-                return p.toModelType();
-            } catch (IllegalValueException e) {
-                e.printStackTrace();
-                //TODO: better error handling
-                return null;
-            }
-        }).collect(Collectors.toCollection(FXCollections::observableArrayList));
-        return FXCollections.unmodifiableObservableList(persons);
+        return convert(persons, new XmlRecordConverter<>("persons", XmlAdaptedPerson::toModelType));
     }
 
     @Override
     public ObservableList<ReadOnlyReminder> getReminderList() {
-        final ObservableList<ReadOnlyReminder> reminders = this.reminders.stream().map(p -> {
-            try {
-                return p.toModelType();
-            } catch (IllegalValueException e) {
-                e.printStackTrace();
-                //TODO: better error handling
-                return null;
-            }
-        }).collect(Collectors.toCollection(FXCollections::observableArrayList));
-        return FXCollections.unmodifiableObservableList(reminders);
+        return convert(reminders, new XmlRecordConverter<>("reminders", XmlAdaptedReminder::toModelType));
     }
 
     @Override
     public ObservableList<Tag> getTagList() {
-        final ObservableList<Tag> tags = this.tags.stream().map(t -> {
-            try {
-                return t.toModelType();
-            } catch (IllegalValueException e) {
-                e.printStackTrace();
-                //TODO: better error handling
-                return null;
-            }
-        }).collect(Collectors.toCollection(FXCollections::observableArrayList));
-        return FXCollections.unmodifiableObservableList(tags);
+        return convert(tags, new XmlRecordConverter<>("tags", XmlAdaptedTag::toModelType));
+    }
+
+    /**
+     * Returns the valid records of {@code adapted} converted by {@code converter}, logging the invalid ones.
+     */
+    private static <A, M> ObservableList<M> convert(List<A> adapted, XmlRecordConverter<A, M> converter) {
+        adapted.forEach(converter::add);
+        converter.getErrors().forEach(error -> logger.warning("Skipping invalid record " + error));
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(converter.getConverted()));
     }
 
 }
@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * JAXB-friendly manifest of a sharded address book: the version of the file currently holding each shard, and
+ * the shard of each person in the order of the person list.
+ * The manifest is replaced atomically after the shard files it refers to have been written, so it always refers to
+ * a consistent set of shard files.
+ */
+@XmlRootElement(name = "shards")
+public class XmlShardManifest {
+
+    @XmlElement(name = "shard")
+    private List<Entry> entries = new ArrayList<>();
+    // one digit, in base Character.MAX_RADIX, for the shard of each person in the person list
+    @XmlElement
+    private String order = "";
+
+    /**
+     * Constructs an XmlShardManifest.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlShardManifest() {}
+
+    /**
+     * Returns a copy of {@code source}.
+     */
+    XmlShardManifest(XmlShardManifest source) {
+        source.entries.forEach(entry -> entries.add(new Entry(entry.name, entry.version)));
+        order = source.order;
+    }
+
+    /**
+     * Returns the version of the file holding the shard named {@code name}, or 0 if there is no such file.
+     */
+    long getVersion(String name) {
+        return entries.stream().filter(entry -> entry.name.equals(name)).mapToLong(entry -> entry.version)
+                .findFirst().orElse(0);
+    }
+
+    void setVersion(String name, long version) {
+        for (Entry entry : entries) {
+            if (entry.name.equals(name)) {
+                entry.version = version;
+                return;
+            }
+        }
+        entries.add(new Entry(name, version));
+    }
+
+    String getOrder() {
+        return order;
+    }
+
+    void setOrder(String order) {
+        this.order = order;
+    }
+
+    /**
+     * The version of the file holding one shard.
+     */
+    public static class Entry {
+        @XmlAttribute(required = true)
+        private String name;
+        @XmlAttribute(required = true)
+        private long version;
+
+        /**
+         * Constructs an Entry.
+         * This is the no-arg constructor that is required by JAXB.
+         */
+        public Entry() {}
+
+        Entry(String name, long version) {
+            this.name = name;
+            this.version = version;
+        }
+    }
+
+}
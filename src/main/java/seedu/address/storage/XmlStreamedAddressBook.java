@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.reminder.ReadOnlyReminder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An AddressBook read from the XML format of {@link XmlSerializableAddressBook} in a single streaming pass.
+ * Person, reminder and tag elements are converted to their model types in chunks as they are read, so the adapted
+ * objects of the whole file are never held at once, and the model objects are only created once.
+ * @see XmlRecordConverter
+ */
+public class XmlStreamedAddressBook implements ReadOnlyAddressBook {
+
+    private static final String ROOT_ELEMENT = "addressbook";
+    private static final String GENERATION_ATTRIBUTE = "generation";
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    private final List<ReadOnlyPerson> persons = new ArrayList<>();
+    private final List<ReadOnlyReminder> reminders = new ArrayList<>();
+    private final List<Tag> tags = new ArrayList<>();
+    private final ObservableList<ReadOnlyPerson> personView =
+            FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    private final ObservableList<ReadOnlyReminder> reminderView =
+            FXCollections.unmodifiableObservableList(FXCollections.observableList(reminders));
+    private final ObservableList<Tag> tagView =
+            FXCollections.unmodifiableObservableList(FXCollections.observableList(tags));
+    private String generation;
+
+    private XmlStreamedAddressBook() {}
+
+    /**
+     * Returns the address book in {@code file}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the correct format or has invalid values.
+     */
+    public static XmlStreamedAddressBook load(File file) throws DataConversionException, FileNotFoundException {
+        XmlStreamedAddressBook addressBook = new XmlStreamedAddressBook();
+        // closing the reader does not close the stream it reads from
+        try (XmlUtil.VerifiedInputStream content = XmlUtil.openVerifiedFile(file)) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(content);
+            try {
+                addressBook.readFrom(reader);
+            } finally {
+                close(reader);
+            }
+            // the reader stops at the end of the root element, short of the end of the content
+            content.verify();
+        } catch (FileNotFoundException fnfe) {
+            throw fnfe;
+        } catch (IOException | XMLStreamException | JAXBException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the children of the root element of {@code reader} into this address book.
+     */
+    private void readFrom(XMLStreamReader reader) throws XMLStreamException, JAXBException, IllegalValueException {
+        if (reader.nextTag() != XMLStreamReader.START_ELEMENT || !ROOT_ELEMENT.equals(reader.getLocalName())) {
+            throw new XMLStreamException("Expected <" + ROOT_ELEMENT + "> element", reader.getLocation());
+        }
+        generation = reader.getAttributeValue(null, GENERATION_ATTRIBUTE);
+
+        XmlRecordConverter<XmlAdaptedPerson, ReadOnlyPerson> personConverter =
+                new XmlRecordConverter<>("persons", XmlAdaptedPerson::toModelType);
+        XmlRecordConverter<XmlAdaptedReminder, ReadOnlyReminder> reminderConverter =
+                new XmlRecordConverter<>("reminders", XmlAdaptedReminder::toModelType);
+        XmlRecordConverter<XmlAdaptedTag, Tag> tagConverter =
+                new XmlRecordConverter<>("tags", XmlAdaptedTag::toModelType);
+
+        Unmarshaller um = XmlUtil.getContext(XmlSerializableAddressBook.class).createUnmarshaller();
+        reader.nextTag();
+        while (reader.isStartElement()) {
+            // unmarshalling an element leaves the reader just after its end tag
+            switch (reader.getLocalName()) {
+            case "persons":
+                personConverter.add(um.unmarshal(reader, XmlAdaptedPerson.class).getValue());
+                break;
+            case "reminders":
+                reminderConverter.add(um.unmarshal(reader, XmlAdaptedReminder.class).getValue());
+                break;
+            case "tags":
+                tagConverter.add(um.unmarshal(reader, XmlAdaptedTag.class).getValue());
+                break;
+            default:
+                skipElement(reader);
+            }
+            skipToTag(reader);
+        }
+
+        List<String> errors = new ArrayList<>(personConverter.getErrors());
+        errors.addAll(reminderConverter.getErrors());
+        errors.addAll(tagConverter.getErrors());
+        XmlRecordConverter.requireNoErrors(errors);
+        persons.addAll(personConverter.getConverted());
+        reminders.addAll(reminderConverter.getConverted());
+        tags.addAll(tagConverter.getConverted());
+    }
+
+    /**
+     * Moves {@code reader} past the end tag of the element it is at.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        do {
+            if (reader.isStartElement()) {
+                depth++;
+            } else if (reader.isEndElement()) {
+                depth--;
+            }
+            reader.next();
+        } while (depth > 0);
+    }
+
+    /**
+     * Moves {@code reader} past any whitespace and comments to the next start or end tag.
+     */
+    private static void skipToTag(XMLStreamReader reader) throws XMLStreamException {
+        while (!reader.isStartElement() && !reader.isEndElement()) {
+            reader.next();
+        }
+    }
+
+    /**
+     * Closes {@code reader} if it was opened.
+     */
+    private static void close(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException xse) {
+            // nothing more is read from the reader
+        }
+    }
+
+    /**
+     * Returns a factory for readers that do not resolve DTDs or external entities.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Returns the generation of the snapshot that this address book was read from, or null if it has none.
+     * @see JournaledAddressBookStorage
+     */
+    String getGeneration() {
+        return generation;
+    }
+
+    List<ReadOnlyPerson> getModifiablePersons() {
+        return persons;
+    }
+
+    List<ReadOnlyReminder> getModifiableReminders() {
+        return reminders;
+    }
+
+    List<Tag> getModifiableTags() {
+        return tags;
+    }
+
+    @Override
+    public ObservableList<ReadOnlyPerson> getPersonList() {
+        return personView;
+    }
+
+    @Override
+    public ObservableList<ReadOnlyReminder> getReminderList() {
+        return reminderView;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tagView;
+    }
+
+}
@@ -11,6 +11,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.PersonPanelSelectionChangedEvent;
 import seedu.address.commons.events.ui.ReminderPanelSelectionChangedEvent;
 import seedu.address.commons.events.ui.ShowProfileRequestEvent;
+import seedu.address.commons.util.FxViewUtil;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.reminder.ReadOnlyReminder;
 
@@ -125,7 +126,8 @@ public class BrowserPanel extends UiPart<Region> {
     @Subscribe
     private void handleShowProfileRequestEvent(ShowProfileRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        loadPersonProfile(event.person);
+        // commands raising this run off the FX thread
+        FxViewUtil.runOnFxThread(() -> loadPersonProfile(event.person));
     }
     //@@author
 
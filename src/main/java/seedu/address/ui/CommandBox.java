@@ -1,7 +1,12 @@
 package seedu.address.ui;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
@@ -11,6 +16,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
 import seedu.address.logic.ListElementPointer;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -21,11 +27,14 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String RUNNING_STYLE_CLASS = "running";
     private static final String FXML = "CommandBox.fxml";
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
+    // the commands entered that have not finished, oldest first; only used on the FX thread
+    private final Deque<CompletableFuture<CommandResult>> pendingCommands = new ArrayDeque<>();
 
     @FXML
     private TextField commandTextField;
@@ -55,6 +64,9 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case ESCAPE:
+            cancelPendingCommands();
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -97,27 +109,67 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command runs in the background, so further commands can be entered, and are queued, while it runs.
      */
     @FXML
     private void handleCommandInputChanged() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
-            initHistory();
+        String commandText = commandTextField.getText();
+        CompletableFuture<CommandResult> result = logic.executeAsync(commandText);
+        pendingCommands.addLast(result);
+        setStyleToIndicateCommandRunning();
+        result.whenComplete((commandResult, error) ->
+                Platform.runLater(() -> handleCommandFinished(commandText, result, commandResult, error)));
+    }
+
+    /**
+     * Handles the end of the command entered as {@code commandText}, whose pending {@code result} has completed
+     * with {@code commandResult}, or with {@code error} if it failed or was cancelled.
+     * The text field is only changed if it still holds the command, as the user may have gone on to type another.
+     */
+    private void handleCommandFinished(String commandText, CompletableFuture<CommandResult> result,
+                                       CommandResult commandResult, Throwable error) {
+        pendingCommands.remove(result);
+        if (pendingCommands.isEmpty()) {
+            commandTextField.getStyleClass().remove(RUNNING_STYLE_CLASS);
+        }
+        initHistory();
+        boolean isShowingCommand = commandTextField.getText().equals(commandText);
+
+        if (error == null) {
             historySnapshot.next();
             // process result of the command
-            commandTextField.setText("");
+            if (isShowingCommand) {
+                commandTextField.setText("");
+            }
             logger.info("Result: " + commandResult.feedbackToUser);
             raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+            return;
+        }
 
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            // handle command failure
+        Throwable cause = (error instanceof CompletionException) ? error.getCause() : error;
+        // handle command failure
+        if (isShowingCommand) {
             setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
+        }
+        if (cause instanceof CommandException || cause instanceof ParseException) {
+            logger.info("Invalid command: " + commandText);
+            raise(new NewResultAvailableEvent(cause.getMessage()));
+        } else if (result.isCancelled()) {
+            logger.info("Cancelled command: " + commandText);
+            raise(new NewResultAvailableEvent(Command.MESSAGE_CANCELLED));
+        } else {
+            logger.warning("Command failed unexpectedly: " + commandText + ": " + cause);
+            raise(new NewResultAvailableEvent(cause.toString()));
         }
     }
 
+    /**
+     * Cancels the command that is running and the commands queued after it.
+     */
+    private void cancelPendingCommands() {
+        pendingCommands.forEach(pending -> pending.cancel(false));
+    }
+
     /**
      * Initializes the history snapshot.
      */
@@ -135,6 +187,19 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.getStyleClass().remove(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Sets the command box style to indicate that commands are running.
+     */
+    private void setStyleToIndicateCommandRunning() {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+
+        if (styleClass.contains(RUNNING_STYLE_CLASS)) {
+            return;
+        }
+
+        styleClass.add(RUNNING_STYLE_CLASS);
+    }
+
     /**
      * Sets the command box style to indicate a failed command.
      */
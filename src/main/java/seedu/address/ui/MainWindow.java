@@ -1,5 +1,8 @@
 package seedu.address.ui;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -17,11 +20,15 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ReminderScheduler;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
 import seedu.address.commons.events.ui.ShowHelpRequestEvent;
 import seedu.address.commons.util.FxViewUtil;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.UpcomingBirthdaysCommand;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ReadOnlyPerson;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -46,6 +53,9 @@ public class MainWindow extends UiPart<Region> {
     private Config config;
     private UserPrefs prefs;
 
+    // held here, as the scheduler only holds its subscribers weakly
+    private Consumer<LocalDate> birthdayNotifier;
+
     @FXML
     private StackPane browserPlaceholder;
 
@@ -151,6 +161,21 @@ public class MainWindow extends UiPart<Region> {
 
         CommandBox commandBox = new CommandBox(logic);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        ReminderScheduler scheduler = ReminderScheduler.getInstance();
+        birthdayNotifier = this::notifyUpcomingBirthdays;
+        notifyUpcomingBirthdays(scheduler.subscribe(birthdayNotifier));
+    }
+
+    /**
+     * Shows the birthdays coming up from {@code today}, if there are any.
+     */
+    private void notifyUpcomingBirthdays(LocalDate today) {
+        int daysAhead = UpcomingBirthdaysCommand.DEFAULT_DAYS_AHEAD;
+        List<ReadOnlyPerson> upcoming = logic.getUpcomingBirthdays(today, daysAhead);
+        if (!upcoming.isEmpty()) {
+            raise(new NewResultAvailableEvent(UpcomingBirthdaysCommand.describeBirthdays(upcoming, today, daysAhead)));
+        }
     }
 
     void hide() {
@@ -227,6 +252,7 @@ public class MainWindow extends UiPart<Region> {
     @Subscribe
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        handleHelp();
+        // commands raising this run off the FX thread
+        FxViewUtil.runOnFxThread(this::handleHelp);
     }
 }
@@ -2,20 +2,18 @@
 package seedu.address.ui;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Random;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.function.Consumer;
 
-import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.ReminderScheduler;
 import seedu.address.model.reminder.ReadOnlyReminder;
 
 /**
@@ -23,9 +21,6 @@ import seedu.address.model.reminder.ReadOnlyReminder;
  */
 public class ReminderCard extends UiPart<Region> {
 
-    public static final int TIMER_DELAY = 0; // in milliseconds
-    public static final int TIMER_PERIOD = 5000000; // in milliseconds
-
     public static final int GREEN_WARNING_DAYS_LEFT = 7;
     public static final int YELLOW_WARNING_DAYS_LEFT = 3;
     public static final int ORANGE_WARNING_DAYS_LEFT = 0;
@@ -64,6 +59,9 @@ public class ReminderCard extends UiPart<Region> {
     @FXML
     private Label daysCountdown;
 
+    // held here, as the scheduler only holds its subscribers weakly
+    private Consumer<LocalDate> countdownUpdater;
+
     public ReminderCard(ReadOnlyReminder reminder, int displayedIndex) {
         super(FXML);
         this.reminder = reminder;
@@ -115,31 +113,28 @@ public class ReminderCard extends UiPart<Region> {
     private void initCountdown(ReadOnlyReminder reminder) {
         // Calculates the day difference between the reminder's date and the current date
         // Todo: Minus 1 day in day difference if the current time passes the reminder's time
-        final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
-        LocalDate deadline = LocalDate.parse(reminder.getDate().toString(), dateFormatter);
-        LocalDate currentTime = LocalDate.now();
-        int daysBetween = (int) ChronoUnit.DAYS.between(currentTime, deadline);
+        LocalDate deadline = reminder.getDate().getDueTime().toLocalDate();
+        ReminderScheduler scheduler = ReminderScheduler.getInstance();
+        int daysBetween = (int) ChronoUnit.DAYS.between(scheduler.today(), deadline);
 
         setDaysCountdownBasedOnDays(daysBetween);
         if (daysBetween >= ORANGE_WARNING_DAYS_LEFT) { // Only start the countdown if the deadline is not overdue
-            startDaysCountdown(deadline);
+            startDaysCountdown(scheduler, deadline);
         }
     }
 
     /**
-     * Starts the countdown.
+     * Starts the countdown, which is only kept up to date while this card is shown.
      */
-    private void startDaysCountdown(LocalDate date) {
-        final Timer timer = new Timer();
-        TimerTask task = new TimerTask() {
-            @Override
-            public void run() {
-                LocalDate currentDate = LocalDate.now();
-                int newDaysBetween = (int) ChronoUnit.DAYS.between(currentDate, date);
-                Platform.runLater(() -> setDaysCountdownBasedOnDays(newDaysBetween));
+    private void startDaysCountdown(ReminderScheduler scheduler, LocalDate date) {
+        countdownUpdater = today -> setDaysCountdownBasedOnDays((int) ChronoUnit.DAYS.between(today, date));
+        getRoot().sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (newScene == null) {
+                scheduler.unsubscribe(countdownUpdater);
+            } else {
+                countdownUpdater.accept(scheduler.subscribe(countdownUpdater));
             }
-        };
-        timer.scheduleAtFixedRate(task, TIMER_DELAY, TIMER_PERIOD);
+        });
     }
 
     private void setDaysCountdownBasedOnDays(int days) {
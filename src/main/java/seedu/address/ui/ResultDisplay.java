@@ -11,6 +11,7 @@ import javafx.fxml.FXML;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ui.CommandProgressEvent;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
 
 /**
@@ -38,4 +39,10 @@ public class ResultDisplay extends UiPart<Region> {
         Platform.runLater(() -> displayed.setValue(event.message));
     }
 
+    @Subscribe
+    private void handleCommandProgressEvent(CommandProgressEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event));
+        Platform.runLater(() -> displayed.setValue(event.getMessage()));
+    }
+
 }
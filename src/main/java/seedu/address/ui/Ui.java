@@ -10,9 +10,14 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
-    /** Stops the UI. */
+    /** Stops the UI, and the logic it takes commands to. */
     void stop();
 
+    /**
+     * Restarts the UI with the address book of {@code userName}.
+     *
+     * @throws IllegalStateException if the UI could not be restarted.
+     */
     void restart(String userName);
 
 }
@@ -17,9 +17,11 @@ import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FxViewUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.UndoRedoStack;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Database;
 import seedu.address.model.Model;
@@ -28,13 +30,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyDatabase;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.DataBaseStorage;
-import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
-import seedu.address.storage.XmlAddressBookStorage;
 
 /**
  * The manager of the UI component.
@@ -55,16 +53,18 @@ public class UiManager extends ComponentManager implements Ui {
     private static UserPrefs prefs;
     private static MainWindow mainWindow;
     protected UserPrefs userPrefs;
-    protected Storage storage;
+    protected StorageManager storage;
     protected Model model;
-    protected DataBaseStorage dataBaseStorage;
 
-    public UiManager(Logic logic, Config config, UserPrefs prefs, DataBaseStorage dataBaseStorage) {
+    /**
+     * Creates the UI of the app, which keeps saving to {@code storage} after a user logs in or out.
+     */
+    public UiManager(Logic logic, Config config, UserPrefs prefs, StorageManager storage) {
         super();
         this.logic = logic;
         this.config = config;
         this.prefs = prefs;
-        this.dataBaseStorage = dataBaseStorage;
+        this.storage = storage;
     }
 
     // From here, use the commented code is you want the full feature.
@@ -85,18 +85,42 @@ public class UiManager extends ComponentManager implements Ui {
 
     }
     //@@author cqhchan
+    /**
+     * Restarts the UI on the JavaFX application thread, which windows can only be made on, and waits for it.
+     *
+     * @throws IllegalStateException if the UI could not be restarted.
+     */
     @Override
     public void restart(String userName) {
+        final RuntimeException[] failure = new RuntimeException[1];
+        FxViewUtil.runAndWaitOnFxThread(() -> {
+            try {
+                restartOnFxThread(userName);
+            } catch (RuntimeException re) {
+                failure[0] = re;
+            }
+        });
+        if (failure[0] != null) {
+            throw new IllegalStateException("Could not restart the UI for " + userName, failure[0]);
+        }
+    }
+
+    /**
+     * Restarts the UI with the address book of {@code userName}. Only called on the JavaFX application thread.
+     */
+    private void restartOnFxThread(String userName) {
         stop();
         primaryStage = new Stage();
 
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath(userName));
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, dataBaseStorage);
+        userPrefs = initPrefs(storage);
+        // the app's storage is pointed at the user's address book, so that a single storage saves the changes
+        storage.switchAddressBookStorage(StorageManager.createAddressBookStorage(
+                userPrefs.getAddressBookFormat(), userPrefs.getAddressBookFilePath(userName)));
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, new UndoRedoStack(userPrefs.getUndoMemoryBudget(),
+                userPrefs.getUndoDiskBudget(), StorageManager.createUndoSpillStore(userPrefs.getUndoDiskBudget()),
+                storage.openUndoHistoryLog(userPrefs)));
 
         prefs = userPrefs;
 
@@ -112,6 +136,7 @@ public class UiManager extends ComponentManager implements Ui {
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             logger.info("Fatal error during initializing" + e);
+            throw new IllegalStateException("Could not open the main window", e);
         }
     }
 
@@ -194,13 +219,14 @@ public class UiManager extends ComponentManager implements Ui {
             initialDatabase = new Database();
         }
 
-        return new ModelManager(initialData, initialDatabase, userPrefs);
+        return new ModelManager(initialData, initialDatabase, userPrefs, FxViewUtil::runAndWaitOnFxThread);
     }
     //@@author
 
 
     @Override
     public void stop() {
+        logic.stop();
         prefs.updateLastUsedGuiSetting(mainWindow.getCurrentGuiSetting());
         mainWindow.hide();
         /*
@@ -253,6 +279,11 @@ public class UiManager extends ComponentManager implements Ui {
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        // saves can fail on the background writer thread, but alerts can only be shown on the FX thread
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> handleDataSavingExceptionEvent(event));
+            return;
+        }
         showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE, FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
                 event.exception);
     }
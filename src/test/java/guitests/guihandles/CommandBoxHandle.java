@@ -33,6 +33,8 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
         guiRobot.pauseForHuman();
 
         guiRobot.type(KeyCode.ENTER);
+        // commands run in the background
+        guiRobot.waitForEvent(() -> !getStyleClass().contains(CommandBox.RUNNING_STYLE_CLASS));
 
         return !getStyleClass().contains(CommandBox.ERROR_STYLE_CLASS);
     }
@@ -19,6 +19,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.storage.XmlSerializableAddressBook;
 import seedu.address.testutil.TestUtil;
+import seedu.address.ui.Ui;
 import systemtests.ModelHelper;
 
 /**
@@ -67,6 +68,8 @@ public class TestApp extends MainApp {
         userPrefs.updateLastUsedGuiSetting(new GuiSettings(600.0, 600.0, (int) x, (int) y));
         userPrefs.setAddressBookFilePath(saveFileLocation);
         userPrefs.setAddressBookName(ADDRESS_BOOK_NAME);
+        // every test starts from fresh data, which the undo history of earlier tests would not match
+        userPrefs.setUndoHistoryLogged(false);
         return userPrefs;
     }
 
@@ -74,6 +77,7 @@ public class TestApp extends MainApp {
      * Returns a defensive copy of the address book data stored inside the storage file.
      */
     public AddressBook readStorageAddressBook() {
+        storage.flush();
         try {
             return new AddressBook(storage.readAddressBook().get());
         } catch (DataConversionException dce) {
@@ -104,6 +108,13 @@ public class TestApp extends MainApp {
         ui.start(primaryStage);
     }
 
+    /**
+     * Sets the UI that commands such as login restart, so that they can be tested without starting the app.
+     */
+    public static void setUi(Ui testUi) {
+        ui = testUi;
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
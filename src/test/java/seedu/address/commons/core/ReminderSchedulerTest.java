@@ -0,0 +1,130 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+public class ReminderSchedulerTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2017, 11, 1);
+    private static final long COLLECTION_TIMEOUT_MILLIS = 1000;
+
+    private final MutableClock clock = new MutableClock(FIRST_DAY.atTime(23, 0).toInstant(ZoneOffset.UTC));
+    private final List<Runnable> dispatched = new ArrayList<>();
+    private final ReminderScheduler scheduler = new ReminderScheduler(clock, dispatched::add);
+
+    @Test
+    public void subscribe_returnsToday() {
+        assertEquals(FIRST_DAY, scheduler.subscribe(today -> { }));
+        assertEquals(FIRST_DAY, scheduler.today());
+    }
+
+    @Test
+    public void checkForNewDay_sameDay_nothingDispatched() {
+        scheduler.subscribe(today -> { });
+        scheduler.checkForNewDay();
+        assertTrue(dispatched.isEmpty());
+    }
+
+    @Test
+    public void checkForNewDay_dayChanged_allSubscribersToldInOneTask() {
+        List<LocalDate> toldDays = new ArrayList<>();
+        Consumer<LocalDate> first = toldDays::add;
+        Consumer<LocalDate> second = toldDays::add;
+        scheduler.subscribe(first);
+        scheduler.subscribe(second);
+
+        clock.advanceHours(2);
+        scheduler.checkForNewDay();
+        assertEquals(1, dispatched.size());
+        dispatched.get(0).run();
+
+        LocalDate secondDay = FIRST_DAY.plusDays(1);
+        assertEquals(secondDay, scheduler.today());
+        assertEquals(2, toldDays.size());
+        assertTrue(toldDays.stream().allMatch(secondDay::equals));
+
+        // the same day is not told of again
+        scheduler.checkForNewDay();
+        assertEquals(1, dispatched.size());
+    }
+
+    @Test
+    public void unsubscribe_notToldOfNewDay() {
+        List<LocalDate> toldDays = new ArrayList<>();
+        Consumer<LocalDate> subscriber = toldDays::add;
+        scheduler.subscribe(subscriber);
+        scheduler.unsubscribe(subscriber);
+        assertEquals(0, scheduler.getSubscriberCount());
+
+        clock.advanceHours(2);
+        scheduler.checkForNewDay();
+        dispatched.forEach(Runnable::run);
+        assertTrue(toldDays.isEmpty());
+    }
+
+    @Test
+    public void subscribe_droppedSubscriber_notKept() throws Exception {
+        // a subscriber that captures something is a new object, which can be collected once dropped
+        StringBuilder shown = new StringBuilder();
+        Consumer<LocalDate> subscriber = today -> shown.append(today);
+        ReferenceQueue<Consumer<LocalDate>> collected = new ReferenceQueue<>();
+        WeakReference<Consumer<LocalDate>> reference = new WeakReference<>(subscriber, collected);
+        scheduler.subscribe(subscriber);
+        subscriber = null;
+
+        // the collector is not bound to run, so the check is skipped if it leaves the subscriber alone
+        System.gc();
+        assumeTrue(collected.remove(COLLECTION_TIMEOUT_MILLIS) == reference);
+        // the scheduler's own reference to the subscriber is cleared with it, but may be queued a little later
+        long deadline = System.currentTimeMillis() + COLLECTION_TIMEOUT_MILLIS;
+        while (scheduler.getSubscriberCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, scheduler.getSubscriberCount());
+    }
+
+    /**
+     * A clock in UTC that only moves when it is told to.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advanceHours(long hours) {
+            instant = instant.plusSeconds(hours * 3600);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+}
@@ -2,17 +2,65 @@ package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assume.assumeTrue;
+
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 public class FileUtilTest {
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void writeToFileAtomically_existingFile_replacedAndPreviousGenerationKept() throws Exception {
+        File file = new File(testFolder.getRoot(), "sub-folder/data.txt");
+        File previousGeneration = new File(testFolder.getRoot(), "sub-folder/data.txt.bak");
+
+        // missing file and parent directory are created
+        FileUtil.writeToFileAtomically(file, "first".getBytes("UTF-8"), previousGeneration);
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(previousGeneration.exists());
+
+        FileUtil.writeToFileAtomically(file, "second".getBytes("UTF-8"), previousGeneration);
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(previousGeneration));
+
+        // no previous generation requested -> only the file is replaced
+        FileUtil.writeToFileAtomically(file, "third".getBytes("UTF-8"), null);
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(previousGeneration));
+
+        // no temporary files are left behind
+        assertEquals(2, file.getParentFile().list().length);
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_permissionsKept() throws Exception {
+        File file = testFolder.newFile("data.txt");
+        Path path = file.toPath();
+        assumeTrue(Files.getFileStore(path).supportsFileAttributeView(PosixFileAttributeView.class));
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(path, permissions);
+
+        FileUtil.writeToFileAtomically(file, "first".getBytes("UTF-8"), null);
+        assertEquals(permissions, Files.getPosixFilePermissions(path));
+    }
+
     @Test
     public void getPath() {
 
@@ -0,0 +1,93 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_elements_sameOrder() {
+        assertEquals(Collections.emptyList(), PersistentList.of(Collections.emptyList()));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), PersistentList.of(Arrays.asList(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void modifications_randomSequence_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                expected.add(i);
+                actual = actual.plus(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void modifications_earlierVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+        PersistentList<String> appended = original.plus("d");
+        PersistentList<String> replaced = appended.with(0, "z");
+        PersistentList<String> removed = replaced.minus(1);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), appended);
+        assertEquals(Arrays.asList("z", "b", "c", "d"), replaced);
+        assertEquals(Arrays.asList("z", "c", "d"), removed);
+    }
+
+    @Test
+    public void minus_onlyElement_empty() {
+        assertEquals(Collections.emptyList(), PersistentList.of(Arrays.asList("a")).minus(0));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.of(Arrays.asList("a")).get(1);
+    }
+
+    @Test
+    public void plus_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.empty().plus(null);
+    }
+
+    @Test
+    public void add_unsupported_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        PersistentList.<String>empty().add("a");
+    }
+
+}
@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -94,4 +96,33 @@ public class XmlUtilTest {
         dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class);
         assertEquals((new AddressBook(dataToWrite)).toString(), (new AddressBook(dataFromFile)).toString());
     }
+
+    @Test
+    public void saveDataToFileAtomically_validData_dataSavedWithChecksum() throws Exception {
+        File file = new File(TestUtil.getFilePathInSandboxFolder("atomicAddressBook.xml"));
+        XmlSerializableAddressBook dataToWrite = new XmlSerializableAddressBook(new AddressBookBuilder()
+                .withPerson(new PersonBuilder().build()).withTag("Friends").build());
+        XmlUtil.saveDataToFileAtomically(file, dataToWrite, null);
+
+        assertTrue(FileUtil.readFromFile(file).contains("<!-- crc32:"));
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class);
+        assertEquals(new AddressBook(dataToWrite), new AddressBook(dataFromFile));
+    }
+
+    @Test
+    public void getDataFromFile_checksumMismatch_throwsJaxbException() throws Exception {
+        File file = new File(TestUtil.getFilePathInSandboxFolder("corruptedAddressBook.xml"));
+        XmlUtil.saveDataToFileAtomically(file, new XmlSerializableAddressBook(new AddressBookBuilder()
+                .withPerson(new PersonBuilder().withName("Alice").build()).build()), null);
+        FileUtil.writeToFile(file, FileUtil.readFromFile(file).replace("Alice", "Alicf"));
+
+        thrown.expect(JAXBException.class);
+        XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class);
+    }
+
+    @Test
+    public void getContext_sameClass_sameContext() throws Exception {
+        assertSame(XmlUtil.getContext(XmlSerializableAddressBook.class),
+                XmlUtil.getContext(XmlSerializableAddressBook.class));
+    }
 }
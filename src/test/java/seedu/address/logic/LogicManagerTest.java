@@ -1,13 +1,23 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalAccounts.getTypicalDatabase;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
@@ -46,6 +56,92 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void executeAsync_validCommand_completesWithResult() throws Exception {
+        CommandResult result = logic.executeAsync(ListCommand.COMMAND_WORD).get();
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.feedbackToUser);
+        assertHistoryCorrect(ListCommand.COMMAND_WORD);
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesExceptionally() throws Exception {
+        String invalidCommand = "uicfhmowqewca";
+        try {
+            logic.executeAsync(invalidCommand).get();
+            fail("The expected ExecutionException was not thrown.");
+        } catch (ExecutionException ee) {
+            assertTrue(ee.getCause() instanceof ParseException);
+            assertEquals(MESSAGE_UNKNOWN_COMMAND, ee.getCause().getMessage());
+        }
+        assertHistoryCorrect(invalidCommand);
+    }
+
+    @Test
+    public void executeAsync_severalCommands_executedInOrder() throws Exception {
+        logic.executeAsync(ListCommand.COMMAND_WORD);
+        logic.executeAsync("delete 9");
+        logic.executeAsync(ListCommand.COMMAND_WORD).get();
+        assertHistoryCorrect(ListCommand.COMMAND_WORD, "delete 9", ListCommand.COMMAND_WORD);
+    }
+
+    @Test
+    public void executeAsync_cancelledWhileQueued_notExecuted() throws Exception {
+        // the list command holds up the commands queued after it until the UI is let through
+        CountDownLatch uiBlocked = new CountDownLatch(1);
+        Model blockingModel = new ModelManager(getTypicalAddressBook(), getTypicalDatabase(), new UserPrefs(),
+            task -> {
+                try {
+                    uiBlocked.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                task.run();
+            });
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalDatabase(), new UserPrefs());
+        logic = new LogicManager(blockingModel);
+
+        CompletableFuture<CommandResult> list = logic.executeAsync(ListCommand.COMMAND_WORD);
+        CompletableFuture<CommandResult> clear = logic.executeAsync(ClearCommand.COMMAND_WORD);
+        assertTrue(clear.cancel(false));
+        uiBlocked.countDown();
+
+        list.get();
+        assertHistoryCorrect(ListCommand.COMMAND_WORD);
+        assertEquals(expectedModel, blockingModel);
+    }
+
+    @Test
+    public void executeAsync_cancelledWhileRunning_commandThatCannotRollBackFinishes() throws Exception {
+        // the list command is held up once it has started, until the UI is let through
+        CountDownLatch listRunning = new CountDownLatch(1);
+        CountDownLatch uiBlocked = new CountDownLatch(1);
+        Model blockingModel = new ModelManager(getTypicalAddressBook(), getTypicalDatabase(), new UserPrefs(),
+            task -> {
+                listRunning.countDown();
+                try {
+                    uiBlocked.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                task.run();
+            });
+        logic = new LogicManager(blockingModel);
+
+        CompletableFuture<CommandResult> list = logic.executeAsync(ListCommand.COMMAND_WORD);
+        listRunning.await();
+        assertFalse(list.cancel(false));
+        uiBlocked.countDown();
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS, list.get().feedbackToUser);
+        assertFalse(list.isCancelled());
+    }
+
+    @Test
+    public void executeAsync_afterStop_cancelled() {
+        logic.stop();
+        assertTrue(logic.executeAsync(ListCommand.COMMAND_WORD).isCancelled());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
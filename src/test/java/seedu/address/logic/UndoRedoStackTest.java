@@ -5,7 +5,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static seedu.address.logic.UndoRedoStackUtil.prepareStack;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EmptyStackException;
@@ -15,9 +20,14 @@ import org.junit.Test;
 
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.LoggedCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UndoableCommand;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.AddressBookDeltaStore;
+import seedu.address.model.UndoHistoryLog;
+import seedu.address.model.person.ReadOnlyPerson;
 
 public class UndoRedoStackTest {
     private final DummyCommand dummyCommandOne = new DummyCommand();
@@ -140,6 +150,131 @@ public class UndoRedoStackTest {
                 Collections.emptyList());
     }
 
+    @Test
+    public void push_overMemoryBudget_spillsOldestRecordsAndPopUndoReadsThemBack() {
+        SpillStoreStub spillStore = new SpillStoreStub();
+        AddressBookDelta deltaOne = deltaRemoving(ALICE);
+        AddressBookDelta deltaTwo = deltaRemoving(BENSON);
+        AddressBookDelta deltaThree = deltaRemoving(CARL);
+        undoRedoStack = new UndoRedoStack(deltaThree.getEstimatedSize(), Long.MAX_VALUE, spillStore);
+        DummyUndoableCommand commandOne = withUndoDelta(deltaOne);
+        DummyUndoableCommand commandTwo = withUndoDelta(deltaTwo);
+        DummyUndoableCommand commandThree = withUndoDelta(deltaThree);
+
+        undoRedoStack.push(commandOne);
+        undoRedoStack.push(commandTwo);
+        undoRedoStack.push(commandThree);
+        assertEquals(Arrays.asList(deltaOne, deltaTwo), spillStore.deltas);
+        assertEquals(0, commandOne.getUndoSize());
+        assertEquals(0, commandTwo.getUndoSize());
+        assertEquals(deltaThree.getEstimatedSize(), commandThree.getUndoSize());
+
+        assertEquals(commandThree, undoRedoStack.popUndo());
+        assertEquals(commandTwo, undoRedoStack.popUndo());
+        assertEquals(deltaTwo, commandTwo.takeUndoDelta());
+        assertEquals(commandOne, undoRedoStack.popUndo());
+        assertEquals(deltaOne, commandOne.takeUndoDelta());
+    }
+
+    @Test
+    public void push_overDiskBudget_dropsOldestCommands() {
+        SpillStoreStub spillStore = new SpillStoreStub();
+        undoRedoStack = new UndoRedoStack(0, 2 * SpillStoreStub.DELTA_SIZE, spillStore);
+        DummyUndoableCommand commandOne = withUndoDelta(deltaRemoving(ALICE));
+        DummyUndoableCommand commandTwo = withUndoDelta(deltaRemoving(BENSON));
+        DummyUndoableCommand commandThree = withUndoDelta(deltaRemoving(CARL));
+
+        undoRedoStack.push(commandOne);
+        undoRedoStack.push(commandTwo);
+        undoRedoStack.push(commandThree);
+        assertEquals(2 * SpillStoreStub.DELTA_SIZE, spillStore.getSize());
+
+        assertEquals(commandThree, undoRedoStack.popUndo());
+        assertEquals(commandTwo, undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+    }
+
+    @Test
+    public void popUndo_spilledRecordUnreadable_forgetsUndoHistory() {
+        SpillStoreStub spillStore = new SpillStoreStub();
+        undoRedoStack = new UndoRedoStack(0, Long.MAX_VALUE, spillStore);
+        undoRedoStack.push(withUndoDelta(deltaRemoving(ALICE)));
+        undoRedoStack.push(withUndoDelta(deltaRemoving(BENSON)));
+        spillStore.failReads = true;
+
+        try {
+            undoRedoStack.popUndo();
+            fail("The expected EmptyStackException was not thrown.");
+        } catch (EmptyStackException ese) {
+            assertFalse(undoRedoStack.canUndo());
+            assertEquals(0, spillStore.getSize());
+        }
+    }
+
+    @Test
+    public void push_withHistoryLog_logsCommandsThatChangeUndoHistory() {
+        HistoryLogStub historyLog = new HistoryLogStub();
+        undoRedoStack = new UndoRedoStack(Long.MAX_VALUE, Long.MAX_VALUE, null, historyLog);
+        AddressBookDelta delta = deltaRemoving(ALICE);
+
+        undoRedoStack.push(withUndoDelta(delta), "add n/Alice");
+        undoRedoStack.push(dummyCommandOne, "list");
+        undoRedoStack.push(new UndoCommand(), "undo");
+        undoRedoStack.push(new RedoCommand(), "redo");
+        assertEquals(Arrays.asList("executed add n/Alice", "undone", "redone"), historyLog.logged);
+        assertEquals(delta, historyLog.loggedDeltas.get(0));
+    }
+
+    @Test
+    public void popUndo_emptyUndoStack_undoesLoggedHistory() {
+        HistoryLogStub historyLog = new HistoryLogStub();
+        historyLog.history.add(new UndoHistoryLog.Entry("delete 1", deltaRemoving(ALICE)));
+        historyLog.history.add(new UndoHistoryLog.Entry("delete 2", deltaRemoving(BENSON)));
+        undoRedoStack = new UndoRedoStack(Long.MAX_VALUE, Long.MAX_VALUE, null, historyLog);
+        DummyUndoableCommand inSession = withUndoDelta(deltaRemoving(CARL));
+        undoRedoStack.push(inSession, "delete 3");
+
+        assertEquals(inSession, undoRedoStack.popUndo());
+        assertTrue(undoRedoStack.canUndo());
+        assertEquals(new LoggedCommand("delete 2", deltaRemoving(BENSON)), undoRedoStack.popUndo());
+        assertEquals(new LoggedCommand("delete 1", deltaRemoving(ALICE)), undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+
+        // commands from earlier sessions can be redone
+        assertEquals(new LoggedCommand("delete 1", deltaRemoving(ALICE)), undoRedoStack.popRedo());
+        assertTrue(undoRedoStack.canUndo());
+    }
+
+    @Test
+    public void popUndo_loggedCommandUnreadable_forgetsLoggedHistory() {
+        HistoryLogStub historyLog = new HistoryLogStub();
+        historyLog.history.add(new UndoHistoryLog.Entry("delete 1", deltaRemoving(ALICE)));
+        historyLog.history.add(new UndoHistoryLog.Entry("delete 2", deltaRemoving(BENSON)));
+        historyLog.failReads = true;
+        undoRedoStack = new UndoRedoStack(Long.MAX_VALUE, Long.MAX_VALUE, null, historyLog);
+        assertTrue(undoRedoStack.canUndo());
+
+        try {
+            undoRedoStack.popUndo();
+            fail("The expected EmptyStackException was not thrown.");
+        } catch (EmptyStackException ese) {
+            assertFalse(undoRedoStack.canUndo());
+        }
+    }
+
+    @Test
+    public void clear_withLoggedHistory_forgetsEverything() {
+        HistoryLogStub historyLog = new HistoryLogStub();
+        historyLog.history.add(new UndoHistoryLog.Entry("delete 1", deltaRemoving(ALICE)));
+        undoRedoStack = new UndoRedoStack(Long.MAX_VALUE, Long.MAX_VALUE, null, historyLog);
+        undoRedoStack.push(withUndoDelta(deltaRemoving(BENSON)), "delete 2");
+        undoRedoStack.popUndo();
+
+        undoRedoStack.clear();
+        assertFalse(undoRedoStack.canUndo());
+        assertFalse(undoRedoStack.canRedo());
+    }
+
     @Test
     public void equals() {
         undoRedoStack = prepareStack(Arrays.asList(dummyUndoableCommandTwo, dummyUndoableCommandOne),
@@ -238,6 +373,102 @@ public class UndoRedoStackTest {
         }
     }
 
+    /**
+     * Returns a delta that removes {@code person} from the start of a list.
+     */
+    private static AddressBookDelta deltaRemoving(ReadOnlyPerson person) {
+        return AddressBookDelta.of(Collections.singletonList(new AddressBookDelta.Splice<ReadOnlyPerson>(0,
+                Collections.singletonList(person), Collections.emptyList())), Collections.emptyList(),
+                Collections.emptyList());
+    }
+
+    /**
+     * Returns a command whose record of how to undo it is {@code delta}.
+     */
+    private DummyUndoableCommand withUndoDelta(AddressBookDelta delta) {
+        DummyUndoableCommand command = new DummyUndoableCommand();
+        command.restoreUndoDelta(delta);
+        return command;
+    }
+
+    /**
+     * A spill store that keeps its deltas in memory, in which every delta takes {@code DELTA_SIZE} bytes.
+     */
+    private static class SpillStoreStub implements AddressBookDeltaStore {
+        private static final long DELTA_SIZE = 100;
+
+        private final List<AddressBookDelta> deltas = new ArrayList<>();
+        private int firstKept = 0;
+        private boolean failReads = false;
+
+        @Override
+        public long write(AddressBookDelta delta) {
+            deltas.add(delta);
+            return deltas.size() - 1;
+        }
+
+        @Override
+        public AddressBookDelta read(long position) throws IOException {
+            if (failReads || position < firstKept) {
+                throw new IOException("Cannot read " + position);
+            }
+            return deltas.get((int) position);
+        }
+
+        @Override
+        public void discardBefore(long position) {
+            firstKept = (int) Math.max(firstKept, Math.min(position, deltas.size()));
+        }
+
+        @Override
+        public long getSize() {
+            return (deltas.size() - firstKept) * DELTA_SIZE;
+        }
+    }
+
+    /**
+     * An undo history log that keeps the commands of earlier sessions in memory, and records what it is told.
+     */
+    private static class HistoryLogStub implements UndoHistoryLog {
+        private final List<Entry> history = new ArrayList<>();
+        private final List<String> logged = new ArrayList<>();
+        private final List<AddressBookDelta> loggedDeltas = new ArrayList<>();
+        private boolean failReads = false;
+
+        @Override
+        public void logExecuted(String commandText, AddressBookDelta undoDelta) {
+            logged.add("executed " + commandText);
+            loggedDeltas.add(undoDelta);
+        }
+
+        @Override
+        public void logUndone() {
+            logged.add("undone");
+        }
+
+        @Override
+        public void logRedone() {
+            logged.add("redone");
+        }
+
+        @Override
+        public List<Long> readHistory() {
+            List<Long> positions = new ArrayList<>();
+            for (long i = 0; i < history.size(); i++) {
+                positions.add(i);
+            }
+            return positions;
+        }
+
+        @Override
+        public Entry read(long position) throws IOException {
+            if (failReads) {
+                throw new IOException("Cannot read " + position);
+            }
+            return history.get((int) position);
+        }
+    }
+
     class DummyUndoableCommand extends UndoableCommand {
         @Override
         public CommandResult executeUndoableCommand() {
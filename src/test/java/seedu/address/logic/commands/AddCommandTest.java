@@ -5,8 +5,13 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -18,15 +23,19 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyDatabase;
 import seedu.address.model.account.ReadOnlyAccount;
 import seedu.address.model.account.exceptions.DuplicateAccountException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonUpdate;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate.MatchMode;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.reminder.Priority;
 import seedu.address.model.reminder.ReadOnlyReminder;
 import seedu.address.model.reminder.exceptions.DuplicateReminderException;
 import seedu.address.model.reminder.exceptions.ReminderNotFoundException;
@@ -127,6 +136,11 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void applyDelta(AddressBookDelta delta) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void resetDatabase(ReadOnlyDatabase newData) {
             fail("This method should not be called.");
@@ -138,6 +152,12 @@ public class AddCommandTest {
             return null;
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public ReadOnlyDatabase getDatabase() {
             fail("This method should not be called.");
@@ -206,6 +226,49 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonListByName(List<String> keywords) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByPhone(List<String> keywords, MatchMode mode) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByEmail(List<String> keywords) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByUpcomingBirthday(LocalDate from, int daysAhead) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public List<ReadOnlyPerson> getUpcomingBirthdays(LocalDate from, int daysAhead) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void updateFilteredPersonListByTag(Tag tag) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public List<ReadOnlyPerson> getPersonsWithTag(Tag tag) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public Set<Tag> getPersonTags() {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public void updateFilteredAccountList(Predicate<ReadOnlyAccount> predicate) {
             fail("This method should not be called.");
@@ -216,6 +279,26 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredReminderListByDueTime(LocalDateTime from, LocalDateTime to) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredReminderListToNextDue(LocalDateTime from, int count) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredReminderListByPriority(Set<Priority.Level> levels) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updatePersons(List<PersonUpdate> updates) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void deletePersonTag(Tag tag) {
             fail("This metthod should not be called.");
@@ -237,22 +320,12 @@ public class AddCommandTest {
         }
 
         @Override
-        public void sortListByName(ArrayList<ReadOnlyPerson> contactList) throws CommandException {
-            fail("This method should not be called.");
-        }
-
-        @Override
-        public void sortListByBirthday(ArrayList<ReadOnlyPerson> contactList) throws CommandException {
-            fail("This method should not be called.");
-        }
-
-        @Override
-        public void sortListByAge(ArrayList<ReadOnlyPerson> contactList) throws CommandException {
+        public void sortFilteredPersonList(Comparator<ReadOnlyPerson> comparator) {
             fail("This method should not be called.");
         }
 
         @Override
-        public void sortListByPriority(ArrayList<ReadOnlyReminder> contactList)  throws CommandException {
+        public void sortFilteredReminderListByPriority() {
             fail("This method should not be called.");
         }
     }
@@ -24,6 +24,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -72,6 +73,19 @@ public class FindCommandTest {
         assertCommandSuccess(command, expectedMessage, Arrays.asList(CARL, ELLE, FIONA));
     }
 
+    @Test
+    public void execute_personRenamedAfterFind_filteredListFollowsIndex() throws Exception {
+        FindCommand command = prepareCommand("Kurz");
+        assertCommandSuccess(command, String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), Arrays.asList(CARL));
+
+        ReadOnlyPerson renamedCarl = new PersonBuilder(CARL).withName("Carl Kunz").build();
+        model.updatePerson(CARL, renamedCarl);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+
+        model.updatePerson(renamedCarl, CARL);
+        assertEquals(Arrays.asList(CARL), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code FindCommand}.
      */
@@ -7,7 +7,11 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_EMAILS_LISTED_OVERVIEW;
 import static seedu.address.testutil.TypicalAccounts.getTypicalDatabase;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
@@ -25,6 +29,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.EmailContainsKeywordsPredicate;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindEmailCommand}.
@@ -73,6 +78,25 @@ public class FindEmailCommandTest {
         assertCommandSuccess(command, expectedMessage, Arrays.asList(ALICE, DANIEL, GEORGE));
     }
 
+    @Test
+    public void execute_domainKeyword_everyoneAtDomainFound() throws Exception {
+        ReadOnlyPerson carlAtSubdomain = new PersonBuilder(CARL).withEmail("heinz@mail.example.com").build();
+        model.updatePerson(CARL, carlAtSubdomain);
+        ReadOnlyPerson bensonElsewhere = new PersonBuilder(BENSON).withEmail("johnd@example.org").build();
+        model.updatePerson(BENSON, bensonElsewhere);
+
+        // domain queries ignore case and include subdomains
+        assertCommandSuccess(prepareCommand("@EXAMPLE.com"), String.format(MESSAGE_EMAILS_LISTED_OVERVIEW, 6),
+                Arrays.asList(ALICE, carlAtSubdomain, DANIEL, ELLE, FIONA, GEORGE));
+
+        assertCommandSuccess(prepareCommand("@mail.example.com @example.org"),
+                String.format(MESSAGE_EMAILS_LISTED_OVERVIEW, 2), Arrays.asList(bensonElsewhere, carlAtSubdomain));
+
+        // partial labels do not match
+        assertCommandSuccess(prepareCommand("@ample.com"), String.format(MESSAGE_EMAILS_LISTED_OVERVIEW, 0),
+                Collections.emptyList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code FindEmailCommand}.
      */
@@ -6,9 +6,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PHONES_LISTED_OVERVIEW;
 import static seedu.address.testutil.TypicalAccounts.getTypicalDatabase;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -24,7 +27,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate.MatchMode;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindPhoneCommand}.
@@ -73,6 +78,42 @@ public class FindPhoneCommandTest {
         assertCommandSuccess(command, expectedMessage, Arrays.asList(CARL, ELLE, FIONA));
     }
 
+    @Test
+    public void execute_prefixMode_personsWithPhonePrefixFound() {
+        String expectedMessage = String.format(MESSAGE_PHONES_LISTED_OVERVIEW, 3);
+        FindPhoneCommand command = prepareCommand("948", MatchMode.PREFIX);
+        assertCommandSuccess(command, expectedMessage, Arrays.asList(ELLE, FIONA, GEORGE));
+    }
+
+    @Test
+    public void execute_substringMode_personsWithPhoneContainingKeywordFound() {
+        String expectedMessage = String.format(MESSAGE_PHONES_LISTED_OVERVIEW, 2);
+        FindPhoneCommand command = prepareCommand("535", MatchMode.SUBSTRING);
+        assertCommandSuccess(command, expectedMessage, Arrays.asList(ALICE, CARL));
+    }
+
+    @Test
+    public void execute_personEditedAfterFind_filteredListFollowsIndex() throws Exception {
+        model.addPerson(HOON);
+        FindPhoneCommand command = prepareCommand("948", MatchMode.PREFIX);
+        command.execute();
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+
+        ReadOnlyPerson newPerson = new PersonBuilder(HOON).withPhone("94811111").build();
+        model.updatePerson(HOON, newPerson);
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE, newPerson), model.getFilteredPersonList());
+    }
+
+    /**
+     * Parses {@code userInput} into a {@code FindPhoneCommand} matching in {@code mode}.
+     */
+    private FindPhoneCommand prepareCommand(String userInput, MatchMode mode) {
+        FindPhoneCommand command = new FindPhoneCommand(
+                new PhoneContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")), mode));
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
+    }
+
     /**
      * Parses {@code userInput} into a {@code FindPhoneCommand}.
      */
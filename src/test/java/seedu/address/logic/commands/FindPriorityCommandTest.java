@@ -6,6 +6,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PRIORITY_LISTED_OVERVIEW;
 import static seedu.address.testutil.TypicalAccounts.getTypicalDatabase;
+import static seedu.address.testutil.TypicalReminders.BIRTHDAY;
+import static seedu.address.testutil.TypicalReminders.DATING;
+import static seedu.address.testutil.TypicalReminders.MEETING;
+import static seedu.address.testutil.TypicalReminders.PARTY;
 import static seedu.address.testutil.TypicalReminders.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -63,6 +67,13 @@ public class FindPriorityCommandTest {
         assertCommandSuccess(command, expectedMessage, Collections.emptyList());
     }
 
+    @Test
+    public void execute_multipleKeywords_multipleRemindersFound() {
+        String expectedMessage = String.format(MESSAGE_PRIORITY_LISTED_OVERVIEW, 4);
+        FindPriorityCommand command = prepareCommand("high LOW");
+        assertCommandSuccess(command, expectedMessage, Arrays.asList(BIRTHDAY, DATING, MEETING, PARTY));
+    }
+
     /**
      * Parses {@code userInput} into a {@code FindPriorityCommand}.
      */
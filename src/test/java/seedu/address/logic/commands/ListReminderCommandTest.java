@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_REMINDERS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalAccounts.getTypicalDatabase;
+import static seedu.address.testutil.TypicalReminders.BIRTHDAY;
+import static seedu.address.testutil.TypicalReminders.DATING;
+import static seedu.address.testutil.TypicalReminders.GATHERING;
+import static seedu.address.testutil.TypicalReminders.MEETING;
+import static seedu.address.testutil.TypicalReminders.PARTY;
+import static seedu.address.testutil.TypicalReminders.getTypicalAddressBook;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.reminder.ReadOnlyReminder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ListReminderCommand}.
+ */
+public class ListReminderCommandTest {
+
+    private static final LocalDateTime NEW_YEAR = LocalDateTime.of(2017, 1, 1, 0, 0);
+    private static final LocalDateTime END_OF_MARCH = LocalDateTime.of(2017, 3, 31, 23, 59);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalDatabase(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ListReminderCommand listRangeCommand = new ListReminderCommand(NEW_YEAR, END_OF_MARCH);
+        Clock clock = Clock.fixed(NEW_YEAR.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+        // same object -> returns true
+        assertTrue(listRangeCommand.equals(listRangeCommand));
+
+        // same values -> returns true
+        assertTrue(listRangeCommand.equals(new ListReminderCommand(NEW_YEAR, END_OF_MARCH)));
+        assertTrue(new ListReminderCommand().equals(new ListReminderCommand()));
+        assertTrue(new ListReminderCommand(3, clock).equals(new ListReminderCommand(3, clock)));
+
+        // different types -> returns false
+        assertFalse(listRangeCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(listRangeCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(listRangeCommand.equals(new ListReminderCommand(NEW_YEAR, NEW_YEAR)));
+
+        // different kind of listing -> returns false
+        assertFalse(listRangeCommand.equals(new ListReminderCommand()));
+        assertFalse(new ListReminderCommand(3, clock).equals(new ListReminderCommand(2, clock)));
+    }
+
+    @Test
+    public void execute_listAll_showsEverything() {
+        model.updateFilteredReminderList(unused -> false);
+        assertCommandSuccess(new ListReminderCommand(), ListReminderCommand.MESSAGE_SUCCESS,
+                model.getAddressBook().getReminderList());
+    }
+
+    @Test
+    public void execute_dueRange_showsRemindersDueWithinRange() {
+        assertCommandSuccess(new ListReminderCommand(NEW_YEAR, END_OF_MARCH),
+                String.format(MESSAGE_REMINDERS_LISTED_OVERVIEW, 3), Arrays.asList(BIRTHDAY, DATING, PARTY));
+
+        // both ends are inclusive
+        LocalDateTime datingTime = LocalDateTime.of(2017, 1, 1, 15, 0);
+        assertCommandSuccess(new ListReminderCommand(datingTime, datingTime),
+                String.format(MESSAGE_REMINDERS_LISTED_OVERVIEW, 1), Collections.singletonList(DATING));
+
+        // nothing due
+        assertCommandSuccess(new ListReminderCommand(NEW_YEAR, NEW_YEAR),
+                String.format(MESSAGE_REMINDERS_LISTED_OVERVIEW, 0), Collections.emptyList());
+    }
+
+    @Test
+    public void execute_nextDue_showsNextRemindersFromNow() {
+        Clock endOfFebruary = Clock.fixed(LocalDateTime.of(2017, 2, 28, 12, 0).toInstant(ZoneOffset.UTC),
+                ZoneOffset.UTC);
+        assertCommandSuccess(new ListReminderCommand(3, endOfFebruary),
+                String.format(MESSAGE_REMINDERS_LISTED_OVERVIEW, 3), Arrays.asList(GATHERING, MEETING, PARTY));
+    }
+
+    /**
+     * Asserts that {@code command} is successfully executed, and<br>
+     *     - the command feedback is equal to {@code expectedMessage}<br>
+     *     - the {@code FilteredList<ReadOnlyReminder>} is equal to {@code expectedList}<br>
+     *     - the {@code AddressBook} in model remains the same after executing the {@code command}
+     */
+    private void assertCommandSuccess(ListReminderCommand command, String expectedMessage,
+                                      List<ReadOnlyReminder> expectedList) {
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        AddressBook expectedAddressBook = new AddressBook(model.getAddressBook());
+        CommandResult commandResult = command.execute();
+
+        assertEquals(expectedMessage, commandResult.feedbackToUser);
+        assertEquals(expectedList, model.getFilteredReminderList());
+        assertEquals(expectedAddressBook, model.getAddressBook());
+    }
+}
@@ -4,15 +4,20 @@ package seedu.address.logic.commands;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.testutil.TypicalAccounts.getTypicalDatabase;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.List;
 
+import org.junit.After;
 import org.junit.Test;
 
+import javafx.stage.Stage;
+import seedu.address.TestApp;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Database;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -21,6 +26,7 @@ import seedu.address.model.account.Account;
 import seedu.address.model.account.Password;
 import seedu.address.model.account.ReadOnlyAccount;
 import seedu.address.model.account.Username;
+import seedu.address.ui.Ui;
 
 
 
@@ -70,10 +76,30 @@ public class LoginCommandTest {
 
     @Test
     public void execute_validLogin() throws Exception {
+        UiStub ui = new UiStub(false);
+        TestApp.setUi(ui);
         String expectedMessage = String.format(LoginCommand.MESSAGE_SUCCESS, 0);
         LoginCommand command = prepareCommand("private", "password");
         CommandResult commandResult = command.execute();
         assertTrue(commandResult.feedbackToUser.equals(expectedMessage));
+        assertEquals("private", ui.restartedUserName);
+    }
+
+    @Test
+    public void execute_validLoginRestartFails_throwsCommandException() throws Exception {
+        TestApp.setUi(new UiStub(true));
+        LoginCommand command = prepareCommand("private", "password");
+        try {
+            command.execute();
+            fail("The expected CommandException was not thrown.");
+        } catch (CommandException ce) {
+            assertEquals(LoginCommand.MESSAGE_LOGIN_FAILURE, ce.getMessage());
+        }
+    }
+
+    @After
+    public void tearDown() {
+        TestApp.setUi(null);
     }
 
 
@@ -96,7 +122,8 @@ public class LoginCommandTest {
      *     - the {@code AddressBook} in model remains the same after executing the {@code command}
      */
     private void assertCommandSuccess(LoginCommand command,
-                                      String expectedMessage, List<ReadOnlyAccount> expectedList) {
+                                      String expectedMessage, List<ReadOnlyAccount> expectedList)
+            throws CommandException {
         Database expectedDatabase = new Database(model.getDatabase());
         CommandResult commandResult = command.execute();
 
@@ -105,4 +132,34 @@ public class LoginCommandTest {
         assertEquals(expectedDatabase, model.getDatabase());
     }
 
+    /**
+     * A UI that records the user it is restarted for, and fails to restart if asked to.
+     */
+    private static class UiStub implements Ui {
+        private final boolean failsToRestart;
+        private String restartedUserName;
+
+        UiStub(boolean failsToRestart) {
+            this.failsToRestart = failsToRestart;
+        }
+
+        @Override
+        public void start(Stage primaryStage) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void stop() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void restart(String userName) {
+            if (failsToRestart) {
+                throw new IllegalStateException("Could not restart the UI for " + userName);
+            }
+            restartedUserName = userName;
+        }
+    }
+
 }
@@ -64,6 +64,14 @@ public class RetagCommandTest {
         assertCommandFailure(command, model, expectedMessage);
     }
 
+    @Test
+    public void execute_cancelled_addressBookUnchanged() throws Exception {
+        RetagCommand command = prepareCommand(new Tag("friends"), new Tag("enemies"));
+        command.setCancellationCheck(() -> true);
+
+        assertCommandFailure(command, model, Command.MESSAGE_CANCELLED);
+    }
+
     @Test
     public void equals() throws Exception {
         Tag targetTag = new Tag("enemies");
@@ -69,4 +69,14 @@ public class SortBirthdayCommandTest {
         assertTrue(model.getFilteredPersonList().get(SECOND_PERSON).equals(Adeline));
     }
 
+    @Test
+    public void execute_personsWithoutBirthdaySortedLast() throws Exception {
+        Person adeline = new PersonBuilder().withName("Adeline").withBirthday("05/05/1995").build();
+        model.addPerson(adeline);
+        assertSortSuccess(sortBirthdayCommand, model, SortBirthdayCommand.MESSAGE_SUCCESS, expectedModel);
+        assertTrue(model.getFilteredPersonList().get(FIRST_PERSON).equals(adeline));
+        assertTrue(model.getFilteredPersonList().stream().skip(1)
+                .allMatch(person -> person.getBirthday().value.isEmpty()));
+    }
+
 }
@@ -1,6 +1,7 @@
 //@@author inGall
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -9,6 +10,9 @@ import static seedu.address.logic.commands.CommandTestUtil.assertSortSuccess;
 import static seedu.address.testutil.TypicalAccounts.getTypicalDatabase;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -18,6 +22,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.testutil.PersonBuilder;
 
 public class SortCommandTest {
@@ -59,4 +64,21 @@ public class SortCommandTest {
                 expectedModel.getFilteredPersonList().get(FIRST_PERSON)));
     }
 
+    @Test
+    public void execute_personAddedAfterSorted_shownInPlaceWithoutChangingStoredOrder() throws Exception {
+        Person zoe = new PersonBuilder().withName("Zoe").withEmail("zoe@example.com").build();
+        model.addPerson(zoe);
+        List<ReadOnlyPerson> storedOrder = new ArrayList<>(model.getAddressBook().getPersonList());
+        assertSortSuccess(sortCommand, model, SortCommand.MESSAGE_SUCCESS, expectedModel);
+
+        Person adeline = new PersonBuilder().withName("adeline").withEmail("adeline@example.com").build();
+        model.addPerson(adeline);
+        assertEquals(adeline, model.getFilteredPersonList().get(FIRST_PERSON));
+        assertEquals(zoe, model.getFilteredPersonList().get(model.getFilteredPersonList().size() - 1));
+
+        // the persons stay stored in the order they were added
+        storedOrder.add(adeline);
+        assertEquals(storedOrder, model.getAddressBook().getPersonList());
+    }
+
 }
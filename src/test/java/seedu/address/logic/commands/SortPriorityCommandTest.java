@@ -1,10 +1,13 @@
 //@@author inGall
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import static seedu.address.logic.commands.CommandTestUtil.assertSortSuccess;
 
+import java.util.Arrays;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -63,4 +66,20 @@ public class SortPriorityCommandTest {
 
     }
 
+    @Test
+    public void execute_reminderAddedAfterSorted_keptInPriorityOrder() throws Exception {
+        Reminder breakfast = new ReminderBuilder().withTask("Breakfast").withPriority("Low").build();
+        Reminder lunch = new ReminderBuilder().withTask("Lunch").withPriority("High").build();
+        Reminder dinner = new ReminderBuilder().withTask("Dinner").withPriority("Medium").build();
+        model.addReminder(breakfast);
+        model.addReminder(lunch);
+        sortPriorityCommand.execute();
+
+        model.addReminder(dinner);
+        assertEquals(Arrays.asList(lunch, dinner, breakfast), model.getFilteredReminderList());
+
+        // the reminders stay stored in the order they were added
+        assertEquals(Arrays.asList(breakfast, lunch, dinner), model.getAddressBook().getReminderList());
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertFalse;
 import static seedu.address.logic.UndoRedoStackUtil.prepareStack;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
@@ -10,15 +11,20 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.UndoHistoryLog;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
 
 public class UndoCommandTest {
     private static final CommandHistory EMPTY_COMMAND_HISTORY = new CommandHistory();
@@ -55,4 +61,51 @@ public class UndoCommandTest {
         // no command in undoStack
         assertCommandFailure(undoCommand, model, UndoCommand.MESSAGE_FAILURE);
     }
+
+    @Test
+    public void execute_loggedCommandNotMatchingAddressBook_clearsUndoHistory() {
+        // the logged command undoes adding a person that is not in the address book
+        AddressBookDelta undoAddingNewPerson = AddressBookDelta.of(Collections.singletonList(
+                new AddressBookDelta.Splice<ReadOnlyPerson>(0, Collections.singletonList(
+                        new PersonBuilder().withName("New Person").build()), Collections.emptyList())),
+                Collections.emptyList(), Collections.emptyList());
+        UndoRedoStack undoRedoStack = new UndoRedoStack(Long.MAX_VALUE, Long.MAX_VALUE, null,
+                new SingleEntryHistoryLog(new UndoHistoryLog.Entry("add n/New Person", undoAddingNewPerson)));
+        UndoCommand undoCommand = new UndoCommand();
+        undoCommand.setData(model, EMPTY_COMMAND_HISTORY, undoRedoStack);
+
+        assertCommandFailure(undoCommand, model, UndoCommand.MESSAGE_OUT_OF_DATE);
+        assertFalse(undoRedoStack.canUndo());
+        assertFalse(undoRedoStack.canRedo());
+    }
+
+    /**
+     * An undo history log holding a single command from an earlier session.
+     */
+    private static class SingleEntryHistoryLog implements UndoHistoryLog {
+        private final Entry entry;
+
+        SingleEntryHistoryLog(Entry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public void logExecuted(String commandText, AddressBookDelta undoDelta) {}
+
+        @Override
+        public void logUndone() {}
+
+        @Override
+        public void logRedone() {}
+
+        @Override
+        public List<Long> readHistory() {
+            return Collections.singletonList(0L);
+        }
+
+        @Override
+        public Entry read(long position) {
+            return entry;
+        }
+    }
 }
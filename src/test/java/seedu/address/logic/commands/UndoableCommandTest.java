@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 import static seedu.address.logic.commands.CommandTestUtil.deleteFirstPerson;
 import static seedu.address.logic.commands.CommandTestUtil.showFirstPersonOnly;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.Test;
 
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -36,6 +38,41 @@ public class UndoableCommandTest {
         assertEquals(expectedModel, model);
     }
 
+    @Test
+    public void execute_cancelled_changesRolledBack() throws Exception {
+        // cancelled after the person is deleted
+        dummyCommand.setCancellationCheck(() -> true);
+        try {
+            dummyCommand.execute();
+            fail("The expected CommandCancelledException was not thrown.");
+        } catch (CommandCancelledException cce) {
+            assertEquals(Command.MESSAGE_CANCELLED, cce.getMessage());
+        }
+
+        assertEquals(expectedModel, model);
+        assertNull(dummyCommand.getUndoDelta());
+    }
+
+    @Test
+    public void execute_failedAfterChange_changesRolledBack() throws Exception {
+        UndoableCommand failingCommand = new DummyCommand(model) {
+            @Override
+            public CommandResult executeUndoableCommand() throws CommandException {
+                super.executeUndoableCommand();
+                throw new CommandException("failed");
+            }
+        };
+        try {
+            failingCommand.execute();
+            fail("The expected CommandException was not thrown.");
+        } catch (CommandException ce) {
+            assertEquals("failed", ce.getMessage());
+        }
+
+        assertEquals(expectedModel, model);
+        assertNull(failingCommand.getUndoDelta());
+    }
+
     @Test
     public void redo() {
         showFirstPersonOnly(model);
@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalAccounts.getTypicalDatabase;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code UpcomingBirthdaysCommand}.
+ */
+public class UpcomingBirthdaysCommandTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2017, 12, 30);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private Model model;
+    private ReadOnlyPerson amy;
+    private ReadOnlyPerson bob;
+    private ReadOnlyPerson carl;
+
+    @Before
+    public void setUp() throws Exception {
+        amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com").withBirthday("31/12/1990")
+                .build();
+        bob = new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com").withBirthday("30/12/1985")
+                .build();
+        carl = new PersonBuilder().withName("Carl Kurz").withEmail("carl@example.com").withBirthday("05/01/1970")
+                .build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(carl);
+        addressBook.addPerson(bob);
+        model = new ModelManager(addressBook, getTypicalDatabase(), new UserPrefs());
+    }
+
+    @Test
+    public void equals() {
+        UpcomingBirthdaysCommand weekCommand = new UpcomingBirthdaysCommand(7, CLOCK);
+
+        // same object -> returns true
+        assertTrue(weekCommand.equals(weekCommand));
+
+        // same values -> returns true
+        assertTrue(weekCommand.equals(new UpcomingBirthdaysCommand(7, CLOCK)));
+
+        // different types -> returns false
+        assertFalse(weekCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(weekCommand.equals(null));
+
+        // different number of days -> returns false
+        assertFalse(weekCommand.equals(new UpcomingBirthdaysCommand(30, CLOCK)));
+    }
+
+    @Test
+    public void execute_birthdaysWithinDays_listedInOrderOfBirthdays() {
+        String expectedMessage = String.format(UpcomingBirthdaysCommand.MESSAGE_BIRTHDAYS, 7)
+                + "\nBob Choo, today (30/12)"
+                + "\nAmy Bee, tomorrow (31/12)"
+                + "\nCarl Kurz, in 6 days (05/01)";
+        assertCommandSuccess(new UpcomingBirthdaysCommand(7, CLOCK), expectedMessage, Arrays.asList(amy, carl, bob));
+
+        expectedMessage = String.format(UpcomingBirthdaysCommand.MESSAGE_BIRTHDAYS, 1)
+                + "\nBob Choo, today (30/12)"
+                + "\nAmy Bee, tomorrow (31/12)";
+        assertCommandSuccess(new UpcomingBirthdaysCommand(1, CLOCK), expectedMessage, Arrays.asList(amy, bob));
+    }
+
+    @Test
+    public void execute_noBirthdaysWithinDays_emptyList() {
+        Clock june = Clock.fixed(LocalDate.of(2017, 6, 1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        assertCommandSuccess(new UpcomingBirthdaysCommand(7, june),
+                String.format(UpcomingBirthdaysCommand.MESSAGE_NO_BIRTHDAYS, 7), Collections.emptyList());
+    }
+
+    /**
+     * Asserts that {@code command} is successfully executed, and<br>
+     *     - the command feedback is equal to {@code expectedMessage}<br>
+     *     - the {@code FilteredList<ReadOnlyPerson>} is equal to {@code expectedList}<br>
+     *     - the {@code AddressBook} in model remains the same after executing the {@code command}
+     */
+    private void assertCommandSuccess(UpcomingBirthdaysCommand command, String expectedMessage,
+                                      List<ReadOnlyPerson> expectedList) {
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        AddressBook expectedAddressBook = new AddressBook(model.getAddressBook());
+        CommandResult commandResult = command.execute();
+
+        assertEquals(expectedMessage, commandResult.feedbackToUser);
+        assertEquals(expectedList, model.getFilteredPersonList());
+        assertEquals(expectedAddressBook, model.getAddressBook());
+    }
+}
@@ -40,6 +40,7 @@ import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UntagCommand;
+import seedu.address.logic.commands.UpcomingBirthdaysCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Birthday;
@@ -159,6 +160,13 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_upcomingBirthdays() throws Exception {
+        assertTrue(parser.parseCommand(UpcomingBirthdaysCommand.COMMAND_WORD) instanceof UpcomingBirthdaysCommand);
+        assertTrue(parser.parseCommand(UpcomingBirthdaysCommand.COMMAND_ALIAS + " 30")
+                instanceof UpcomingBirthdaysCommand);
+    }
+
     //@@author duyson98
     @Test
     public void parseCommand_view() throws Exception {
@@ -11,6 +11,7 @@ import org.junit.Test;
 
 import seedu.address.logic.commands.FindPhoneCommand;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate.MatchMode;
 
 public class FindPhoneCommandParserTest {
 
@@ -33,4 +34,18 @@ public class FindPhoneCommandParserTest {
         assertParseSuccess(parser, " \n 87654321 \n \t 98765432  \t", expectedFindPhoneCommand);
     }
 
+    @Test
+    public void parse_modeFlag_returnsFindPhoneCommandWithMode() {
+        assertParseSuccess(parser, "-prefix 8765 9876", new FindPhoneCommand(
+                new PhoneContainsKeywordsPredicate(Arrays.asList("8765", "9876"), MatchMode.PREFIX)));
+        assertParseSuccess(parser, " -substring \t 4321", new FindPhoneCommand(
+                new PhoneContainsKeywordsPredicate(Arrays.asList("4321"), MatchMode.SUBSTRING)));
+    }
+
+    @Test
+    public void parse_modeFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, "-prefix  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindPhoneCommand.MESSAGE_USAGE));
+    }
+
 }
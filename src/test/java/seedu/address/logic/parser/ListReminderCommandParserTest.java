@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ListReminderCommand;
+import seedu.address.model.reminder.Date;
+
+public class ListReminderCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListReminderCommand.MESSAGE_USAGE);
+
+    private ListReminderCommandParser parser = new ListReminderCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListAllCommand() {
+        assertParseSuccess(parser, "  ", new ListReminderCommand());
+    }
+
+    @Test
+    public void parse_dueRange_returnsListRangeCommand() {
+        ListReminderCommand expectedCommand = new ListReminderCommand(LocalDateTime.of(2017, 1, 1, 0, 0),
+                LocalDateTime.of(2017, 3, 31, 23, 59));
+        assertParseSuccess(parser, " due/01/01/2017 00:00 to 31/03/2017 23:59", expectedCommand);
+
+        // extra whitespace
+        assertParseSuccess(parser, "  due/ 01/01/2017  00:00   to  31/03/2017 23:59  ", expectedCommand);
+    }
+
+    @Test
+    public void parse_nextCount_returnsListNextDueCommand() {
+        assertParseSuccess(parser, " next/3", new ListReminderCommand(3, Clock.systemDefaultZone()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // preamble
+        assertParseFailure(parser, " soon", MESSAGE_INVALID_FORMAT);
+
+        // both kinds of listing
+        assertParseFailure(parser, " due/01/01/2017 00:00 to 02/01/2017 00:00 next/3", MESSAGE_INVALID_FORMAT);
+
+        // range without an end
+        assertParseFailure(parser, " due/01/01/2017 00:00", MESSAGE_INVALID_FORMAT);
+
+        // invalid date
+        assertParseFailure(parser, " due/01/01/2017 to 02/01/2017 00:00", Date.MESSAGE_DATE_CONSTRAINTS);
+
+        // range ending before it starts
+        assertParseFailure(parser, " due/02/01/2017 00:00 to 01/01/2017 00:00",
+                ListReminderCommandParser.MESSAGE_INVALID_RANGE);
+
+        // invalid count
+        assertParseFailure(parser, " next/0", ListReminderCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " next/three", ListReminderCommandParser.MESSAGE_INVALID_COUNT);
+    }
+
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.UpcomingBirthdaysCommand;
+
+public class UpcomingBirthdaysCommandParserTest {
+
+    private UpcomingBirthdaysCommandParser parser = new UpcomingBirthdaysCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsUpcomingBirthdaysCommand() {
+        assertParseSuccess(parser, "  ", new UpcomingBirthdaysCommand(UpcomingBirthdaysCommand.DEFAULT_DAYS_AHEAD,
+                Clock.systemDefaultZone()));
+        assertParseSuccess(parser, " 30 ", new UpcomingBirthdaysCommand(30, Clock.systemDefaultZone()));
+        assertParseSuccess(parser, "0", new UpcomingBirthdaysCommand(0, Clock.systemDefaultZone()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a", UpcomingBirthdaysCommandParser.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, "-1", UpcomingBirthdaysCommandParser.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, "365", UpcomingBirthdaysCommandParser.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, "7 days", UpcomingBirthdaysCommandParser.MESSAGE_INVALID_DAYS);
+    }
+
+}
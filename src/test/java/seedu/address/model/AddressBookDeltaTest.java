@@ -0,0 +1,120 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalReminders.BIRTHDAY;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonUpdate;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.reminder.ReadOnlyReminder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookDeltaTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void between_unchangedAddressBook_isEmpty() {
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+        assertTrue(AddressBookDelta.between(snapshot, addressBook.getSnapshot()).isEmpty());
+    }
+
+    @Test
+    public void between_removedPerson_holdsOnlyRemovedPerson() throws Exception {
+        ReadOnlyAddressBook before = addressBook.getSnapshot();
+        addressBook.removePerson(BENSON);
+        AddressBookDelta delta = AddressBookDelta.between(before, addressBook.getSnapshot());
+
+        assertEquals(Collections.singletonList(new AddressBookDelta.Splice<ReadOnlyPerson>(1,
+                Collections.singletonList(BENSON), Collections.emptyList())), delta.getPersonSplices());
+        assertTrue(delta.getReminderSplices().isEmpty());
+        assertTrue(delta.getTagSplices().isEmpty());
+    }
+
+    @Test
+    public void between_editedPersons_holdsOneSplicePerChangedRun() throws Exception {
+        ReadOnlyAddressBook before = addressBook.getSnapshot();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        Person editedCarl = new PersonBuilder(CARL).withPhone("22222222").build();
+        addressBook.updatePersons(Arrays.asList(new PersonUpdate(ALICE, editedAlice),
+                new PersonUpdate(CARL, editedCarl)));
+        AddressBookDelta delta = AddressBookDelta.between(before, addressBook.getSnapshot());
+
+        assertEquals(Arrays.asList(
+                new AddressBookDelta.Splice<ReadOnlyPerson>(0, Arrays.asList(ALICE), Arrays.asList(editedAlice)),
+                new AddressBookDelta.Splice<ReadOnlyPerson>(2, Arrays.asList(CARL), Arrays.asList(editedCarl))),
+                delta.getPersonSplices());
+    }
+
+    @Test
+    public void applyDelta_inverse_restoresPreviousState() throws Exception {
+        AddressBook expected = new AddressBook(addressBook);
+        List<ReadOnlyPerson> expectedOrder = new ArrayList<>(addressBook.getPersonList());
+        ReadOnlyAddressBook before = addressBook.getSnapshot();
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(new PersonBuilder().withName("New Person").withTags("newTag").build());
+        addressBook.updatePerson(CARL, new PersonBuilder(CARL).withPhone("11111111").build());
+        addressBook.addReminder(BIRTHDAY);
+        AddressBookDelta delta = AddressBookDelta.between(before, addressBook.getSnapshot());
+        ReadOnlyAddressBook after = addressBook.getSnapshot();
+
+        addressBook.applyDelta(delta.inverse());
+        assertEquals(expected, addressBook);
+        assertEquals(expectedOrder, addressBook.getPersonList());
+        assertEquals(before.getTagList(), addressBook.getTagList());
+        assertTrue(addressBook.getReminderList().isEmpty());
+
+        // applying the delta again redoes the changes
+        addressBook.applyDelta(delta);
+        assertEquals(new AddressBook(after), addressBook);
+        assertEquals(after.getPersonList(), addressBook.getPersonList());
+    }
+
+    @Test
+    public void applyDelta_notTakenFromAddressBook_throwsIllegalArgumentException() throws Exception {
+        ReadOnlyAddressBook before = addressBook.getSnapshot();
+        addressBook.removePerson(ALICE);
+        AddressBookDelta delta = AddressBookDelta.between(before, addressBook.getSnapshot());
+
+        thrown.expect(IllegalArgumentException.class);
+        addressBook.applyDelta(delta);
+    }
+
+    @Test
+    public void applyDelta_laterSpliceNotTakenFromAddressBook_leavesAddressBookUnchanged() {
+        List<ReadOnlyPerson> expectedOrder = new ArrayList<>(addressBook.getPersonList());
+        AddressBookDelta delta = AddressBookDelta.of(
+                Collections.singletonList(new AddressBookDelta.Splice<ReadOnlyPerson>(0,
+                        Collections.singletonList(ALICE), Collections.emptyList())),
+                Collections.singletonList(new AddressBookDelta.Splice<ReadOnlyReminder>(0,
+                        Collections.singletonList(BIRTHDAY), Collections.emptyList())),
+                Collections.emptyList());
+
+        try {
+            addressBook.applyDelta(delta);
+            fail("The expected IllegalArgumentException was not thrown.");
+        } catch (IllegalArgumentException iae) {
+            assertEquals(getTypicalAddressBook(), addressBook);
+            assertEquals(expectedOrder, addressBook.getPersonList());
+        }
+    }
+}
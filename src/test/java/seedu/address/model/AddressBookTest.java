@@ -1,6 +1,9 @@
 package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -20,10 +23,14 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonUpdate;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.reminder.ReadOnlyReminder;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ReminderBuilder;
 
 public class AddressBookTest {
 
@@ -64,6 +71,23 @@ public class AddressBookTest {
         addressBook.resetData(newData);
     }
 
+    @Test
+    public void updatePersons_rejectedBatch_tagListUnchanged() throws Exception {
+        addressBook.addPerson(ALICE);
+        List<Tag> tagsBefore = new ArrayList<>(addressBook.getTagList());
+        ReadOnlyPerson taggedAlice = new PersonBuilder(ALICE).withTags("newTag").build();
+        ReadOnlyPerson taggedBenson = new PersonBuilder(BENSON).withTags("otherNewTag").build();
+        try {
+            // BENSON is not in the address book
+            addressBook.updatePersons(Arrays.asList(new PersonUpdate(ALICE, taggedAlice),
+                    new PersonUpdate(BENSON, taggedBenson)));
+            throw new AssertionError("The expected PersonNotFoundException was not thrown.");
+        } catch (PersonNotFoundException pnfe) {
+            assertEquals(tagsBefore, addressBook.getTagList());
+            assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+        }
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -94,6 +118,74 @@ public class AddressBookTest {
         addressBook.getTagList().remove(0);
     }
 
+    @Test
+    public void getShardVersions_personAdded_onlyItsShardChanged() throws Exception {
+        AddressBook typical = getTypicalAddressBook();
+        ShardVersions before = typical.getShardVersions();
+        typical.addPerson(new PersonBuilder().withName("New Person").withTags().build());
+        ShardVersions after = typical.getShardVersions();
+
+        int personShard = ShardVersions.personShardOf(typical.getPersonList().get(typical.getPersonList().size() - 1));
+        for (int shard = 0; shard < ShardVersions.SHARD_COUNT; shard++) {
+            assertEquals(shard == personShard, after.isChangedSince(before, shard));
+        }
+    }
+
+    @Test
+    public void getShardVersions_reminderAddedWithNewTag_reminderAndTagShardsChanged() throws Exception {
+        AddressBook typical = getTypicalAddressBook();
+        ShardVersions before = typical.getShardVersions();
+        typical.addReminder(new ReminderBuilder(BIRTHDAY).withTags("unusedTag").build());
+        ShardVersions after = typical.getShardVersions();
+
+        for (int shard = 0; shard < ShardVersions.SHARD_COUNT; shard++) {
+            boolean isExpectedChanged = shard == ShardVersions.REMINDER_SHARD || shard == ShardVersions.TAG_SHARD;
+            assertEquals(isExpectedChanged, after.isChangedSince(before, shard));
+        }
+    }
+
+    @Test
+    public void getShardVersions_copy_sameVersionsUntilChanged() throws Exception {
+        AddressBook typical = getTypicalAddressBook();
+        AddressBook copy = new AddressBook(typical);
+        assertEquals(typical.getShardVersions(), copy.getShardVersions());
+
+        copy.removePerson(ALICE);
+        assertTrue(copy.getShardVersions().isChangedSince(typical.getShardVersions(),
+                ShardVersions.personShardOf(ALICE)));
+        // versions are never reused, so the original does not catch up with the copy by changing the same shard
+        typical.removePerson(ALICE);
+        assertFalse(typical.getShardVersions().equals(copy.getShardVersions()));
+    }
+
+    @Test
+    public void getShardVersions_untracked_alwaysChanged() {
+        ShardVersions versions = addressBook.getShardVersions();
+        ReadOnlyAddressBook untracked = new AddressBookStub(Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList());
+        assertFalse(untracked.getShardVersions().isTracked());
+        assertTrue(untracked.getShardVersions().isChangedSince(versions, ShardVersions.TAG_SHARD));
+        assertTrue(versions.isChangedSince(untracked.getShardVersions(), ShardVersions.TAG_SHARD));
+        assertFalse(versions.isChangedSince(versions, ShardVersions.TAG_SHARD));
+    }
+
+    @Test
+    public void getSnapshot_laterChanges_notReflected() throws Exception {
+        AddressBook typical = getTypicalAddressBook();
+        typical.addReminder(BIRTHDAY);
+        AddressBook expected = new AddressBook(typical);
+        ReadOnlyAddressBook snapshot = typical.getSnapshot();
+
+        typical.removePerson(ALICE);
+        typical.addPerson(new PersonBuilder().withName("New Person").withTags("newTag").build());
+        typical.removeReminder(BIRTHDAY);
+
+        assertEquals(expected, new AddressBook(snapshot));
+        assertEquals(expected.getReminderList(), snapshot.getReminderList());
+        assertEquals(expected.getShardVersions(), snapshot.getShardVersions());
+        assertSame(snapshot, snapshot.getSnapshot());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons, reminders and tags lists can violate interface constraints.
      */
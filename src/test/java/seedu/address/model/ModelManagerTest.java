@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
@@ -8,23 +9,44 @@ import static seedu.address.testutil.TypicalAccounts.BROTHER;
 import static seedu.address.testutil.TypicalAccounts.PRIVATE;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalReminders.BIRTHDAY;
+import static seedu.address.testutil.TypicalReminders.DATING;
+import static seedu.address.testutil.TypicalReminders.GATHERING;
+import static seedu.address.testutil.TypicalReminders.MEETING;
+import static seedu.address.testutil.TypicalReminders.PARTY;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonUpdate;
+import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.reminder.TaskContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.DatabaseBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
+    private static final long READER_TIMEOUT_MILLIS = 1000;
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         ModelManager modelManager = new ModelManager();
@@ -39,6 +61,156 @@ public class ModelManagerTest {
         modelManager.getFilteredReminderList().remove(0);
     }
 
+    @Test
+    public void updatePersons_raisesSingleChangeEvent() throws Exception {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new Database(), new UserPrefs());
+        int[] listChanges = {0};
+        ListChangeListener<ReadOnlyPerson> changeCounter = change -> listChanges[0]++;
+        modelManager.getFilteredPersonList().addListener(changeCounter);
+        eventsCollectorRule.eventsCollector.reset();
+
+        ReadOnlyPerson editedAlice = new PersonBuilder(ALICE).withTags("batch").build();
+        ReadOnlyPerson editedBenson = new PersonBuilder(BENSON).withTags("batch").build();
+        modelManager.updatePersons(Arrays.asList(new PersonUpdate(ALICE, editedAlice),
+                new PersonUpdate(BENSON, editedBenson)));
+
+        assertEquals(1, listChanges[0]);
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+        assertEquals(editedAlice, modelManager.getFilteredPersonList().get(0));
+        assertEquals(editedBenson, modelManager.getFilteredPersonList().get(1));
+    }
+
+    @Test
+    public void updatePersons_emptyBatch_raisesNoEvent() throws Exception {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new Database(), new UserPrefs());
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.updatePersons(Collections.emptyList());
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_afterChanges_unaffectedByLaterChanges() throws Exception {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new Database(), new UserPrefs());
+        ReadOnlyAddressBook before = modelManager.getAddressBookSnapshot();
+        List<ReadOnlyPerson> personsBefore = new ArrayList<>(before.getPersonList());
+
+        modelManager.deletePerson(ALICE);
+        assertEquals(personsBefore, before.getPersonList());
+        assertEquals(new ArrayList<>(modelManager.getAddressBook().getPersonList()),
+                modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_readWhileWriting_alwaysConsistent() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBook(), new Database(), new UserPrefs());
+        int personCount = 200;
+        AtomicBoolean done = new AtomicBoolean(false);
+        List<String> inconsistencies = Collections.synchronizedList(new ArrayList<>());
+        Thread reader = new Thread(() -> {
+            int lastSize = 0;
+            while (!done.get()) {
+                ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+                int size = snapshot.getPersonList().size();
+                int counted = 0;
+                for (ReadOnlyPerson person : snapshot.getPersonList()) {
+                    counted++;
+                }
+                if (size < lastSize || counted != size) {
+                    inconsistencies.add("size " + size + " after " + lastSize + ", counted " + counted);
+                }
+                lastSize = size;
+            }
+        });
+        reader.start();
+        for (int i = 0; i < personCount; i++) {
+            modelManager.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(10000 + i))
+                    .build());
+        }
+        done.set(true);
+        reader.join();
+
+        assertEquals(Collections.emptyList(), inconsistencies);
+        assertEquals(personCount, modelManager.getAddressBookSnapshot().getPersonList().size());
+    }
+
+    @Test
+    public void filteredLists_uiExecutorDeferred_changedOnlyWhenExecutorRuns() throws Exception {
+        List<Runnable> uiTasks = new ArrayList<>();
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new Database(), new UserPrefs(),
+                uiTasks::add);
+        int[] listChanges = {0};
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<ReadOnlyPerson>) change ->
+                listChanges[0]++);
+        List<ReadOnlyPerson> shownBefore = new ArrayList<>(modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(ALICE);
+        modelManager.addReminder(BIRTHDAY);
+        modelManager.updatePerson(BENSON, new PersonBuilder(BENSON).withPhone("11111111").build());
+        assertEquals(shownBefore, modelManager.getFilteredPersonList());
+        assertTrue(modelManager.getFilteredReminderList().isEmpty());
+
+        uiTasks.forEach(Runnable::run);
+        assertEquals(modelManager.getAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+        assertEquals(Collections.singletonList(BIRTHDAY), modelManager.getFilteredReminderList());
+        // the changes made before the UI caught up are seen as one change
+        assertEquals(1, listChanges[0]);
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_changedBeforeUiRuns_uiShowsMatchesOfLatestSnapshot() throws Exception {
+        List<Runnable> uiTasks = new ArrayList<>();
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new Database(), new UserPrefs(),
+                uiTasks::add);
+        modelManager.updateFilteredPersonListByName(Collections.singletonList("Alice"));
+        uiTasks.forEach(Runnable::run);
+        uiTasks.clear();
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+
+        ReadOnlyPerson editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        ReadOnlyPerson editedBenson = new PersonBuilder(BENSON).withName("Benson Alice").build();
+        modelManager.updatePerson(ALICE, editedAlice);
+        modelManager.updatePerson(BENSON, editedBenson);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+
+        uiTasks.forEach(Runnable::run);
+        assertEquals(Arrays.asList(editedAlice, editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredReminderListToNextDue_reminderDeleted_nextReminderShown() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withReminder(DATING).withReminder(BIRTHDAY)
+                .withReminder(PARTY).withReminder(MEETING).withReminder(GATHERING).build();
+        ModelManager modelManager = new ModelManager(addressBook, new Database(), new UserPrefs());
+        modelManager.updateFilteredReminderListToNextDue(LocalDateTime.of(2017, 1, 1, 0, 0), 3);
+        assertEquals(Arrays.asList(DATING, BIRTHDAY, PARTY), modelManager.getFilteredReminderList());
+
+        modelManager.deleteReminder(DATING);
+        assertEquals(Arrays.asList(BIRTHDAY, PARTY, MEETING), modelManager.getFilteredReminderList());
+    }
+
+    @Test
+    public void addPerson_uiExecutorWaitsForReader_readerNotBlocked() throws Exception {
+        ModelManager[] modelManager = new ModelManager[1];
+        AtomicBoolean readerBlocked = new AtomicBoolean(false);
+        // like the UI thread, which reads the model while the thread changing it waits for the UI
+        modelManager[0] = new ModelManager(getTypicalAddressBook(), new Database(), new UserPrefs(), task -> {
+            Thread reader = new Thread(() -> modelManager[0].getPersonTags());
+            reader.start();
+            try {
+                reader.join(READER_TIMEOUT_MILLIS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            readerBlocked.compareAndSet(false, reader.isAlive());
+            task.run();
+        });
+
+        modelManager[0].addPerson(new PersonBuilder().withName("New Person").withPhone("12345678").build());
+        modelManager[0].addReminder(BIRTHDAY);
+        assertFalse(readerBlocked.get());
+    }
+
     @Test
     public void equals() {
 
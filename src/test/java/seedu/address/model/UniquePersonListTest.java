@@ -1,19 +1,217 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonUpdate;
+import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+
     @Test
     public void asObservableList_modifyList_throwsUnsupportedOperationException() {
-        UniquePersonList uniquePersonList = new UniquePersonList();
         thrown.expect(UnsupportedOperationException.class);
         uniquePersonList.asObservableList().remove(0);
     }
+
+    @Test
+    public void contains_equivalentCopy_returnsTrue() throws Exception {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(new Person(ALICE)));
+        // tags are not part of a person's identity
+        assertTrue(uniquePersonList.contains(new PersonBuilder(ALICE).withTags("other").build()));
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void add_duplicatePerson_throwsDuplicatePersonException() throws Exception {
+        uniquePersonList.add(ALICE);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.add(new Person(ALICE));
+    }
+
+    @Test
+    public void remove_personInMiddle_keepsLaterPersonsReachable() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        uniquePersonList.remove(BENSON);
+
+        assertEquals(Arrays.asList(ALICE, CARL, DANIEL), uniquePersonList.asObservableList());
+        assertFalse(uniquePersonList.contains(BENSON));
+
+        // persons after the removed one can still be replaced and removed in place
+        Person editedDaniel = new PersonBuilder(DANIEL).withPhone("11111111").build();
+        uniquePersonList.setPerson(DANIEL, editedDaniel);
+        uniquePersonList.remove(CARL);
+        assertEquals(Arrays.asList(ALICE, editedDaniel), uniquePersonList.asObservableList());
+    }
+
+    @Test
+    public void remove_missingPerson_throwsPersonNotFoundException() throws Exception {
+        uniquePersonList.add(ALICE);
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.remove(BENSON);
+    }
+
+    @Test
+    public void setPerson_replacesAtSamePosition() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Edited").build();
+        uniquePersonList.setPerson(BENSON, editedBenson);
+
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), uniquePersonList.asObservableList());
+        assertFalse(uniquePersonList.contains(BENSON));
+        assertTrue(uniquePersonList.contains(editedBenson));
+    }
+
+    @Test
+    public void setPerson_editedPersonIsDuplicate_throwsDuplicatePersonException() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPerson(BENSON, ALICE);
+    }
+
+    @Test
+    public void setPersons_withDuplicatePersons_throwsDuplicatePersonExceptionAndKeepsData() throws Exception {
+        uniquePersonList.add(CARL);
+        try {
+            uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, new Person(ALICE)));
+        } catch (DuplicatePersonException dpe) {
+            assertEquals(Arrays.asList(CARL), uniquePersonList.asObservableList());
+            assertFalse(uniquePersonList.contains(ALICE));
+            return;
+        }
+        fail("Expected DuplicatePersonException");
+    }
+
+    @Test
+    public void setPersons_uniquePersonList_copiesIndex() throws Exception {
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.setPersons(Arrays.asList(ALICE, BENSON));
+        uniquePersonList.add(CARL);
+        uniquePersonList.setPersons(replacement);
+
+        assertTrue(uniquePersonList.contains(BENSON));
+        assertFalse(uniquePersonList.contains(CARL));
+        uniquePersonList.remove(ALICE);
+        assertEquals(Arrays.asList(BENSON), uniquePersonList.asObservableList());
+    }
+
+    @Test
+    public void updatePersons_appliesAllUpdatesInOneChange() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        int[] changes = {0};
+        uniquePersonList.asObservableList().addListener((ListChangeListener<ReadOnlyPerson>) change -> changes[0]++);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Edited").build();
+        uniquePersonList.updatePersons(Arrays.asList(new PersonUpdate(ALICE, editedAlice),
+                new PersonUpdate(CARL, editedCarl)));
+
+        assertEquals(1, changes[0]);
+        assertEquals(Arrays.asList(editedAlice, BENSON, editedCarl), uniquePersonList.asObservableList());
+        assertFalse(uniquePersonList.contains(CARL));
+        uniquePersonList.remove(editedCarl);
+        assertEquals(Arrays.asList(editedAlice, BENSON), uniquePersonList.asObservableList());
+    }
+
+    @Test
+    public void updatePersons_swappingIdentities_succeeds() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        uniquePersonList.updatePersons(Arrays.asList(new PersonUpdate(ALICE, BENSON), new PersonUpdate(BENSON, ALICE)));
+        assertEquals(Arrays.asList(BENSON, ALICE), uniquePersonList.asObservableList());
+    }
+
+    @Test
+    public void updatePersons_duplicateResult_throwsDuplicatePersonExceptionAndKeepsData() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        try {
+            uniquePersonList.updatePersons(Arrays.asList(new PersonUpdate(ALICE, editedAlice),
+                    new PersonUpdate(BENSON, CARL)));
+        } catch (DuplicatePersonException dpe) {
+            assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asObservableList());
+            assertTrue(uniquePersonList.contains(ALICE));
+            return;
+        }
+        fail("Expected DuplicatePersonException");
+    }
+
+    @Test
+    public void updatePersons_missingTarget_throwsPersonNotFoundException() throws Exception {
+        uniquePersonList.add(ALICE);
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.updatePersons(Arrays.asList(new PersonUpdate(BENSON, CARL)));
+    }
+
+    @Test
+    public void splice_replacesOnlySplicedPositions() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("11111111").build();
+
+        uniquePersonList.splice(1, Arrays.asList(BENSON), Arrays.asList(DANIEL, editedBenson));
+        assertEquals(Arrays.asList(ALICE, DANIEL, editedBenson, CARL), uniquePersonList.asObservableList());
+        assertEquals(uniquePersonList.asObservableList(), uniquePersonList.snapshot());
+
+        // positions after the splice are kept up to date
+        uniquePersonList.splice(0, Arrays.asList(ALICE, DANIEL), Arrays.asList());
+        uniquePersonList.remove(CARL);
+        assertEquals(Arrays.asList(editedBenson), uniquePersonList.asObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void splice_removedPersonsNotAtIndex_throwsPersonNotFoundException() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.splice(0, Arrays.asList(BENSON), Arrays.asList());
+    }
+
+    @Test
+    public void splice_insertedPersonIsDuplicate_throwsDuplicatePersonExceptionAndKeepsData() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        try {
+            uniquePersonList.splice(1, Arrays.asList(BENSON), Arrays.asList(CARL, ALICE));
+        } catch (DuplicatePersonException dpe) {
+            assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asObservableList());
+            return;
+        }
+        fail("Expected DuplicatePersonException");
+    }
+
+    @Test
+    public void snapshot_laterChanges_notReflected() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        List<ReadOnlyPerson> snapshot = uniquePersonList.snapshot();
+
+        uniquePersonList.add(DANIEL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, new PersonBuilder(CARL).withPhone("11111111").build());
+        uniquePersonList.updatePersons(Arrays.asList(new PersonUpdate(BENSON, ALICE)));
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), snapshot);
+        assertEquals(uniquePersonList.asObservableList(), uniquePersonList.snapshot());
+    }
 }
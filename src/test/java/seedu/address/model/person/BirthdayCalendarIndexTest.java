@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class BirthdayCalendarIndexTest {
+
+    private final BirthdayCalendarIndex index = new BirthdayCalendarIndex();
+    private ReadOnlyPerson amy;
+    private ReadOnlyPerson bob;
+    private ReadOnlyPerson carl;
+    private ReadOnlyPerson dan;
+    private ReadOnlyPerson eve;
+
+    @Before
+    public void setUp() throws Exception {
+        amy = new PersonBuilder().withName("Amy").withBirthday("30/12/1990").build();
+        bob = new PersonBuilder().withName("Bob").withBirthday("02/01/1985").build();
+        carl = new PersonBuilder().withName("Carl").withBirthday("29/02/1996").build();
+        dan = new PersonBuilder().withName("Dan").withBirthday("30/12/2001").build();
+        eve = new PersonBuilder().withName("Eve").withBirthday("").build();
+        index.add(bob);
+        index.add(carl);
+        index.add(amy);
+        index.add(dan);
+        index.add(eve);
+    }
+
+    @Test
+    public void getBirthdaysWithin_acrossNewYear_inOrderOfBirthdays() {
+        List<ReadOnlyPerson> found = index.getBirthdaysWithin(LocalDate.of(2017, 12, 29), 7);
+        assertEquals(3, found.size());
+        assertTrue(found.subList(0, 2).containsAll(Arrays.asList(amy, dan)));
+        assertEquals(bob, found.get(2));
+
+        // both ends are inclusive
+        assertEquals(Collections.singletonList(bob), index.getBirthdaysWithin(LocalDate.of(2018, 1, 2), 0));
+        assertEquals(2, index.getBirthdaysWithin(LocalDate.of(2017, 12, 28), 2).size());
+
+        // nobody's birthday
+        assertTrue(index.getBirthdaysWithin(LocalDate.of(2017, 6, 1), 30).isEmpty());
+    }
+
+    @Test
+    public void getBirthdaysWithin_leapDay_fallsOnLastDayOfFebruary() {
+        assertEquals(Collections.singletonList(carl), index.getBirthdaysWithin(LocalDate.of(2017, 2, 28), 0));
+        assertTrue(index.getBirthdaysWithin(LocalDate.of(2020, 2, 28), 0).isEmpty());
+        assertEquals(Collections.singletonList(carl), index.getBirthdaysWithin(LocalDate.of(2020, 2, 29), 0));
+    }
+
+    @Test
+    public void getBirthdaysWithin_wholeYear_eachPersonOnce() throws Exception {
+        assertEquals(4, index.getBirthdaysWithin(LocalDate.of(2017, 1, 1), 1000).size());
+
+        // the first day of the window is not visited again a year later
+        ReadOnlyPerson fay = new PersonBuilder().withName("Fay").withBirthday("01/01/1999").build();
+        index.add(fay);
+        assertEquals(5, index.getBirthdaysWithin(LocalDate.of(2025, 1, 1), BirthdayCalendarIndex.MAX_DAYS_AHEAD)
+                .size());
+        assertEquals(5, index.getBirthdaysWithin(LocalDate.of(2023, 1, 1), BirthdayCalendarIndex.MAX_DAYS_AHEAD)
+                .size());
+    }
+
+    @Test
+    public void remove_personNoLongerFound() {
+        index.remove(amy);
+        assertEquals(Collections.singletonList(dan), index.getBirthdaysWithin(LocalDate.of(2017, 12, 30), 0));
+        index.clear();
+        assertTrue(index.getBirthdaysWithin(LocalDate.of(2017, 1, 1), 364).isEmpty());
+    }
+
+    @Test
+    public void getBirthdaysWithin_birthdayEdited_followsChanges() throws Exception {
+        LocalDate from = LocalDate.of(2017, 12, 29);
+        List<ReadOnlyPerson> found = index.getBirthdaysWithin(from, 7);
+        assertTrue(found.contains(amy));
+        assertTrue(found.contains(bob));
+        assertFalse(found.contains(carl));
+        assertFalse(found.contains(eve));
+
+        ReadOnlyPerson newBob = new PersonBuilder(bob).withBirthday("02/03/1985").build();
+        index.remove(bob);
+        index.add(newBob);
+        found = index.getBirthdaysWithin(from, 7);
+        assertFalse(found.contains(bob));
+        assertFalse(found.contains(newBob));
+    }
+
+}
@@ -1,9 +1,14 @@
 //@@author inGall
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Optional;
+
 import org.junit.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -49,4 +54,37 @@ public class BirthdayTest {
         assertFalse(Birthday.isValidBirthday("01/01/20000")); // invalid year
 
     }
+
+    @Test
+    public void getNextOccurrence() throws IllegalValueException {
+        Birthday birthday = new Birthday("15/06/1990");
+        assertEquals(Optional.of(MonthDay.of(6, 15)), birthday.getMonthDay());
+        assertEquals(Optional.of(LocalDate.of(2017, 6, 15)), birthday.getNextOccurrence(LocalDate.of(2017, 1, 1)));
+        assertEquals(Optional.of(LocalDate.of(2017, 6, 15)), birthday.getNextOccurrence(LocalDate.of(2017, 6, 15)));
+        assertEquals(Optional.of(LocalDate.of(2018, 6, 15)), birthday.getNextOccurrence(LocalDate.of(2017, 6, 16)));
+
+        // a leap day birthday falls on 28 February in other years
+        Birthday leapDay = new Birthday("29/02/1996");
+        assertEquals(Optional.of(LocalDate.of(2017, 2, 28)), leapDay.getNextOccurrence(LocalDate.of(2017, 1, 1)));
+        assertEquals(Optional.of(LocalDate.of(2020, 2, 29)), leapDay.getNextOccurrence(LocalDate.of(2020, 2, 29)));
+
+        // empty birthday
+        assertEquals(Optional.empty(), new Birthday("").getNextOccurrence(LocalDate.of(2017, 1, 1)));
+    }
+
+    @Test
+    public void sortKeys() throws IllegalValueException {
+        Birthday older = new Birthday("20/12/1980");
+        Birthday younger = new Birthday("10/01/1990");
+        Birthday empty = new Birthday("");
+
+        // oldest first, empty birthdays last
+        assertTrue(older.getAgeSortKey() < younger.getAgeSortKey());
+        assertTrue(younger.getAgeSortKey() < empty.getAgeSortKey());
+
+        // by month and day, then by year, empty birthdays last
+        assertTrue(younger.getCalendarSortKey() < older.getCalendarSortKey());
+        assertTrue(new Birthday("20/12/1970").getCalendarSortKey() < older.getCalendarSortKey());
+        assertTrue(older.getCalendarSortKey() < empty.getCalendarSortKey());
+    }
 }
@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class EmailIndexTest {
+
+    private final EmailIndex index = new EmailIndex();
+    private ReadOnlyPerson amy;
+    private ReadOnlyPerson bob;
+    private ReadOnlyPerson carl;
+    private ReadOnlyPerson dan;
+
+    @Before
+    public void setUp() {
+        amy = new PersonBuilder().withName("Amy").withEmail("amy@example.com").build();
+        bob = new PersonBuilder().withName("Bob").withEmail("Bob@Mail.Example.com").build();
+        carl = new PersonBuilder().withName("Carl").withEmail("carl@example.org").build();
+        dan = new PersonBuilder().withName("Dan").withEmail("dan@notexample.com").build();
+        index.add(amy);
+        index.add(bob);
+        index.add(carl);
+        index.add(dan);
+    }
+
+    @Test
+    public void getPersonsMatchingAny_domain_includesSubdomains() {
+        assertMatches(Collections.singletonList("@example.com"), amy, bob);
+        assertMatches(Collections.singletonList("@MAIL.example.com"), bob);
+        assertMatches(Collections.singletonList("@com"), amy, bob, dan);
+        assertMatches(Arrays.asList("@example.org", "@notexample.com"), carl, dan);
+        assertMatches(Collections.singletonList("@ample.com"));
+    }
+
+    @Test
+    public void getPersonsMatchingAny_address_ignoresCase() {
+        assertMatches(Collections.singletonList("bob@mail.example.com"), bob);
+        assertMatches(Arrays.asList("AMY@example.com", "carl@example.org"), amy, carl);
+        assertMatches(Collections.singletonList("amy@mail.example.com"));
+        // keywords that are neither addresses nor domains match nothing
+        assertMatches(Collections.singletonList("amy"));
+    }
+
+    @Test
+    public void remove_prunesEmptyDomains() {
+        index.remove(bob);
+        assertMatches(Collections.singletonList("@mail.example.com"));
+        assertMatches(Collections.singletonList("@example.com"), amy);
+
+        index.remove(amy);
+        assertMatches(Collections.singletonList("@com"), dan);
+    }
+
+    @Test
+    public void add_personFoundAtParentDomain() {
+        index.remove(bob);
+        ReadOnlyPerson eve = new PersonBuilder().withName("Eve").withEmail("eve@lab.example.com").build();
+        index.add(eve);
+        assertMatches(Collections.singletonList("@example.com"), amy, eve);
+    }
+
+    private void assertMatches(List<String> keywords, ReadOnlyPerson... expected) {
+        Set<ReadOnlyPerson> matches = index.getPersonsMatchingAny(keywords);
+        assertEquals(expected.length, matches.size());
+        assertTrue(matches.containsAll(Arrays.asList(expected)));
+    }
+
+}
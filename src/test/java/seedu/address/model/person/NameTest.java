@@ -5,6 +5,8 @@ import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
+import seedu.address.commons.exceptions.IllegalValueException;
+
 public class NameTest {
 
     @Test
@@ -22,4 +24,12 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void getSortKey_alphabeticalIgnoringCase() throws IllegalValueException {
+        assertTrue(new Name("alice").getSortKey().compareTo(new Name("Bob").getSortKey()) < 0);
+        assertTrue(new Name("Bob").getSortKey().compareTo(new Name("bobby").getSortKey()) < 0);
+        assertTrue(new Name("Zoe").getSortKey().compareTo(new Name("adam").getSortKey()) > 0);
+        assertTrue(new Name("Carl").getSortKey().compareTo(new Name("Carl").getSortKey()) == 0);
+    }
 }
@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @Test
+    public void getPersonsMatchingAny_unionOfPostingLists() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+        index.add(DANIEL);
+
+        // one keyword shared by several persons
+        assertEquals(2, index.getPersonsMatchingAny(Collections.singletonList("Meier")).size());
+
+        // mixed-case keywords, union of several posting lists
+        assertEquals(3, index.getPersonsMatchingAny(Arrays.asList("mEIER", "alice")).size());
+
+        // partial words do not match
+        assertTrue(index.getPersonsMatchingAny(Collections.singletonList("Mei")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsMatchingAny_matchesByIdentity() {
+        index.add(ALICE);
+        Set<ReadOnlyPerson> matches = index.getPersonsMatchingAny(Collections.singletonList("alice"));
+
+        assertTrue(matches.contains(ALICE));
+        // an equal copy is not the indexed instance
+        assertFalse(matches.contains(new Person(ALICE)));
+    }
+
+    @Test
+    public void getPersonsMatchingAny_indexChanged_followsIndex() {
+        assertTrue(index.getPersonsMatchingAny(Collections.singletonList("Kurz")).isEmpty());
+
+        index.add(CARL);
+        assertTrue(index.getPersonsMatchingAny(Collections.singletonList("Kurz")).contains(CARL));
+
+        index.remove(CARL);
+        assertTrue(index.getPersonsMatchingAny(Collections.singletonList("Kurz")).isEmpty());
+        assertTrue(index.getPersonsMatchingAny(Collections.singletonList("Carl")).isEmpty());
+    }
+
+    @Test
+    public void uniquePersonList_keepsRegisteredIndexInSync() throws Exception {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.addIndex(index);
+        List<String> keywords = Arrays.asList("Pauline", "Edited");
+
+        // persons already in the list are indexed on registration
+        assertTrue(index.getPersonsMatchingAny(keywords).contains(persons.asObservableList().get(0)));
+
+        persons.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Edited").build());
+        assertTrue(index.getPersonsMatchingAny(keywords).contains(persons.asObservableList().get(0)));
+        assertTrue(index.getPersonsMatchingAny(Collections.singletonList("Pauline")).isEmpty());
+
+        persons.setPersons(Arrays.asList(BENSON));
+        assertTrue(index.getPersonsMatchingAny(Collections.singletonList("Alice")).isEmpty());
+        assertEquals(1, index.getPersonsMatchingAny(Collections.singletonList("Benson")).size());
+
+        persons.remove(BENSON);
+        assertTrue(index.getPersonsMatchingAny(Collections.singletonList("Benson")).isEmpty());
+    }
+
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.person.PhoneContainsKeywordsPredicate.MatchMode;
+
+public class PhoneIndexTest {
+
+    private final PhoneIndex index = new PhoneIndex();
+
+    @Before
+    public void setUp() {
+        // 85355255, 98765432, 95352563, 87652533
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+        index.add(DANIEL);
+    }
+
+    @Test
+    public void getPersonsMatchingAny_exact() {
+        assertMatches(Collections.singletonList("98765432"), MatchMode.EXACT, BENSON);
+        assertMatches(Collections.singletonList("9876"), MatchMode.EXACT);
+    }
+
+    @Test
+    public void getPersonsMatchingAny_prefix() {
+        assertMatches(Collections.singletonList("9"), MatchMode.PREFIX, BENSON, CARL);
+        assertMatches(Arrays.asList("853", "8765"), MatchMode.PREFIX, ALICE, DANIEL);
+        assertMatches(Collections.singletonList("5432"), MatchMode.PREFIX);
+    }
+
+    @Test
+    public void getPersonsMatchingAny_substring() {
+        assertMatches(Collections.singletonList("535"), MatchMode.SUBSTRING, ALICE, CARL);
+        assertMatches(Collections.singletonList("2533"), MatchMode.SUBSTRING, DANIEL);
+        // whole numbers are substrings of themselves
+        assertMatches(Collections.singletonList("98765432"), MatchMode.SUBSTRING, BENSON);
+        assertMatches(Collections.singletonList("000"), MatchMode.SUBSTRING);
+    }
+
+    @Test
+    public void remove_personNoLongerMatches() {
+        index.remove(CARL);
+        assertMatches(Collections.singletonList("535"), MatchMode.SUBSTRING, ALICE);
+        assertMatches(Collections.singletonList("9"), MatchMode.PREFIX, BENSON);
+    }
+
+    @Test
+    public void clear_noPersonMatches() {
+        index.clear();
+        assertMatches(Collections.singletonList("535"), MatchMode.SUBSTRING);
+        assertMatches(Collections.singletonList("9"), MatchMode.PREFIX);
+    }
+
+    private void assertMatches(List<String> keywords, MatchMode mode, ReadOnlyPerson... expected) {
+        Set<ReadOnlyPerson> matches = index.getPersonsMatchingAny(keywords, mode);
+        assertEquals(expected.length, matches.size());
+        assertTrue(matches.containsAll(new HashSet<>(Arrays.asList(expected))));
+    }
+
+}
@@ -2,9 +2,12 @@
 
 package seedu.address.model.reminder;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDateTime;
+
 import org.junit.Test;
 
 public class DateTest {
@@ -27,4 +30,13 @@ public class DateTest {
         assertTrue(Date.isValidDate("10/08/2017 20:30"));
         assertTrue(Date.isValidDate("    01/01/2017    12:30  ")); // trailing space
     }
+
+    @Test
+    public void getEpochMinute_parsedOnce_orderedAsWritten() throws Exception {
+        Date date = new Date("01/01/1970 01:30");
+        assertEquals(LocalDateTime.of(1970, 1, 1, 1, 30), date.getDueTime());
+        assertEquals(90, date.getEpochMinute());
+
+        assertTrue(new Date("31/12/2016 23:59").getEpochMinute() < new Date("01/01/2017 00:00").getEpochMinute());
+    }
 }
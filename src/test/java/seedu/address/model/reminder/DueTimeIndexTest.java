@@ -0,0 +1,97 @@
+package seedu.address.model.reminder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalReminders.BIRTHDAY;
+import static seedu.address.testutil.TypicalReminders.DATING;
+import static seedu.address.testutil.TypicalReminders.GATHERING;
+import static seedu.address.testutil.TypicalReminders.LUNCH;
+import static seedu.address.testutil.TypicalReminders.MEETING;
+import static seedu.address.testutil.TypicalReminders.PARTY;
+import static seedu.address.testutil.TypicalReminders.getTypicalReminders;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.testutil.ReminderBuilder;
+
+public class DueTimeIndexTest {
+
+    private static final LocalDateTime NEW_YEAR = LocalDateTime.of(2017, 1, 1, 0, 0);
+    private static final LocalDateTime END_OF_MARCH = LocalDateTime.of(2017, 3, 31, 23, 59);
+
+    private final UniqueReminderList reminders = new UniqueReminderList();
+    private final DueTimeIndex index = new DueTimeIndex();
+
+    @Before
+    public void setUp() throws Exception {
+        reminders.setReminders(getTypicalReminders());
+        reminders.addIndex(index);
+    }
+
+    @Test
+    public void getDueBetween_range_earliestFirst() {
+        assertEquals(Arrays.asList(DATING, BIRTHDAY, PARTY), index.getDueBetween(NEW_YEAR, END_OF_MARCH));
+
+        // both ends are inclusive
+        LocalDateTime partyTime = LocalDateTime.of(2017, 3, 3, 20, 0);
+        assertEquals(Collections.singletonList(PARTY), index.getDueBetween(partyTime, partyTime));
+
+        // empty range
+        assertEquals(Collections.emptyList(), index.getDueBetween(END_OF_MARCH, NEW_YEAR));
+    }
+
+    @Test
+    public void getNextDue_fewerThanCount_returnsAllDue() {
+        assertEquals(Arrays.asList(MEETING, GATHERING), index.getNextDue(END_OF_MARCH, 2));
+        assertEquals(Arrays.asList(MEETING, GATHERING, LUNCH), index.getNextDue(END_OF_MARCH, 10));
+        assertEquals(Collections.emptyList(), index.getNextDue(LocalDateTime.of(2018, 1, 1, 0, 0), 3));
+    }
+
+    @Test
+    public void remindersChanged_indexKeptInSync() throws Exception {
+        ReadOnlyReminder movedLunch = new ReminderBuilder(LUNCH).withDate("01/02/2017 12:00").build();
+        reminders.setReminder(LUNCH, movedLunch);
+        reminders.remove(DATING);
+
+        List<ReadOnlyReminder> due = index.getDueBetween(NEW_YEAR, END_OF_MARCH);
+        assertEquals(3, due.size());
+        assertEquals(movedLunch, due.get(0));
+        assertEquals(Arrays.asList(BIRTHDAY, PARTY), due.subList(1, 3));
+    }
+
+    @Test
+    public void getNextDue_dueTogether_exactlyCount() throws Exception {
+        // exactly two are found, even when another reminder is due at the same time as the last one
+        ReadOnlyReminder alsoOnBirthday = new ReminderBuilder(BIRTHDAY).withTask("Collect cake").build();
+        reminders.add(alsoOnBirthday);
+        assertEquals(Arrays.asList(DATING, BIRTHDAY), index.getNextDue(NEW_YEAR, 2));
+
+        reminders.remove(DATING);
+        assertEquals(Arrays.asList(BIRTHDAY, alsoOnBirthday), index.getNextDue(NEW_YEAR, 2));
+
+        assertEquals(Collections.emptyList(), index.getNextDue(NEW_YEAR, 0));
+    }
+
+    @Test
+    public void getDueBetween_returnsStoredInstances() throws Exception {
+        ReadOnlyReminder movedMeeting = new ReminderBuilder(MEETING).withDate("01/02/2017 12:00").build();
+        reminders.setReminder(MEETING, movedMeeting);
+        List<ReadOnlyReminder> due = index.getDueBetween(NEW_YEAR, END_OF_MARCH);
+        assertSame(stored(DATING), due.get(0));
+        assertSame(stored(movedMeeting), due.get(1));
+    }
+
+    /**
+     * Returns the instance of {@code reminder} stored in the list, which is the one held by the index.
+     */
+    private ReadOnlyReminder stored(ReadOnlyReminder reminder) {
+        return reminders.asObservableList().stream().filter(reminder::equals).findFirst().get();
+    }
+
+}
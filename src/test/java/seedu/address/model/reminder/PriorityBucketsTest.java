@@ -0,0 +1,51 @@
+package seedu.address.model.reminder;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalReminders.BIRTHDAY;
+import static seedu.address.testutil.TypicalReminders.DATING;
+import static seedu.address.testutil.TypicalReminders.GATHERING;
+import static seedu.address.testutil.TypicalReminders.LUNCH;
+import static seedu.address.testutil.TypicalReminders.MEETING;
+import static seedu.address.testutil.TypicalReminders.PARTY;
+import static seedu.address.testutil.TypicalReminders.getTypicalReminders;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.testutil.ReminderBuilder;
+
+public class PriorityBucketsTest {
+
+    private final UniqueReminderList reminders = new UniqueReminderList();
+
+    @Before
+    public void setUp() throws Exception {
+        reminders.setReminders(getTypicalReminders());
+    }
+
+    @Test
+    public void getRemindersWithPriority_byLevelThenDueTime() {
+        assertEquals(Arrays.asList(PARTY, MEETING),
+                reminders.getRemindersWithPriority(EnumSet.of(Priority.Level.HIGH)));
+        assertEquals(Arrays.asList(PARTY, MEETING, DATING, BIRTHDAY),
+                reminders.getRemindersWithPriority(EnumSet.of(Priority.Level.LOW, Priority.Level.HIGH)));
+        assertEquals(Collections.emptyList(),
+                reminders.getRemindersWithPriority(EnumSet.noneOf(Priority.Level.class)));
+    }
+
+    @Test
+    public void remindersChanged_bucketsKeptInSync() throws Exception {
+        ReadOnlyReminder urgentLunch = new ReminderBuilder(LUNCH).withPriority("High").build();
+        reminders.setReminder(LUNCH, urgentLunch);
+        reminders.remove(GATHERING);
+
+        assertEquals(Arrays.asList(PARTY, MEETING, urgentLunch),
+                reminders.getRemindersWithPriority(EnumSet.of(Priority.Level.HIGH)));
+        assertEquals(Collections.emptyList(), reminders.getRemindersWithPriority(EnumSet.of(Priority.Level.MEDIUM)));
+    }
+
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.reminder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.testutil.ReminderBuilder;
+
+public class PriorityComparatorTest {
+
+    private final ReadOnlyReminder earlyLow = new ReminderBuilder().withTask("Early low").withPriority("Low")
+            .withDate("01/01/2017 09:00").build();
+    private final ReadOnlyReminder lateLow = new ReminderBuilder().withTask("Late low").withPriority("Low")
+            .withDate("01/06/2017 09:00").build();
+    private final ReadOnlyReminder medium = new ReminderBuilder().withTask("Medium").withPriority("Medium")
+            .withDate("01/03/2017 09:00").build();
+    private final ReadOnlyReminder lateHigh = new ReminderBuilder().withTask("Late high").withPriority("High")
+            .withDate("01/12/2017 09:00").build();
+    private final ReadOnlyReminder earlyHigh = new ReminderBuilder().withTask("Early high").withPriority("High")
+            .withDate("01/02/2017 09:00").build();
+
+    @Test
+    public void compare_byPriorityThenDueTime() {
+        List<ReadOnlyReminder> reminders = new ArrayList<>(Arrays.asList(lateLow, medium, earlyLow, lateHigh,
+                earlyHigh));
+        Collections.sort(reminders, new PriorityComparator());
+        assertEquals(Arrays.asList(earlyHigh, lateHigh, medium, earlyLow, lateLow), reminders);
+    }
+
+    @Test
+    public void priorityPredicate_matchesNamedLevels() {
+        PriorityContainsKeywordsPredicate predicate =
+                new PriorityContainsKeywordsPredicate(Arrays.asList("high", "Urgent"));
+        assertTrue(predicate.test(earlyHigh));
+        assertFalse(predicate.test(medium));
+        assertFalse(predicate.test(earlyLow));
+    }
+
+}
@@ -2,9 +2,12 @@
 
 package seedu.address.model.reminder;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Optional;
+
 import org.junit.Test;
 
 public class PriorityTest {
@@ -27,4 +30,25 @@ public class PriorityTest {
         assertTrue(Priority.isValidPriority("Medium"));
         assertTrue(Priority.isValidPriority("High"));
     }
+
+    @Test
+    public void levelFromWord() {
+        assertEquals(Optional.of(Priority.Level.HIGH), Priority.Level.fromWord("High"));
+        assertEquals(Optional.of(Priority.Level.MEDIUM), Priority.Level.fromWord(" medium ")); // any case
+        assertEquals(Optional.empty(), Priority.Level.fromWord("Urgent"));
+        assertEquals(Optional.empty(), Priority.Level.fromWord(""));
+    }
+
+    @Test
+    public void compareTo_higherPriorityFirst() throws Exception {
+        Priority high = new Priority("High");
+        Priority medium = new Priority("Medium");
+        Priority low = new Priority("Low");
+
+        assertTrue(high.compareTo(medium) < 0);
+        assertTrue(medium.compareTo(low) < 0);
+        assertTrue(low.compareTo(high) > 0);
+        assertEquals(0, new Priority(" Low ").compareTo(low));
+        assertEquals(Priority.Level.LOW, low.getLevel());
+    }
 }
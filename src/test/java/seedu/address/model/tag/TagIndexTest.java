@@ -0,0 +1,92 @@
+package seedu.address.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalReminders.BIRTHDAY;
+import static seedu.address.testutil.TypicalReminders.DATING;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.reminder.UniqueReminderList;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ReminderBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex index = new TagIndex();
+    private final UniquePersonList persons = new UniquePersonList();
+    private final UniqueReminderList reminders = new UniqueReminderList();
+
+    private Tag friends;
+    private Tag owesMoney;
+    private Tag present;
+    private Tag retrieveTester;
+
+    @Before
+    public void setUp() throws Exception {
+        friends = new Tag("friends");
+        owesMoney = new Tag("owesMoney");
+        present = new Tag("Present");
+        retrieveTester = new Tag("retrieveTester");
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        reminders.setReminders(Arrays.asList(BIRTHDAY, DATING));
+        persons.addIndex(index.personIndex());
+        reminders.addIndex(index.reminderIndex());
+    }
+
+    @Test
+    public void getPersonsWithTag_returnsPostingList() {
+        assertEquals(3, index.getPersonsWithTag(friends).size());
+        assertEquals(1, index.getPersonsWithTag(owesMoney).size());
+        assertTrue(index.getPersonsWithTag(present).isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList(friends, owesMoney, retrieveTester)), index.getPersonTags());
+    }
+
+    @Test
+    public void getReferenceCount_countsPersonsAndReminders() throws Exception {
+        assertEquals(3 + 1, index.getReferenceCount(friends));
+        assertEquals(2 + 2, index.getReferenceCount(retrieveTester));
+        assertEquals(1, index.getReferenceCount(present));
+        assertEquals(0, index.getReferenceCount(new Tag("unused")));
+    }
+
+    @Test
+    public void isUnused_followsPersonAndReminderMutations() throws Exception {
+        assertFalse(index.isUnused(owesMoney));
+        persons.setPerson(BENSON, new PersonBuilder(BENSON).withTags("friends").build());
+        assertTrue(index.isUnused(owesMoney));
+
+        // a tag used only by reminders is still in use
+        assertFalse(index.isUnused(present));
+        reminders.remove(DATING);
+        assertTrue(index.isUnused(present));
+
+        reminders.setReminder(BIRTHDAY, new ReminderBuilder(BIRTHDAY).withTags("Watch").build());
+        persons.remove(ALICE);
+        assertTrue(index.isUnused(retrieveTester));
+        assertEquals(2, index.getReferenceCount(friends));
+    }
+
+    @Test
+    public void getPersonsWithTag_indexChanged_followsIndex() throws Exception {
+        ReadOnlyPerson storedBenson = persons.asObservableList().get(1);
+        assertTrue(index.getPersonsWithTag(owesMoney).contains(storedBenson));
+        assertFalse(index.getPersonsWithTag(owesMoney).contains(persons.asObservableList().get(0)));
+
+        persons.setPersons(Arrays.asList(ALICE));
+        assertFalse(index.getPersonsWithTag(owesMoney).contains(storedBenson));
+        assertTrue(index.getPersonTags().contains(retrieveTester));
+        assertFalse(index.getPersonTags().contains(owesMoney));
+    }
+
+}
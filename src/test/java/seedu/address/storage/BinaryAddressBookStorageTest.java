@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalReminders.DINNER;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.ReminderBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String xmlFilePath;
+    private String filePath;
+    private File file;
+
+    @Before
+    public void setUp() {
+        xmlFilePath = testFolder.getRoot().getPath() + File.separator + "addressbook.xml";
+        filePath = BinaryAddressBookStorage.toBinaryFilePath(xmlFilePath);
+        file = new File(filePath);
+    }
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals("data/addressbook.bin", BinaryAddressBookStorage.toBinaryFilePath("data/addressbook.xml"));
+        assertEquals("data/addressbook.bin", BinaryAddressBookStorage.toBinaryFilePath("data/addressbook"));
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(filePath, xmlFilePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, xmlFilePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addReminder(DINNER);
+        storage.saveAddressBook(original);
+        assertReadBackEquals(original, storage);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertReadBackEquals(original, new BinaryAddressBookStorage(filePath, xmlFilePath));
+    }
+
+    @Test
+    public void encode_sharedStrings_storedOnce() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook duplicated = getTypicalAddressBook();
+        duplicated.addReminder(DINNER);
+        duplicated.addReminder(new ReminderBuilder(DINNER).withTask("Dinner outside").build());
+
+        // the second reminder only adds its task to the string table and four bytes for each of its fields
+        int size = BinaryAddressBookFormat.encode(addressBook).remaining();
+        assertTrue(BinaryAddressBookFormat.encode(duplicated).remaining() - size < 512);
+    }
+
+    @Test
+    public void readAddressBook_xmlFileOnly_migrated() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, xmlFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(file.exists());
+
+        // the binary file is read from now on, even if the xml file changes
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(new AddressBook());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void exportToXml_readByXmlStorage() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, xmlFilePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        String exportPath = testFolder.getRoot().getPath() + File.separator + "export.xml";
+        storage.exportToXml(exportPath);
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(exportPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_previousGenerationRead() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, xmlFilePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        storage.saveAddressBook(changed);
+
+        flipLastByteBeforeChecksum(file);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFileWithoutPreviousGeneration_throwsDataConversionException()
+            throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, xmlFilePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        flipLastByteBeforeChecksum(file);
+
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void decode_notBinaryAddressBook_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        BinaryAddressBookFormat.decode(ByteBuffer.wrap("<addressbook/>".getBytes("UTF-8")));
+    }
+
+    @Test
+    public void decode_unsupportedVersion_throwsIllegalValueException() throws Exception {
+        ByteBuffer buffer = BinaryAddressBookFormat.encode(getTypicalAddressBook());
+        buffer.putInt(Integer.BYTES, BinaryAddressBookFormat.VERSION + 1);
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage("version");
+        BinaryAddressBookFormat.decode(buffer);
+    }
+
+    /**
+     * Corrupts the last byte of the tag section of {@code file}, so that its checksum no longer matches.
+     */
+    private void flipLastByteBeforeChecksum(File file) throws Exception {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            long position = raf.length() - Integer.BYTES - 1;
+            raf.seek(position);
+            int value = raf.read();
+            raf.seek(position);
+            raf.write(value ^ 0xff);
+        }
+    }
+
+    /**
+     * Asserts that {@code storage} reads back {@code expected}, including its reminders.
+     */
+    private void assertReadBackEquals(AddressBook expected, BinaryAddressBookStorage storage) throws Exception {
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(expected, new AddressBook(readBack));
+        assertEquals(expected.getReminderList(), readBack.getReminderList());
+    }
+
+}
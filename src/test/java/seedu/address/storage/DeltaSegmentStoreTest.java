@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalReminders.BIRTHDAY;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class DeltaSegmentStoreTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path directory;
+
+    @Before
+    public void setUp() {
+        directory = testFolder.getRoot().toPath().resolve("undo");
+    }
+
+    @Test
+    public void writeAndRead_deltas_readBackEqual() throws Exception {
+        DeltaSegmentStore store = new DeltaSegmentStore(directory, Long.MAX_VALUE);
+        AddressBookDelta removal = deltaOf(addressBook -> addressBook.removePerson(BENSON));
+        AddressBookDelta edits = deltaOf(addressBook -> {
+            addressBook.updatePerson(ALICE, new PersonBuilder(ALICE).withPhone("11111111").withTags("new").build());
+            addressBook.addReminder(BIRTHDAY);
+        });
+
+        long removalPosition = store.write(removal);
+        long editsPosition = store.write(edits);
+        assertEquals(removal, store.read(removalPosition));
+        assertEquals(edits, store.read(editsPosition));
+        assertEquals(edits.getTagSplices(), store.read(editsPosition).getTagSplices());
+    }
+
+    @Test
+    public void applyDelta_readBackInverse_restoresAddressBook() throws Exception {
+        DeltaSegmentStore store = new DeltaSegmentStore(directory, Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(addressBook);
+        ReadOnlyAddressBook before = addressBook.getSnapshot();
+        addressBook.removePerson(CARL);
+        addressBook.addPerson(new PersonBuilder().withName("New Person").withTags("newTag").build());
+
+        long position = store.write(AddressBookDelta.between(before, addressBook.getSnapshot()).inverse());
+        addressBook.applyDelta(store.read(position));
+        assertEquals(expected, addressBook);
+    }
+
+    @Test
+    public void discardBefore_fullSegments_deletesThemAndFreesSpace() throws Exception {
+        // every delta starts a segment of its own
+        DeltaSegmentStore store = new DeltaSegmentStore(directory, 1);
+        AddressBookDelta delta = deltaOf(addressBook -> addressBook.removePerson(ALICE));
+        long first = store.write(delta);
+        long second = store.write(delta);
+        long third = store.write(delta);
+        long sizeOfThree = store.getSize();
+        assertEquals(3, countSegments());
+
+        store.discardBefore(third);
+        assertEquals(sizeOfThree - (third - first), store.getSize());
+        assertEquals(1, countSegments());
+        assertEquals(delta, store.read(third));
+
+        store.discardBefore(Long.MAX_VALUE);
+        assertEquals(0, store.getSize());
+        assertEquals(0, countSegments());
+
+        // the store can still be written to after everything has been discarded
+        assertEquals(delta, store.read(store.write(delta)));
+
+        thrown.expect(IOException.class);
+        store.read(second);
+    }
+
+    @Test
+    public void write_leftoverSegments_deleted() throws Exception {
+        Files.createDirectories(directory);
+        Files.write(directory.resolve("segment-0.bin"), new byte[] {1, 2, 3});
+        Files.write(directory.resolve("segment-500.bin"), new byte[] {1, 2, 3});
+
+        DeltaSegmentStore store = new DeltaSegmentStore(directory, Long.MAX_VALUE);
+        AddressBookDelta delta = deltaOf(addressBook -> addressBook.removePerson(ALICE));
+        assertEquals(delta, store.read(store.write(delta)));
+        assertFalse(Files.exists(directory.resolve("segment-500.bin")));
+    }
+
+    @Test
+    public void write_temporaryDirectory_success() throws Exception {
+        DeltaSegmentStore store = new DeltaSegmentStore(1024);
+        AddressBookDelta delta = deltaOf(addressBook -> addressBook.removePerson(ALICE));
+        assertEquals(delta, store.read(store.write(delta)));
+        assertTrue(store.getSize() > 0);
+        store.discardBefore(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void read_corruptedDelta_throwsDataConversionException() throws Exception {
+        DeltaSegmentStore store = new DeltaSegmentStore(directory, Long.MAX_VALUE);
+        long position = store.write(deltaOf(addressBook -> addressBook.removePerson(ALICE)));
+        try (RandomAccessFile segment = new RandomAccessFile(directory.resolve("segment-0.bin").toFile(), "rw")) {
+            segment.seek(position + Integer.BYTES);
+            segment.write(new byte[] {0, 0, 0, 0});
+        }
+
+        thrown.expect(DataConversionException.class);
+        store.read(position);
+    }
+
+    private long countSegments() throws IOException {
+        return Files.list(directory).count();
+    }
+
+    /**
+     * Returns the delta made by {@code change} to the typical address book.
+     */
+    private static AddressBookDelta deltaOf(AddressBookChange change) throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook before = addressBook.getSnapshot();
+        change.apply(addressBook);
+        return AddressBookDelta.between(before, addressBook.getSnapshot());
+    }
+
+    /**
+     * A change to an address book.
+     */
+    private interface AddressBookChange {
+        void apply(AddressBook addressBook) throws Exception;
+    }
+
+}
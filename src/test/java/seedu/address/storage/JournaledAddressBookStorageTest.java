@@ -0,0 +1,205 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalReminders.DINNER;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonUpdate;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+    private File file;
+    private File journalFile;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().getPath() + File.separator + "addressbook.xml";
+        file = new File(filePath);
+        journalFile = JournaledAddressBookStorage.getJournalFile(file);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalWithoutRewritingSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String snapshot = FileUtil.readFromFile(file);
+        assertFalse(journalFile.exists());
+
+        // unchanged address book -> nothing written
+        storage.saveAddressBook(addressBook);
+        assertFalse(journalFile.exists());
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        long journalLength = journalFile.length();
+        addressBook.updatePerson(BENSON, new PersonBuilder(BENSON).withPhone("11111111").build());
+        addressBook.removePerson(ALICE);
+        addressBook.addReminder(DINNER);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, FileUtil.readFromFile(file));
+        assertTrue(journalFile.length() > journalLength);
+        assertReadBackEquals(addressBook, storage);
+        assertReadBackEquals(addressBook, new JournaledAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_batchUpdate_replayedInPlace() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.updatePersons(Arrays.asList(
+                new PersonUpdate(ALICE, new PersonBuilder(ALICE).withTags("colleagues").build()),
+                new PersonUpdate(BENSON, new PersonBuilder(BENSON).withTags("colleagues").build())));
+        storage.saveAddressBook(addressBook);
+
+        assertReadBackEquals(addressBook, new JournaledAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_afterRestart_continuesJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage restarted = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(restarted.readAddressBook().get());
+        // the first save after reading only writes what changed
+        restarted.saveAddressBook(readBack);
+        assertFalse(journalFile.exists());
+        readBack.addPerson(IDA);
+        restarted.saveAddressBook(readBack);
+        assertTrue(journalFile.exists());
+
+        assertReadBackEquals(readBack, new JournaledAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_journalLargerThanSnapshot_compacted() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        String snapshot = FileUtil.readFromFile(file);
+
+        for (Person person : Arrays.asList(new Person(BENSON), new Person(HOON), new Person(IDA))) {
+            addressBook.addPerson(person);
+            storage.saveAddressBook(addressBook);
+        }
+
+        // the snapshot was replaced, and the journal of the old snapshot is no longer applied
+        assertFalse(snapshot.equals(FileUtil.readFromFile(file)));
+        assertReadBackEquals(addressBook, new JournaledAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_snapshotCorruptedAfterCompaction_previousGenerationReadWithItsJournal()
+            throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0);
+        File previousJournalFile = XmlFileStorage.getPreviousGenerationFile(journalFile);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        // the previous journal is kept once the journal has been folded into a new snapshot
+        for (ReadOnlyPerson person : Arrays.asList(BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE, HOON)) {
+            addressBook.addPerson(person);
+            storage.saveAddressBook(addressBook);
+            if (previousJournalFile.exists()) {
+                break;
+            }
+        }
+        assertTrue(previousJournalFile.exists());
+        AddressBook compacted = new AddressBook(addressBook);
+
+        // the journal of the new snapshot is started without replacing the previous journal
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertTrue(journalFile.exists());
+
+        FileUtil.writeToFile(file, "not an address book");
+        assertReadBackEquals(compacted, new JournaledAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_incompleteRecordAtEnd_ignored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // an interrupted append leaves part of a record behind
+        try (FileOutputStream out = new FileOutputStream(journalFile, true)) {
+            out.write(new byte[] {0, 0, 1, 0, 12, 34});
+        }
+        JournaledAddressBookStorage restarted = new JournaledAddressBookStorage(filePath);
+        assertReadBackEquals(addressBook, restarted);
+
+        // the incomplete record is discarded by the next append
+        addressBook.addPerson(IDA);
+        restarted.saveAddressBook(addressBook);
+        assertReadBackEquals(addressBook, new JournaledAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplacedByPlainFile_journalIgnored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        new XmlAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertReadBackEquals(replacement, new JournaledAddressBookStorage(filePath));
+    }
+
+    /**
+     * Asserts that {@code storage} reads back {@code expected}, including its reminders.
+     */
+    private void assertReadBackEquals(AddressBook expected, JournaledAddressBookStorage storage) throws Exception {
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(expected, new AddressBook(readBack));
+        assertEquals(expected.getReminderList(), readBack.getReminderList());
+    }
+
+}
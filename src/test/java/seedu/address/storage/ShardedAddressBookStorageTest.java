@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalReminders.DINNER;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ShardVersions;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ReminderBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String xmlFilePath;
+    private String filePath;
+    private File directory;
+
+    @Before
+    public void setUp() {
+        xmlFilePath = testFolder.getRoot().getPath() + File.separator + "addressbook.xml";
+        filePath = ShardedAddressBookStorage.toShardedFilePath(xmlFilePath);
+        directory = new File(filePath).getParentFile();
+    }
+
+    @Test
+    public void toShardedFilePath() {
+        assertEquals(new File("data/addressbook.shards", "manifest.xml").getPath(),
+                ShardedAddressBookStorage.toShardedFilePath("data/addressbook.xml"));
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(filePath, xmlFilePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, xmlFilePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addReminder(DINNER);
+        storage.saveAddressBook(original);
+        assertReadBackEquals(original, new ShardedAddressBookStorage(filePath, xmlFilePath));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertReadBackEquals(original, new ShardedAddressBookStorage(filePath, xmlFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_personEdited_onlyItsShardsRewritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, xmlFilePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addReminder(DINNER);
+        storage.saveAddressBook(addressBook);
+        Set<String> shardFiles = getShardFiles();
+
+        ReadOnlyPerson editedBenson = new PersonBuilder(BENSON).withPhone("11111111").build();
+        addressBook.updatePerson(BENSON, editedBenson);
+        storage.saveAddressBook(addressBook);
+
+        Set<String> changedShards = new HashSet<>(Arrays.asList(
+                ShardedAddressBookStorage.getShardName(ShardVersions.personShardOf(BENSON)),
+                ShardedAddressBookStorage.getShardName(ShardVersions.personShardOf(editedBenson))));
+        assertRewritten(shardFiles, getShardFiles(), changedShards);
+        assertReadBackEquals(addressBook, new ShardedAddressBookStorage(filePath, xmlFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_reminderEdited_onlyReminderShardRewritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, xmlFilePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addReminder(DINNER);
+        storage.saveAddressBook(addressBook);
+        Set<String> shardFiles = getShardFiles();
+
+        addressBook.updateReminder(DINNER, new ReminderBuilder(DINNER).withMessage("Cook").build());
+        storage.saveAddressBook(addressBook);
+
+        assertRewritten(shardFiles, getShardFiles(), new HashSet<>(Arrays.asList("reminders")));
+        assertReadBackEquals(addressBook, new ShardedAddressBookStorage(filePath, xmlFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterRestartUnchanged_nothingRewritten() throws Exception {
+        new ShardedAddressBookStorage(filePath, xmlFilePath).saveAddressBook(getTypicalAddressBook());
+        String manifest = FileUtil.readFromFile(new File(filePath));
+        Set<String> shardFiles = getShardFiles();
+
+        ShardedAddressBookStorage restarted = new ShardedAddressBookStorage(filePath, xmlFilePath);
+        AddressBook readBack = new AddressBook(restarted.readAddressBook().get());
+        restarted.saveAddressBook(readBack);
+
+        assertEquals(manifest, FileUtil.readFromFile(new File(filePath)));
+        assertEquals(shardFiles, getShardFiles());
+    }
+
+    @Test
+    public void readAddressBook_xmlFileOnly_migrated() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, xmlFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(new File(filePath).exists());
+
+        // the shards are read from now on, even if the xml file changes
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(new AddressBook());
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath, xmlFilePath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unusedShardFiles_deleted() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, xmlFilePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        // left behind by a save that was interrupted before it replaced the manifest
+        File orphan = new File(directory, "reminders.99.xml");
+        FileUtil.writeToFile(orphan, "<addressbook/>");
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertFalse(orphan.exists());
+    }
+
+    @Test
+    public void readAddressBook_missingShardFile_throwsDataConversionException() throws Exception {
+        new ShardedAddressBookStorage(filePath, xmlFilePath).saveAddressBook(getTypicalAddressBook());
+        String personShard = ShardedAddressBookStorage.getShardName(ShardVersions.personShardOf(ALICE));
+        new File(directory, personShard + ".1.xml").delete();
+
+        thrown.expect(DataConversionException.class);
+        new ShardedAddressBookStorage(filePath, xmlFilePath).readAddressBook();
+    }
+
+    /**
+     * Returns the names of the shard files in the shard directory.
+     */
+    private Set<String> getShardFiles() {
+        Set<String> names = new TreeSet<>(Arrays.asList(directory.list()));
+        names.remove("manifest.xml");
+        return names;
+    }
+
+    /**
+     * Asserts that exactly the files of {@code changedShards} differ between {@code before} and {@code after}.
+     */
+    private void assertRewritten(Set<String> before, Set<String> after, Set<String> changedShards) {
+        Set<String> unchanged = new TreeSet<>(before);
+        unchanged.retainAll(after);
+        for (String name : before) {
+            String shard = name.substring(0, name.indexOf('.'));
+            assertEquals(name, !changedShards.contains(shard), unchanged.contains(name));
+        }
+        assertEquals(before.size(), after.size());
+    }
+
+    /**
+     * Asserts that {@code storage} reads back {@code expected}, including its reminders.
+     */
+    private void assertReadBackEquals(AddressBook expected, ShardedAddressBookStorage storage) throws Exception {
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(expected, new AddressBook(readBack));
+        assertEquals(expected.getPersonList(), readBack.getPersonList());
+        assertEquals(expected.getReminderList(), readBack.getReminderList());
+    }
+
+}
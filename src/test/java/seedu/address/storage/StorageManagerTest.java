@@ -74,6 +74,17 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void createAddressBookStorage_format_storageOfFormat() {
+        assertTrue(StorageManager.createAddressBookStorage(UserPrefs.AddressBookFormat.XML, "data/ab.xml")
+                instanceof JournaledAddressBookStorage);
+        AddressBookStorage binaryStorage = StorageManager.createAddressBookStorage(
+                UserPrefs.AddressBookFormat.BINARY, "data/ab.xml");
+        assertEquals("data/ab.bin", binaryStorage.getAddressBookFilePath());
+        assertTrue(StorageManager.createAddressBookStorage(UserPrefs.AddressBookFormat.SHARDED, "data/ab.xml")
+                instanceof ShardedAddressBookStorage);
+    }
+
     @Test
     public void handleAddressBookChangedEvent_exceptionThrown_eventRaised() {
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
@@ -85,6 +96,67 @@ public class StorageManagerTest {
     }
 
 
+    @Test
+    public void handleAddressBookChangedEvent_writeBehind_savesSnapshotOnFlush() throws Exception {
+        storageManager.enableWriteBehind(60000);
+        AddressBook original = getTypicalAddressBook();
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(original));
+        AddressBook expected = new AddressBook(original);
+
+        // changes made after the event are not part of the pending save
+        original.removePerson(original.getPersonList().get(0));
+
+        storageManager.flush();
+        assertEquals(expected, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void stop_writeBehind_pendingChangesSavedAndLaterChangesSavedAsTheyHappen() throws Exception {
+        storageManager.enableWriteBehind(60000);
+        AddressBook original = getTypicalAddressBook();
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(original));
+        storageManager.stop();
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+
+        AddressBook edited = new AddressBook(original);
+        edited.removePerson(edited.getPersonList().get(0));
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(edited));
+        assertEquals(edited, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void switchAddressBookStorage_pendingChangesSavedToOldStorage() throws Exception {
+        storageManager.enableWriteBehind(60000);
+        String oldFilePath = storageManager.getAddressBookFilePath();
+        AddressBook original = getTypicalAddressBook();
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(original));
+
+        String newFilePath = getTempFilePath("other");
+        storageManager.switchAddressBookStorage(new XmlAddressBookStorage(newFilePath));
+        assertEquals(newFilePath, storageManager.getAddressBookFilePath());
+        assertEquals(original, new AddressBook(storageManager.readAddressBook(oldFilePath).get()));
+
+        // later changes go to the new storage
+        AddressBook edited = new AddressBook(original);
+        edited.removePerson(edited.getPersonList().get(0));
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(edited));
+        storageManager.flush();
+        assertEquals(edited, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(original, new AddressBook(storageManager.readAddressBook(oldFilePath).get()));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_writeBehindExceptionThrown_eventRaisedOnFlush() {
+        StorageManager storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub("dummy"),
+                new JsonUserPrefsStorage("dummy"),
+                new XmlDatabaseStorageExceptionThrowingStub("dummy"));
+        storage.enableWriteBehind(60000);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flush();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
+
     /**
      * A Stub class to throw an exception when the save method is called
      */
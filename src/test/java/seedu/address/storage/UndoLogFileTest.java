@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UndoHistoryLog;
+import seedu.address.model.person.ReadOnlyPerson;
+
+public class UndoLogFileTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path file;
+    private AddressBookDelta undoDeleteAlice;
+    private AddressBookDelta undoDeleteBenson;
+
+    @Before
+    public void setUp() throws Exception {
+        file = testFolder.getRoot().toPath().resolve("data").resolve("addressbook.undolog");
+        undoDeleteAlice = undoDeltaOfRemoving(ALICE);
+        undoDeleteBenson = undoDeltaOfRemoving(BENSON);
+    }
+
+    @Test
+    public void toUndoLogFilePath() {
+        assertEquals("data/addressbook.undolog", UndoLogFile.toUndoLogFilePath("data/addressbook.xml"));
+        assertEquals("data/addressbook.undolog", UndoLogFile.toUndoLogFilePath("data/addressbook"));
+    }
+
+    @Test
+    public void readHistory_newFile_isEmpty() throws Exception {
+        UndoLogFile log = new UndoLogFile(file, Long.MAX_VALUE);
+        assertTrue(log.readHistory().isEmpty());
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    public void readHistory_afterReopening_readsBackUndoableCommands() throws Exception {
+        UndoLogFile log = new UndoLogFile(file, Long.MAX_VALUE);
+        log.logExecuted("delete 1", undoDeleteAlice);
+        log.logExecuted("delete 2", undoDeleteBenson);
+        log.logExecuted("delete 3", undoDeleteBenson);
+        log.logUndone();
+        log.logUndone();
+        log.logRedone();
+        log.flush();
+
+        UndoLogFile reopened = new UndoLogFile(file, Long.MAX_VALUE);
+        List<Long> history = reopened.readHistory();
+        assertEquals(2, history.size());
+        assertEntry("delete 1", undoDeleteAlice, reopened.read(history.get(0)));
+        assertEntry("delete 2", undoDeleteBenson, reopened.read(history.get(1)));
+
+        // commands undone in an earlier session stay undone
+        reopened.logUndone();
+        reopened.logExecuted("delete 4", undoDeleteAlice);
+        reopened.flush();
+        history = new UndoLogFile(file, Long.MAX_VALUE).readHistory();
+        assertEquals(2, history.size());
+        assertEntry("delete 4", undoDeleteAlice, reopened.read(history.get(1)));
+    }
+
+    @Test
+    public void close_pendingRecordsWrittenAndLaterRecordsDropped() throws Exception {
+        UndoLogFile log = new UndoLogFile(file, Long.MAX_VALUE);
+        log.logExecuted("delete 1", undoDeleteAlice);
+        log.close();
+        log.logExecuted("delete 2", undoDeleteBenson);
+        log.close();
+
+        UndoLogFile reopened = new UndoLogFile(file, Long.MAX_VALUE);
+        List<Long> history = reopened.readHistory();
+        assertEquals(1, history.size());
+        assertEntry("delete 1", undoDeleteAlice, reopened.read(history.get(0)));
+    }
+
+    @Test
+    public void readHistory_tornRecordAtEnd_cutOff() throws Exception {
+        UndoLogFile log = new UndoLogFile(file, Long.MAX_VALUE);
+        log.logExecuted("delete 1", undoDeleteAlice);
+        log.flush();
+        long intactSize = Files.size(file);
+        log.logExecuted("delete 2", undoDeleteBenson);
+        log.flush();
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(Files.size(file) - 3);
+        }
+
+        UndoLogFile reopened = new UndoLogFile(file, Long.MAX_VALUE);
+        assertEquals(Collections.singletonList(0L), reopened.readHistory());
+        assertEquals(intactSize, Files.size(file));
+
+        // new records are appended after the intact ones
+        reopened.logExecuted("delete 3", undoDeleteBenson);
+        reopened.flush();
+        assertEquals(Arrays.asList(0L, intactSize), new UndoLogFile(file, Long.MAX_VALUE).readHistory());
+    }
+
+    @Test
+    public void readHistory_corruptedLastRecord_cutOff() throws Exception {
+        UndoLogFile log = new UndoLogFile(file, Long.MAX_VALUE);
+        log.logExecuted("delete 1", undoDeleteAlice);
+        log.logExecuted("delete 2", undoDeleteBenson);
+        log.flush();
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(raf.length() - 1);
+            int lastByte = raf.read();
+            raf.seek(raf.length() - 1);
+            raf.write(lastByte ^ 0xFF);
+        }
+
+        assertEquals(Collections.singletonList(0L), new UndoLogFile(file, Long.MAX_VALUE).readHistory());
+    }
+
+    @Test
+    public void readHistory_overDiskBudget_compactedToNewestCommands() throws Exception {
+        UndoLogFile log = new UndoLogFile(file, Long.MAX_VALUE);
+        log.logExecuted("delete 1", undoDeleteAlice);
+        log.flush();
+        long recordSize = Files.size(file);
+        log.logExecuted("delete 2", undoDeleteAlice);
+        log.logExecuted("delete 3", undoDeleteAlice);
+        log.flush();
+
+        // half of the budget fits a single record
+        UndoLogFile reopened = new UndoLogFile(file, 2 * recordSize + 1);
+        List<Long> history = reopened.readHistory();
+        assertEquals(Collections.singletonList(0L), history);
+        assertEquals(recordSize, Files.size(file));
+        assertEntry("delete 3", undoDeleteAlice, reopened.read(0));
+    }
+
+    @Test
+    public void read_notAnExecutedCommand_throwsDataConversionException() throws Exception {
+        UndoLogFile log = new UndoLogFile(file, Long.MAX_VALUE);
+        log.logExecuted("delete 1", undoDeleteAlice);
+        log.flush();
+        long undonePosition = Files.size(file);
+        log.logUndone();
+        log.flush();
+
+        thrown.expect(DataConversionException.class);
+        log.read(undonePosition);
+    }
+
+    /**
+     * Asserts that {@code actual} is of the command entered as {@code commandText}, undone by {@code undoDelta}.
+     */
+    private static void assertEntry(String commandText, AddressBookDelta undoDelta, UndoHistoryLog.Entry actual) {
+        assertEquals(commandText, actual.getCommandText());
+        assertEquals(undoDelta, actual.getUndoDelta());
+    }
+
+    /**
+     * Returns the delta that undoes removing {@code person} from the typical address book.
+     */
+    private static AddressBookDelta undoDeltaOfRemoving(ReadOnlyPerson person) throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook before = addressBook.getSnapshot();
+        addressBook.removePerson(person);
+        return AddressBookDelta.between(before, addressBook.getSnapshot()).inverse();
+    }
+
+}
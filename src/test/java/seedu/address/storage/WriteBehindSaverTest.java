@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+
+    private static final long LONG_DEBOUNCE_MILLIS = 60000;
+
+    private final List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+    private final List<Exception> failures = Collections.synchronizedList(new ArrayList<>());
+    private WriteBehindSaver saver;
+
+    @After
+    public void tearDown() {
+        saver.shutdown();
+    }
+
+    @Test
+    public void submit_burstOfChanges_writesLatestOnce() {
+        saver = new WriteBehindSaver(saved::add, failures::add, LONG_DEBOUNCE_MILLIS);
+        AddressBook first = new AddressBook();
+        AddressBook second = new AddressBook();
+        AddressBook latest = new AddressBook();
+        saver.submit(first);
+        saver.submit(second);
+        saver.submit(latest);
+
+        // nothing is written before the debounce window ends
+        assertTrue(saved.isEmpty());
+
+        saver.flush();
+        assertEquals(1, saved.size());
+        assertSame(latest, saved.get(0));
+    }
+
+    @Test
+    public void flush_nothingPending_writesNothing() {
+        saver = new WriteBehindSaver(saved::add, failures::add, LONG_DEBOUNCE_MILLIS);
+        saver.flush();
+        assertTrue(saved.isEmpty());
+
+        saver.submit(new AddressBook());
+        saver.flush();
+        saver.flush();
+        assertEquals(1, saved.size());
+    }
+
+    @Test
+    public void submit_afterWrite_schedulesAnotherWrite() throws Exception {
+        saver = new WriteBehindSaver(saved::add, failures::add, 1);
+        AddressBook first = new AddressBook();
+        saver.submit(first);
+        Thread.sleep(100);
+        saver.flush();
+        assertEquals(Collections.singletonList(first), saved);
+
+        AddressBook second = new AddressBook();
+        saver.submit(second);
+        saver.flush();
+        assertEquals(2, saved.size());
+        assertSame(second, saved.get(1));
+    }
+
+    @Test
+    public void flush_saveFails_reportsFailure() {
+        IOException failure = new IOException("dummy exception");
+        saver = new WriteBehindSaver(addressBook -> {
+            throw failure;
+        }, failures::add, LONG_DEBOUNCE_MILLIS);
+        saver.submit(new AddressBook());
+        saver.flush();
+        assertEquals(Collections.singletonList(failure), failures);
+    }
+
+    @Test
+    public void flush_saveThrowsRuntimeException_reportsFailure() {
+        IllegalStateException failure = new IllegalStateException("dummy exception");
+        saver = new WriteBehindSaver(addressBook -> {
+            throw failure;
+        }, failures::add, LONG_DEBOUNCE_MILLIS);
+        saver.submit(new AddressBook());
+        saver.flush();
+        assertEquals(Collections.singletonList(failure), failures);
+    }
+
+    @Test
+    public void shutdown_pendingWrittenAndLaterSubmissionsIgnored() {
+        saver = new WriteBehindSaver(saved::add, failures::add, LONG_DEBOUNCE_MILLIS);
+        AddressBook pending = new AddressBook();
+        saver.submit(pending);
+        saver.shutdown();
+        assertEquals(Collections.singletonList(pending), saved);
+
+        saver.submit(new AddressBook());
+        saver.flush();
+        assertEquals(1, saved.size());
+    }
+
+}
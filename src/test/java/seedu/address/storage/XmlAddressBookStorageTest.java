@@ -2,11 +2,13 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.File;
 import java.io.IOException;
 
 import org.junit.Rule;
@@ -87,6 +89,27 @@ public class XmlAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_corruptedFile_previousGenerationRead() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        File file = new File(filePath);
+        AddressBook original = getTypicalAddressBook();
+        XmlAddressBookStorage xmlAddressBookStorage = new XmlAddressBookStorage(filePath);
+        xmlAddressBookStorage.saveAddressBook(original);
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(new Person(HOON));
+        xmlAddressBookStorage.saveAddressBook(modified);
+
+        // truncated save -> previous generation is read
+        String content = FileUtil.readFromFile(file);
+        FileUtil.writeToFile(file, content.substring(0, content.length() / 2));
+        assertEquals(original, new AddressBook(xmlAddressBookStorage.readAddressBook().get()));
+
+        // missing file -> previous generation is read
+        assertTrue(file.delete());
+        assertEquals(original, new AddressBook(xmlAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
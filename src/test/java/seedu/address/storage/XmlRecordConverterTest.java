@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tag.Tag;
+
+public class XmlRecordConverterTest {
+
+    private static final XmlAdaptedTag INVALID_TAG = new XmlAdaptedTag() {
+        @Override
+        public Tag toModelType() throws IllegalValueException {
+            throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
+        }
+    };
+
+    private final XmlRecordConverter<XmlAdaptedTag, Tag> converter =
+            new XmlRecordConverter<>("tags", XmlAdaptedTag::toModelType);
+
+    @Test
+    public void getConverted_smallInput_convertedInOrder() throws Exception {
+        converter.add(new XmlAdaptedTag(new Tag("friends")));
+        converter.add(new XmlAdaptedTag(new Tag("family")));
+        assertEquals(Arrays.asList(new Tag("friends"), new Tag("family")), converter.getConverted());
+        assertTrue(converter.getErrors().isEmpty());
+    }
+
+    @Test
+    public void getConverted_manyChunks_convertedInFileOrder() throws Exception {
+        int count = 3 * XmlRecordConverter.CHUNK_SIZE + 7;
+        List<Tag> expected = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Tag tag = new Tag("tag" + i);
+            expected.add(tag);
+            converter.add(new XmlAdaptedTag(tag));
+        }
+        assertEquals(expected, converter.getConverted());
+    }
+
+    @Test
+    public void getErrors_invalidRecords_collectedWithPositions() throws Exception {
+        int count = 2 * XmlRecordConverter.CHUNK_SIZE;
+        for (int i = 1; i <= count; i++) {
+            // every 500th record is invalid
+            converter.add(new XmlAdaptedTag(new Tag("tag" + i)));
+            if (i % 500 == 0) {
+                converter.add(INVALID_TAG);
+            }
+        }
+
+        assertEquals(count, converter.getConverted().size());
+        List<String> errors = converter.getErrors();
+        assertEquals(4, errors.size());
+        assertTrue(errors.get(0).startsWith("tags #501: "));
+        assertTrue(errors.get(3).startsWith("tags #2004: "));
+    }
+
+    @Test
+    public void requireNoErrors_errors_throwsIllegalValueExceptionListingThem() {
+        try {
+            XmlRecordConverter.requireNoErrors(Arrays.asList("tags #1: invalid", "tags #3: invalid"));
+        } catch (IllegalValueException ive) {
+            assertTrue(ive.getMessage().contains("tags #1: invalid\ntags #3: invalid"));
+            return;
+        }
+        throw new AssertionError("Expected IllegalValueException");
+    }
+
+}
@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class XmlStreamedAddressBookTest {
+
+    private static final File VALID_FILE = new File(FileUtil.getPath("src/test/data/XmlUtilTest/validAddressBook.xml"));
+    private static final File NOT_XML_FILE =
+            new File(FileUtil.getPath("src/test/data/XmlAddressBookStorageTest/NotXmlFormatAddressBook.xml"));
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void load_validFile_sameAsJaxb() throws Exception {
+        XmlStreamedAddressBook streamed = XmlStreamedAddressBook.load(VALID_FILE);
+        XmlSerializableAddressBook unmarshalled = XmlUtil.getDataFromFile(VALID_FILE, XmlSerializableAddressBook.class);
+
+        assertEquals(9, streamed.getPersonList().size());
+        assertEquals(new AddressBook(unmarshalled), new AddressBook(streamed));
+        assertNull(streamed.getGeneration());
+    }
+
+    @Test
+    public void load_savedAddressBook_allListsRead() throws Exception {
+        File file = testFolder.newFile("addressbook.xml");
+        AddressBook original = new AddressBookBuilder(getTypicalAddressBook())
+                .withPerson(new PersonBuilder().withName("Tagged Person").withTags("friends", "family").build())
+                .withTag("unused").build();
+        XmlSerializableAddressBook serializable = new XmlSerializableAddressBook(original);
+        serializable.setGeneration("1");
+        XmlUtil.saveDataToFileAtomically(file, serializable, null);
+
+        XmlStreamedAddressBook streamed = XmlStreamedAddressBook.load(file);
+        assertEquals(original, new AddressBook(streamed));
+        assertEquals(original.getReminderList(), streamed.getReminderList());
+        assertEquals("1", streamed.getGeneration());
+    }
+
+    @Test
+    public void load_unknownElement_skipped() throws Exception {
+        File file = testFolder.newFile("addressbook.xml");
+        FileUtil.writeToFile(file, "<addressbook><notes><note>a</note></notes><tags>friends</tags></addressbook>");
+        assertEquals(1, XmlStreamedAddressBook.load(file).getTagList().size());
+    }
+
+    @Test
+    public void load_invalidValue_throwsDataConversionException() throws Exception {
+        File file = testFolder.newFile("addressbook.xml");
+        FileUtil.writeToFile(file, "<addressbook><tags>not a valid tag</tags></addressbook>");
+        thrown.expect(DataConversionException.class);
+        XmlStreamedAddressBook.load(file);
+    }
+
+    @Test
+    public void load_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlStreamedAddressBook.load(NOT_XML_FILE);
+    }
+
+    @Test
+    public void load_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlStreamedAddressBook.load(new File(testFolder.getRoot(), "missing.xml"));
+    }
+
+}